@@ -0,0 +1,42 @@
+package com.mogacko.mogacko.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 읽기 전용 하위 조회를 병렬로 실행하기 위한 executor 설정
+ * 작업마다 DB 커넥션을 사용하므로 풀 크기는 HikariCP 최대 커넥션 수보다 작게 유지합니다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Bean(name = "readExecutor")
+    public ThreadPoolTaskExecutor readExecutor(
+            @Value("${async.read.core-pool-size:4}") int corePoolSize,
+            @Value("${async.read.max-pool-size:6}") int maxPoolSize,
+            @Value("${async.read.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("read-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // 모임 타이머 만료 작업(알림 전송, 모임 후 처리) 실행용
+    @Bean(name = "timerExecutor")
+    public ThreadPoolTaskExecutor timerExecutor(
+            @Value("${meeting.timer.pool-size:2}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("meeting-timer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,6 @@
+package com.mogacko.mogacko.config.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,45 @@
+package com.mogacko.mogacko.config.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 마지막 쓰기 시각을 기록합니다.
+ * 쓰기 직후 일정 시간 동안은 해당 사용자의 읽기를 primary로 보내 복제 지연으로 인한 stale read를 막습니다.
+ */
+public class ReadYourWritesTracker {
+
+    private final long stickyWindowMillis;
+    private final Map<Long, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long stickyWindowMillis) {
+        this.stickyWindowMillis = stickyWindowMillis;
+    }
+
+    public void recordWrite(Long userId) {
+        lastWriteAt.put(userId, System.currentTimeMillis());
+    }
+
+    public boolean isSticky(Long userId) {
+        Long writtenAt = lastWriteAt.get(userId);
+        if (writtenAt == null) {
+            return false;
+        }
+
+        if (System.currentTimeMillis() - writtenAt > stickyWindowMillis) {
+            lastWriteAt.remove(userId, writtenAt);
+            return false;
+        }
+
+        return true;
+    }
+
+    // 만료된 기록 정리
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - stickyWindowMillis;
+        lastWriteAt.values().removeIf(writtenAt -> writtenAt < threshold);
+    }
+}
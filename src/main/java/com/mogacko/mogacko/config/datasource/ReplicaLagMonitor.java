@@ -0,0 +1,58 @@
+package com.mogacko.mogacko.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * replica의 복제 지연을 주기적으로 측정합니다.
+ * 지연이 허용치를 넘거나 측정에 실패하면 replica를 사용 불가로 표시하여 읽기를 primary로 돌립니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagMillis;
+
+    private volatile boolean replicaAvailable = true;
+    private volatile long lastLagMillis;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagMillis) {
+        this.jdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        try {
+            Double lagSeconds = jdbcTemplate.queryForObject(lagQuery, Double.class);
+            lastLagMillis = lagSeconds == null ? 0 : (long) (lagSeconds * 1000);
+
+            boolean available = lastLagMillis <= maxLagMillis;
+            if (available != replicaAvailable) {
+                log.warn("Replica {} (lag: {}ms, max: {}ms)",
+                        available ? "back in rotation" : "lagging, routing reads to primary",
+                        lastLagMillis, maxLagMillis);
+            }
+            replicaAvailable = available;
+        } catch (DataAccessException e) {
+            if (replicaAvailable) {
+                log.warn("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+            }
+            replicaAvailable = false;
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+}
@@ -0,0 +1,61 @@
+package com.mogacko.mogacko.config.datasource;
+
+import com.mogacko.mogacko.entity.User;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica로, 그 외에는 primary로 라우팅합니다.
+ * LazyConnectionDataSourceProxy 뒤에서 사용해야 트랜잭션 속성이 확정된 뒤에 라우팅이 결정됩니다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker writesTracker;
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker writesTracker) {
+        this.lagMonitor = lagMonitor;
+        this.writesTracker = writesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteCallback(userId);
+            return DataSourceType.PRIMARY;
+        }
+
+        // 방금 쓰기를 한 사용자는 자신의 변경 사항을 볼 수 있도록 primary에서 읽음
+        if (userId != null && writesTracker.isSticky(userId)) {
+            return DataSourceType.PRIMARY;
+        }
+
+        return lagMonitor.isReplicaAvailable() ? DataSourceType.REPLICA : DataSourceType.PRIMARY;
+    }
+
+    private void registerWriteCallback(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                writesTracker.recordWrite(userId);
+            }
+        });
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User) {
+            return ((User) authentication.getPrincipal()).getUserId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,200 @@
+package com.mogacko.mogacko.config.migration;
+
+import com.mogacko.mogacko.entity.CodedEnum;
+import com.mogacko.mogacko.entity.GroupMemberStatus;
+import com.mogacko.mogacko.entity.ParticipantStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 문자열 status 컬럼을 SMALLINT status_code 컬럼으로 옮기는 온라인 마이그레이션
+ * 작은 배치 단위로 커밋하므로 테이블 전체를 오래 잠그지 않으며, 이미 옮긴 행은 건너뛰므로 여러 번 실행해도 안전합니다.
+ * 마이그레이션이 끝나면 자주 조회하는 상태에 대한 부분 인덱스를 CONCURRENTLY로 생성합니다.
+ *
+ * 배포 중에는 이전 버전 인스턴스가 status만, 새 버전 인스턴스가 status_code만 쓰므로,
+ * 전환이 끝날 때까지 트리거로 두 컬럼을 서로 맞춥니다. JPA와 JdbcTemplate 일괄 쓰기 모두 트리거를 거칩니다.
+ * 트리거가 생기기 전에 쓰인 행이 남지 않도록 백필은 주기적으로 다시 실행되며, 트리거가 있는 상태에서 옮길 행이 없는 회차가 나오면 멈춥니다.
+ * 모든 인스턴스가 이 버전이 되면 migration.status-codes.dual-write=false로 트리거를 제거한 뒤 status 컬럼을 삭제합니다.
+ * status 컬럼을 삭제한 뒤의 배포부터는 이 클래스와 migration.status-codes.* 설정을 지워도 됩니다 (부분 인덱스는 DB에 남음).
+ */
+@Slf4j
+@Component
+@Order(0)
+@ConditionalOnProperty(prefix = "migration.status-codes", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StatusCodeMigration implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final boolean dualWrite;
+    // 더 옮길 행이 없어 주기적인 백필을 멈췄는지 여부
+    private volatile boolean backfillCompleted;
+
+    public StatusCodeMigration(JdbcTemplate jdbcTemplate,
+                               @Value("${migration.status-codes.batch-size:1000}") int batchSize,
+                               @Value("${migration.status-codes.pause-ms:50}") long pauseMillis,
+                               @Value("${migration.status-codes.dual-write:true}") boolean dualWrite) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.dualWrite = dualWrite;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 백필 도중 쓰이는 행도 맞춰지도록 트리거를 먼저 설치
+        syncTrigger("group_members", GroupMemberStatus.values());
+        syncTrigger("meeting_participants", ParticipantStatus.values());
+        backfill();
+
+        short active = GroupMemberStatus.ACTIVE.getCode();
+        short pending = GroupMemberStatus.PENDING.getCode();
+        short registered = ParticipantStatus.REGISTERED.getCode();
+        short attended = ParticipantStatus.ATTENDED.getCode();
+
+        // 그룹별 활성 멤버 수 / 멤버십 확인
+        createPartialIndex("idx_group_members_active_group", "group_members", "group_id, user_id", "status_code = " + active);
+        // 사용자별 참여 그룹
+        createPartialIndex("idx_group_members_active_user", "group_members", "user_id", "status_code = " + active);
+        // 가입 대기 목록
+        createPartialIndex("idx_group_members_pending_group", "group_members", "group_id", "status_code = " + pending);
+        // 출석 처리 대상 참가자
+        createPartialIndex("idx_meeting_participants_registered", "meeting_participants", "meeting_id", "status_code = " + registered);
+        // 사용자별 출석 수
+        createPartialIndex("idx_meeting_participants_attended_user", "meeting_participants", "user_id", "status_code = " + attended);
+    }
+
+    /**
+     * status_code가 비어 있는 행을 다시 채웁니다.
+     * 트리거 설치 전에 이전 버전 인스턴스가 쓴 행이 남을 수 있으므로 주기적으로 실행하고,
+     * 트리거가 있는 상태에서 옮길 행이 없으면 이후로는 트리거가 채우므로 더 실행하지 않습니다.
+     */
+    @Scheduled(initialDelayString = "${migration.status-codes.backfill-interval-ms:600000}",
+            fixedDelayString = "${migration.status-codes.backfill-interval-ms:600000}")
+    public void backfill() {
+        if (backfillCompleted) {
+            return;
+        }
+
+        long migrated = migrate("group_members", "membership_id", GroupMemberStatus.values())
+                + migrate("meeting_participants", "participant_id", ParticipantStatus.values());
+        if (migrated == 0 && isSynced("group_members") && isSynced("meeting_participants")) {
+            backfillCompleted = true;
+            log.info("No rows left without status_code; stopping scheduled backfill");
+        }
+    }
+
+    // 한쪽 컬럼만 쓰는 인스턴스가 있어도 status와 status_code가 같은 값을 가리키도록 함
+    private <E extends Enum<E> & CodedEnum> void syncTrigger(String table, E[] values) {
+        String function = "sync_" + table + "_status_code";
+        String trigger = "trg_" + table + "_status_code";
+        try {
+            if (!dualWrite || !hasLegacyStatusColumn(table)) {
+                jdbcTemplate.execute("DROP TRIGGER IF EXISTS " + trigger + " ON " + table);
+                jdbcTemplate.execute("DROP FUNCTION IF EXISTS " + function + "()");
+                return;
+            }
+
+            String toCode = Arrays.stream(values)
+                    .map(value -> "WHEN '" + value.name() + "' THEN " + value.getCode())
+                    .collect(Collectors.joining(" ", "CASE NEW.status ", " END"));
+            String toName = Arrays.stream(values)
+                    .map(value -> "WHEN " + value.getCode() + " THEN '" + value.name() + "'")
+                    .collect(Collectors.joining(" ", "CASE NEW.status_code ", " END"));
+
+            jdbcTemplate.execute("CREATE OR REPLACE FUNCTION " + function + "() RETURNS trigger AS $$ BEGIN " +
+                    // 이전 버전이 status만 바꾼 경우
+                    "IF TG_OP = 'UPDATE' AND NEW.status IS DISTINCT FROM OLD.status " +
+                    "AND NEW.status_code IS NOT DISTINCT FROM OLD.status_code THEN NEW.status_code := " + toCode + "; " +
+                    // 이전 버전이 status만 넣은 경우
+                    "ELSIF NEW.status_code IS NULL THEN NEW.status_code := " + toCode + "; " +
+                    // 새 버전이 status_code를 쓴 경우
+                    "ELSE NEW.status := " + toName + "; " +
+                    "END IF; RETURN NEW; END $$ LANGUAGE plpgsql");
+            jdbcTemplate.execute("DROP TRIGGER IF EXISTS " + trigger + " ON " + table);
+            jdbcTemplate.execute("CREATE TRIGGER " + trigger + " BEFORE INSERT OR UPDATE ON " + table +
+                    " FOR EACH ROW EXECUTE FUNCTION " + function + "()");
+        } catch (DataAccessException e) {
+            // 트리거가 없어도 주기적인 백필이 status_code를 채움
+            log.warn("Could not sync status trigger on {}: {}", table, e.getMessage());
+        }
+    }
+
+    // 옮긴 행 수를 반환
+    private <E extends Enum<E> & CodedEnum> long migrate(String table, String idColumn, E[] values) {
+        if (!hasLegacyStatusColumn(table)) {
+            return 0;
+        }
+
+        String caseExpression = Arrays.stream(values)
+                .map(value -> "WHEN '" + value.name() + "' THEN " + value.getCode())
+                .collect(Collectors.joining(" ", "CASE status ", " END"));
+        String names = Arrays.stream(values)
+                .map(value -> "'" + value.name() + "'")
+                .collect(Collectors.joining(", "));
+
+        String sql = "UPDATE " + table + " SET status_code = " + caseExpression +
+                " WHERE " + idColumn + " IN (SELECT " + idColumn + " FROM " + table +
+                " WHERE status_code IS NULL AND status IN (" + names + ") LIMIT " + batchSize + ")";
+
+        long total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(sql);
+            total += updated;
+            pause();
+        } while (updated == batchSize);
+
+        if (total > 0) {
+            log.info("Migrated {} rows of {} to status_code", total, table);
+        }
+        return total;
+    }
+
+    // 이후 쓰이는 행에 status_code가 빠질 수 없는 상태인지 (이중 쓰기 종료, status 컬럼 삭제 또는 동기화 트리거 설치)
+    private boolean isSynced(String table) {
+        if (!dualWrite || !hasLegacyStatusColumn(table)) {
+            return true;
+        }
+
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_trigger WHERE tgname = ?", Integer.class, "trg_" + table + "_status_code");
+        return count != null && count > 0;
+    }
+
+    private boolean hasLegacyStatusColumn(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns WHERE table_name = ? AND column_name = 'status'",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private void createPartialIndex(String name, String table, String columns, String predicate) {
+        try {
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name +
+                    " ON " + table + " (" + columns + ") WHERE " + predicate);
+        } catch (DataAccessException e) {
+            // PostgreSQL 이외의 DB 등 부분 인덱스를 지원하지 않는 환경에서는 건너뜀
+            log.warn("Could not create partial index {}: {}", name, e.getMessage());
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,9 +2,14 @@ package com.mogacko.mogacko.controller;
 
 import com.mogacko.mogacko.dto.GroupChatCreateRequest;
 import com.mogacko.mogacko.dto.GroupChatDto;
+import com.mogacko.mogacko.dto.GroupChatHistoryDto;
+import com.mogacko.mogacko.dto.UnreadChatCountDto;
 import com.mogacko.mogacko.entity.User;
 import com.mogacko.mogacko.service.AuthService;
+import com.mogacko.mogacko.service.ChatStreamService;
+import com.mogacko.mogacko.service.ChatUnreadService;
 import com.mogacko.mogacko.service.GroupChatService;
+import com.mogacko.mogacko.service.GroupExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,8 +19,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/groups/{groupId}/chats")
@@ -24,6 +37,9 @@ import org.springframework.web.bind.annotation.*;
 public class GroupChatController {
 
     private final GroupChatService chatService;
+    private final ChatStreamService chatStreamService;
+    private final ChatUnreadService chatUnreadService;
+    private final GroupExportService groupExportService;
     private final AuthService authService;
 
     /**
@@ -53,6 +69,86 @@ public class GroupChatController {
         return ResponseEntity.ok(chats);
     }
 
+    /**
+     * 커서 이전의 채팅 이력을 최신 순으로 조회합니다. 아카이브된 오래된 메시지도 이어서 조회됩니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param before 이전 응답의 nextCursor (없으면 최신 메시지부터)
+     * @param size 조회 건수
+     * @return 채팅 이력과 다음 커서
+     */
+    @Operation(summary = "그룹 채팅 이력 조회 (커서)", description = "커서(chatId) 이전의 채팅 메시지를 최신 순으로 조회합니다. 아카이브된 메시지까지 연속해서 조회할 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "채팅 이력 조회 성공",
+                    content = @Content(schema = @Schema(implementation = GroupChatHistoryDto.class))),
+            @ApiResponse(responseCode = "404", description = "스터디 그룹을 찾을 수 없음")
+    })
+    @GetMapping("/history")
+    public ResponseEntity<GroupChatHistoryDto> getChatHistory(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) Long before,
+            @Parameter(description = "조회 건수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+        GroupChatHistoryDto history = chatService.getChatHistory(groupId, before, Math.min(Math.max(size, 1), 100));
+        if (history == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(history);
+    }
+
+    /**
+     * 커서 이후의 새 채팅 메시지를 Server-Sent Events로 구독합니다.
+     * 재연결 시 Last-Event-ID 헤더가 있으면 그 이후부터 이어서 전송합니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param after 마지막으로 받은 채팅 ID
+     * @param lastEventId 재연결 시 브라우저가 보내는 마지막 이벤트 ID
+     * @return SSE 스트림 (이벤트 이름: chat, 밀린 메시지가 많으면 backlog-truncated 후 종료)
+     */
+    @Operation(summary = "채팅 메시지 스트림 구독 (SSE)", description = "커서(chatId) 이후의 새 채팅 메시지를 Server-Sent Events로 실시간 전송합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "스트림 연결 성공"),
+            @ApiResponse(responseCode = "404", description = "스터디 그룹을 찾을 수 없음")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChats(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "마지막으로 받은 채팅 ID") @RequestParam(required = false) Long after,
+            @Parameter(hidden = true) @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        SseEmitter emitter = chatStreamService.openStream(groupId, lastEventId != null ? lastEventId : after);
+        if (emitter == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(emitter);
+    }
+
+    /**
+     * 커서 이후의 새 채팅 메시지를 long-poll 방식으로 조회합니다.
+     * 새 메시지가 없으면 도착하거나 timeout이 지날 때까지 응답을 보류합니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param after 마지막으로 받은 채팅 ID
+     * @param timeout 최대 대기 시간(초)
+     * @return 새 채팅 메시지 목록 (타임아웃 시 빈 목록)
+     */
+    @Operation(summary = "새 채팅 메시지 대기 조회 (long-poll)", description = "커서(chatId) 이후의 새 채팅 메시지를 조회합니다. 새 메시지가 없으면 도착할 때까지 최대 timeout초 동안 대기합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "새 메시지 목록 (타임아웃 시 빈 목록)"),
+            @ApiResponse(responseCode = "404", description = "스터디 그룹을 찾을 수 없음")
+    })
+    @GetMapping("/poll")
+    public DeferredResult<ResponseEntity<List<GroupChatDto>>> pollChats(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "마지막으로 받은 채팅 ID") @RequestParam(required = false) Long after,
+            @Parameter(description = "최대 대기 시간(초, 최대 60)") @RequestParam(defaultValue = "25") int timeout) {
+
+        long timeoutMillis = Math.min(Math.max(timeout, 1), 60) * 1000L;
+        return chatStreamService.poll(groupId, after, timeoutMillis);
+    }
+
     /**
      * 스터디 그룹에 새 채팅 메시지를 전송합니다.
      *
@@ -84,4 +180,75 @@ public class GroupChatController {
 
         return ResponseEntity.ok(sentMessage);
     }
+
+    /**
+     * 그룹 채팅을 지정한 메시지까지 읽음 처리합니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param chatId 마지막으로 읽은 채팅 ID (없으면 최신 메시지까지)
+     * @return 갱신된 안 읽은 메시지 수
+     */
+    @Operation(summary = "채팅 읽음 처리", description = "스터디 그룹 채팅을 지정한 메시지(chatId)까지 읽음 처리합니다. chatId가 없으면 최신 메시지까지 읽음 처리합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "읽음 처리 성공",
+                    content = @Content(schema = @Schema(implementation = UnreadChatCountDto.class))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "그룹의 활성 멤버가 아님")
+    })
+    @PostMapping("/read")
+    public ResponseEntity<UnreadChatCountDto> markAsRead(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "마지막으로 읽은 채팅 ID") @RequestParam(required = false) Long chatId) {
+
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        UnreadChatCountDto unread = chatUnreadService.markAsRead(currentUser.getUserId(), groupId, chatId);
+        if (unread == null) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(unread);
+    }
+
+    /**
+     * 스터디 그룹의 채팅 전체(아카이브 포함)를 오래된 순으로 CSV 또는 NDJSON 파일로 내보냅니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param format 내보내기 형식 (csv, ndjson)
+     * @return 채팅 이력 파일 (응답을 쓰는 동안 행 단위로 전송)
+     */
+    @Operation(summary = "그룹 채팅 내보내기", description = "스터디 그룹의 채팅 전체(아카이브 포함)를 오래된 순으로 CSV 또는 NDJSON 파일로 내보냅니다. 그룹 생성자만 내보낼 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 시작"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "그룹 생성자가 아니거나 그룹을 찾을 수 없음"),
+            @ApiResponse(responseCode = "503", description = "동시에 진행 중인 내보내기가 최대 개수에 도달함")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportChats(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "내보내기 형식 (csv, ndjson)") @RequestParam(defaultValue = "csv") String format) {
+
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        GroupExportService.ExportFormat exportFormat = GroupExportService.ExportFormat.from(format);
+        StreamingResponseBody body = groupExportService.exportChats(currentUser, groupId, exportFormat);
+        if (body == null) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("group-" + groupId + "-chats." + exportFormat.getExtension())
+                        .build().toString())
+                .body(body);
+    }
 }
@@ -13,8 +13,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -33,15 +35,22 @@ public class GroupGoalController {
      * @param groupId 스터디 그룹 ID
      * @return 목표 목록
      */
-    @Operation(summary = "그룹 목표 목록 조회", description = "스터디 그룹의 모든 학습 목표 목록을 조회합니다.")
+    @Operation(summary = "그룹 목표 목록 조회", description = "스터디 그룹의 모든 학습 목표 목록을 조회합니다. ETag 기반 조건부 요청을 지원합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "목표 목록 조회 성공")
+            @ApiResponse(responseCode = "200", description = "목표 목록 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음")
     })
     @GetMapping
     public ResponseEntity<List<GroupGoalDto>> getGroupGoals(
-            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId) {
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            WebRequest webRequest) {
+        String eTag = goalService.getGoalsETag(groupId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         List<GroupGoalDto> goals = goalService.getGroupGoals(groupId);
-        return ResponseEntity.ok(goals);
+        return ResponseEntity.ok().eTag(eTag).body(goals);
     }
 
     /**
@@ -51,23 +60,34 @@ public class GroupGoalController {
      * @param goalId 목표 ID
      * @return 목표 세부 정보
      */
-    @Operation(summary = "목표 세부 정보 조회", description = "특정 학습 목표의 세부 정보와 세부 목표 항목을 조회합니다.")
+    @Operation(summary = "목표 세부 정보 조회", description = "특정 학습 목표의 세부 정보와 세부 목표 항목을 조회합니다. ETag 기반 조건부 요청을 지원합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "목표 세부 정보 조회 성공",
                     content = @Content(schema = @Schema(implementation = GroupGoalDto.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
             @ApiResponse(responseCode = "404", description = "목표를 찾을 수 없음")
     })
     @GetMapping("/{goalId}")
     public ResponseEntity<GroupGoalDto> getGoalDetails(
             @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
-            @Parameter(description = "목표 ID") @PathVariable Long goalId) {
+            @Parameter(description = "목표 ID") @PathVariable Long goalId,
+            WebRequest webRequest) {
+
+        String eTag = goalService.getGoalETag(groupId, goalId);
+        if (eTag == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
 
         GroupGoalDto goal = goalService.getGoalDetails(groupId, goalId);
         if (goal == null) {
             return ResponseEntity.notFound().build();
         }
 
-        return ResponseEntity.ok(goal);
+        return ResponseEntity.ok().eTag(eTag).body(goal);
     }
 
     /**
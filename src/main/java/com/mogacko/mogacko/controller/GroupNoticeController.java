@@ -14,8 +14,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/groups/{groupId}/notices")
@@ -34,23 +36,34 @@ public class GroupNoticeController {
      * @param size 페이지 크기
      * @return 공지사항 목록
      */
-    @Operation(summary = "그룹 공지사항 목록 조회", description = "스터디 그룹의 공지사항 목록을 페이지 단위로 조회합니다.")
+    @Operation(summary = "그룹 공지사항 목록 조회", description = "스터디 그룹의 공지사항 목록을 페이지 단위로 조회합니다. ETag 기반 조건부 요청을 지원합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "공지사항 목록 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
             @ApiResponse(responseCode = "404", description = "스터디 그룹을 찾을 수 없음")
     })
     @GetMapping
     public ResponseEntity<Page<GroupNoticeDto>> getGroupNotices(
             @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+
+        String eTag = noticeService.getNoticesETag(groupId);
+        if (eTag == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
 
         Page<GroupNoticeDto> notices = noticeService.getGroupNotices(groupId, page, size);
         if (notices == null) {
             return ResponseEntity.notFound().build();
         }
 
-        return ResponseEntity.ok(notices);
+        return ResponseEntity.ok().eTag(eTag).body(notices);
     }
 
     /**
@@ -60,23 +73,34 @@ public class GroupNoticeController {
      * @param noticeId 공지사항 ID
      * @return 공지사항 세부 내용
      */
-    @Operation(summary = "공지사항 세부 내용 조회", description = "특정 공지사항의 세부 내용을 조회합니다.")
+    @Operation(summary = "공지사항 세부 내용 조회", description = "특정 공지사항의 세부 내용을 조회합니다. ETag 기반 조건부 요청을 지원합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "공지사항 조회 성공",
                     content = @Content(schema = @Schema(implementation = GroupNoticeDto.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
             @ApiResponse(responseCode = "404", description = "공지사항을 찾을 수 없음")
     })
     @GetMapping("/{noticeId}")
     public ResponseEntity<GroupNoticeDto> getNoticeDetails(
             @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
-            @Parameter(description = "공지사항 ID") @PathVariable Long noticeId) {
+            @Parameter(description = "공지사항 ID") @PathVariable Long noticeId,
+            WebRequest webRequest) {
+
+        String eTag = noticeService.getNoticeETag(groupId, noticeId);
+        if (eTag == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
 
         GroupNoticeDto notice = noticeService.getNoticeDetails(groupId, noticeId);
         if (notice == null) {
             return ResponseEntity.notFound().build();
         }
 
-        return ResponseEntity.ok(notice);
+        return ResponseEntity.ok().eTag(eTag).body(notice);
     }
 
     /**
@@ -0,0 +1,116 @@
+package com.mogacko.mogacko.controller;
+
+import com.mogacko.mogacko.dto.DashboardDto;
+import com.mogacko.mogacko.dto.MeetingConflictDto;
+import com.mogacko.mogacko.dto.MyMeetingPageDto;
+import com.mogacko.mogacko.entity.User;
+import com.mogacko.mogacko.service.AuthService;
+import com.mogacko.mogacko.service.DashboardService;
+import com.mogacko.mogacko.service.MeetingAgendaService;
+import com.mogacko.mogacko.service.MeetingConflictService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/me")
+@RequiredArgsConstructor
+@Tag(name = "내 정보", description = "현재 사용자 기준 집계 API - 홈 화면 등 여러 리소스를 한 번에 조회합니다.")
+public class MeController {
+
+    private static final int DEFAULT_AGENDA_DAYS = 30;
+
+    private final DashboardService dashboardService;
+    private final MeetingAgendaService meetingAgendaService;
+    private final MeetingConflictService meetingConflictService;
+    private final AuthService authService;
+
+    /**
+     * 홈 화면 대시보드를 조회합니다.
+     * 프로필, 통계, 내 그룹 목록과 그룹별 다가오는 모임/최근 공지/진행 중인 목표를 한 번에 반환합니다.
+     *
+     * @return 대시보드 정보
+     */
+    @Operation(summary = "홈 대시보드 조회", description = "프로필, 통계, 내가 그룹장/참여자인 그룹 목록과 그룹별 다가오는 모임, 최근 공지, 진행 중인 목표를 한 번에 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "대시보드 조회 성공",
+                    content = @Content(schema = @Schema(implementation = DashboardDto.class))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @GetMapping("/dashboard")
+    public ResponseEntity<DashboardDto> getDashboard() {
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        return ResponseEntity.ok(dashboardService.getDashboard(currentUser));
+    }
+
+    /**
+     * 내가 활성 멤버로 속한 모든 그룹의 모임 일정을 조회합니다.
+     *
+     * @param from 시작 시각 (기본값: 현재)
+     * @param to 종료 시각 (기본값: 시작 시각 + 30일)
+     * @return 시간 순 모임 목록 (최대 건수를 넘으면 hasMore가 true)
+     */
+    @Operation(summary = "내 모임 일정 조회", description = "내가 활성 멤버로 속한 모든 스터디 그룹의 모임을 기간 내에서 시간 순으로 조회합니다. " +
+            "기간은 최대 " + MeetingAgendaService.MAX_AGENDA_DAYS + "일이며, 모임이 " + MeetingAgendaService.MAX_AGENDA_MEETINGS +
+            "건을 넘으면 앞의 " + MeetingAgendaService.MAX_AGENDA_MEETINGS + "건만 반환하고 hasMore를 true로 설정합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "모임 일정 조회 성공",
+                    content = @Content(schema = @Schema(implementation = MyMeetingPageDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간 (종료 시각이 시작 시각 이전이거나 " + MeetingAgendaService.MAX_AGENDA_DAYS + "일 초과)"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @GetMapping("/meetings")
+    public ResponseEntity<MyMeetingPageDto> getMyMeetings(
+            @Parameter(description = "시작 시각 (ISO-8601, 기본값: 현재)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "종료 시각 (ISO-8601, 기본값: 시작 + 30일)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        LocalDateTime start = from != null ? from : LocalDateTime.now();
+        LocalDateTime end = to != null ? to : start.plusDays(DEFAULT_AGENDA_DAYS);
+        return ResponseEntity.ok(meetingAgendaService.getAgenda(currentUser.getUserId(), start, end));
+    }
+
+    /**
+     * 내가 참가 확정한 모임 중 시간이 겹치는 모임을 조회합니다.
+     *
+     * @return 겹치는 모임이 있는 모임 목록
+     */
+    @Operation(summary = "내 모임 일정 겹침 조회", description = "아직 끝나지 않은 내 참가 확정 모임 중 다른 참가 확정 모임과 시간이 겹치는 모임을 모임 시각 순으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "일정 겹침 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @GetMapping("/conflicts")
+    public ResponseEntity<List<MeetingConflictDto>> getMyConflicts() {
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        return ResponseEntity.ok(meetingConflictService.getConflicts(currentUser.getUserId()));
+    }
+}
@@ -3,6 +3,8 @@ package com.mogacko.mogacko.controller;
 import com.mogacko.mogacko.dto.*;
 import com.mogacko.mogacko.entity.User;
 import com.mogacko.mogacko.service.AuthService;
+import com.mogacko.mogacko.service.GroupExportService;
+import com.mogacko.mogacko.service.MeetingSeriesService;
 import com.mogacko.mogacko.service.MeetingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,11 +14,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
+
 @RestController
 @RequestMapping("/api/groups/{groupId}/meetings")
 @RequiredArgsConstructor
@@ -24,17 +32,24 @@ import java.util.List;
 public class MeetingController {
 
     private final MeetingService meetingService;
+    private final MeetingSeriesService seriesService;
+    private final GroupExportService groupExportService;
     private final AuthService authService;
 
-    @Operation(summary = "모임 목록 조회", description = "스터디 그룹의 모임 목록을 조회합니다.")
+    @Operation(summary = "모임 목록 조회", description = "스터디 그룹의 예정된 모임(가까운 순) 또는 지난 모임(최근 순)을 페이지 단위로 조회합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "모임 목록 조회 성공")
+            @ApiResponse(responseCode = "200", description = "모임 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "조회 범위 초과 ((page + 1) * size가 1000 초과)")
     })
     @GetMapping
-    public ResponseEntity<List<MeetingDto>> getMeetings(
-            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId) {
+    public ResponseEntity<Page<MeetingDto>> getMeetings(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "조회 범위 (upcoming, past)") @RequestParam(defaultValue = "upcoming") String view,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
 
-        List<MeetingDto> meetings = meetingService.getMeetings(groupId);
+        Page<MeetingDto> meetings = meetingService.getMeetings(
+                groupId, "past".equalsIgnoreCase(view), page, Math.min(Math.max(size, 1), 100));
         return ResponseEntity.ok(meetings);
     }
 
@@ -82,11 +97,38 @@ public class MeetingController {
         return ResponseEntity.ok(createdMeeting);
     }
 
-    @Operation(summary = "모임 참가", description = "모임에 참가 신청을 합니다.")
+    @Operation(summary = "반복 모임 생성", description = "매주 또는 격주로 반복되는 모임을 종료일까지 생성합니다. 각 회차는 모임 시각이 가까워지면 자동으로 만들어지며, 그 전에는 모임 목록에 meetingId 없이 표시됩니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "참가 신청 성공"),
+            @ApiResponse(responseCode = "200", description = "반복 모임 생성 성공",
+                    content = @Content(schema = @Schema(implementation = MeetingSeriesDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 반복 규칙"),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
-            @ApiResponse(responseCode = "400", description = "참가 실패 (최대 인원 초과 등)")
+            @ApiResponse(responseCode = "403", description = "모임 생성 권한 없음")
+    })
+    @PostMapping("/series")
+    public ResponseEntity<MeetingSeriesDto> createSeries(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "반복 모임 생성 정보") @RequestBody MeetingSeriesCreateRequest request) {
+
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        MeetingSeriesDto createdSeries = seriesService.createSeries(currentUser, groupId, request);
+        if (createdSeries == null) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(createdSeries);
+    }
+
+    @Operation(summary = "모임 참가", description = "모임에 참가 신청을 합니다. 정원이 찼으면 대기자로 등록되며, 자리가 나면 대기 순서대로 자동으로 참가 확정됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "참가 신청 성공 (참가 확정 또는 대기)",
+                    content = @Content(schema = @Schema(implementation = MeetingJoinResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "400", description = "참가 실패 (그룹 멤버 아님 등)")
     })
     @PostMapping("/{meetingId}/join")
     public ResponseEntity<?> joinMeeting(
@@ -98,11 +140,35 @@ public class MeetingController {
             return ResponseEntity.status(401).build();
         }
 
-        boolean success = meetingService.joinMeeting(currentUser, groupId, meetingId);
-        if (!success) {
+        MeetingJoinResponse response = meetingService.joinMeeting(currentUser, groupId, meetingId);
+        if (response == null) {
             return ResponseEntity.badRequest().body("Cannot join meeting");
         }
 
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "모임 참가 취소", description = "모임 참가 신청 또는 대기를 취소합니다. 참가 확정자가 취소하면 첫 번째 대기자가 자동으로 참가 확정됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "참가 취소 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "400", description = "취소 실패 (참가하지 않음, 이미 시작된 모임 등)")
+    })
+    @PostMapping("/{meetingId}/leave")
+    public ResponseEntity<?> leaveMeeting(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "모임 ID") @PathVariable Long meetingId) {
+
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        boolean success = meetingService.leaveMeeting(currentUser, groupId, meetingId);
+        if (!success) {
+            return ResponseEntity.badRequest().body("Cannot leave meeting");
+        }
+
         return ResponseEntity.ok().build();
     }
 
@@ -126,4 +192,133 @@ public class MeetingController {
         CheckInResponse response = meetingService.checkIn(currentUser, groupId, meetingId, request);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "QR 출석 토큰 발급", description = "모임 생성자가 화면에 QR 코드로 띄울 출석 토큰을 발급합니다. 토큰은 짧은 주기로 바뀌므로 refreshSeconds마다 새로 받아야 합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "출석 토큰 발급 성공",
+                    content = @Content(schema = @Schema(implementation = CheckInTokenDto.class))),
+            @ApiResponse(responseCode = "400", description = "출석체크 가능 시간이 아님"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "모임 생성자가 아님")
+    })
+    @GetMapping("/{meetingId}/checkin-token")
+    public ResponseEntity<CheckInTokenDto> issueCheckInToken(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "모임 ID") @PathVariable Long meetingId) {
+
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        CheckInTokenDto token = meetingService.issueCheckInToken(currentUser, groupId, meetingId);
+        if (token == null) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(token);
+    }
+
+    @Operation(summary = "QR 출석 체크", description = "모임 생성자가 띄운 QR 코드의 출석 토큰으로 출석 체크를 합니다. 위치 정보 없이 토큰만 확인합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "출석 체크 결과",
+                    content = @Content(schema = @Schema(implementation = CheckInResponse.class))),
+            @ApiResponse(responseCode = "202", description = "출석 기록 반영 중 (같은 요청을 다시 보내도 안전)",
+                    content = @Content(schema = @Schema(implementation = CheckInResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @PostMapping("/{meetingId}/checkin/qr")
+    public ResponseEntity<CheckInResponse> checkInWithToken(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "모임 ID") @PathVariable Long meetingId,
+            @Parameter(description = "출석 토큰") @RequestBody QrCheckInRequest request) {
+
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        CheckInResponse response = meetingService.checkInWithToken(currentUser, groupId, meetingId, request.getToken());
+        if (response.isPending()) {
+            return ResponseEntity.accepted().body(response);
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "오프라인 출석 서명 키 발급", description = "참가 확정자가 연결이 끊긴 동안 출석 기록에 서명할 키를 출석체크 가능 시간 전에 미리 받습니다. 같은 모임에는 항상 같은 키가 발급됩니다. 모임 생성자에게는 기기에서 QR 출석 토큰을 만들 QR 키도 함께 발급됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "서명 키 발급 성공",
+                    content = @Content(schema = @Schema(implementation = OfflineCheckInKeyDto.class))),
+            @ApiResponse(responseCode = "400", description = "출석체크 가능 시간이 이미 시작됨"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "참가 확정자가 아님")
+    })
+    @GetMapping("/{meetingId}/checkin-key")
+    public ResponseEntity<OfflineCheckInKeyDto> issueOfflineCheckInKey(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "모임 ID") @PathVariable Long meetingId) {
+
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        OfflineCheckInKeyDto key = meetingService.issueOfflineCheckInKey(currentUser, groupId, meetingId);
+        if (key == null) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok(key);
+    }
+
+    @Operation(summary = "오프라인 출석 일괄 업로드", description = "연결이 끊긴 동안 기기에 모은 서명된 출석 기록을 한 번에 반영합니다. 기록마다 처리 결과를 요청 순서대로 돌려줍니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "기록별 처리 결과"),
+            @ApiResponse(responseCode = "400", description = "기록이 없거나 너무 많음"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @PostMapping("/checkins/offline")
+    public ResponseEntity<List<OfflineCheckInResult>> uploadOfflineCheckIns(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "출석 기록 목록") @RequestBody OfflineCheckInRequest request) {
+
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        return ResponseEntity.ok(meetingService.applyOfflineCheckIns(groupId, request.getClaims()));
+    }
+
+    @Operation(summary = "출석부 내보내기", description = "스터디 그룹 모임의 참가자별 참가 상태와 출석 시각을 모임 시각 순으로 CSV 또는 NDJSON 파일로 내보냅니다. 그룹 생성자만 내보낼 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 시작"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "그룹 생성자가 아니거나 그룹을 찾을 수 없음"),
+            @ApiResponse(responseCode = "503", description = "동시에 진행 중인 내보내기가 최대 개수에 도달함")
+    })
+    @GetMapping("/attendance/export")
+    public ResponseEntity<StreamingResponseBody> exportAttendance(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "내보내기 형식 (csv, ndjson)") @RequestParam(defaultValue = "csv") String format) {
+
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        GroupExportService.ExportFormat exportFormat = GroupExportService.ExportFormat.from(format);
+        StreamingResponseBody body = groupExportService.exportAttendance(currentUser, groupId, exportFormat);
+        if (body == null) {
+            return ResponseEntity.status(403).build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("group-" + groupId + "-attendance." + exportFormat.getExtension())
+                        .build().toString())
+                .body(body);
+    }
+}
@@ -1,13 +1,17 @@
 package com.mogacko.mogacko.controller;
 
 import com.mogacko.mogacko.dto.*;
+import com.mogacko.mogacko.entity.GroupMemberStatus;
 import com.mogacko.mogacko.entity.User;
 import com.mogacko.mogacko.service.AuthService;
+import com.mogacko.mogacko.service.ChatUnreadService;
 import com.mogacko.mogacko.service.StudyGroupService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -24,8 +28,11 @@ import java.util.List;
 @Tag(name = "스터디 그룹", description = "스터디 그룹 관리 API - 스터디 그룹 생성, 조회, 수정, 삭제 및 가입/탈퇴 기능을 제공합니다.")
 public class StudyGroupController {
 
+    private static final int MAX_BULK_MEMBER_ACTIONS = 100;
+
     private final StudyGroupService studyGroupService;
     private final AuthService authService;
+    private final ChatUnreadService chatUnreadService;
 
     /**
      * 모든 활성 스터디 그룹 목록을 페이지 단위로 조회합니다.
@@ -92,68 +99,108 @@ public class StudyGroupController {
     }
 
     /**
-     * 현재 사용자가 그룹장(생성자)인 스터디 그룹 목록을 조회합니다.
+     * 현재 사용자가 그룹장(생성자)인 스터디 그룹 목록을 최근 생성 순으로 페이지 단위 조회합니다.
      *
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
      * @return 사용자가 그룹장인 스터디 그룹 목록
      */
-    @Operation(summary = "내가 그룹장인 스터디 그룹 목록 조회", description = "현재 로그인한 사용자가 그룹장(생성자)인 모든 스터디 그룹 목록을 조회합니다.")
+    @Operation(summary = "내가 그룹장인 스터디 그룹 목록 조회", description = "현재 로그인한 사용자가 그룹장(생성자)인 활성 스터디 그룹 목록을 최근 생성 순으로 페이지 단위 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "그룹장 목록 조회 성공"),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
     })
     @GetMapping("/my-owned-groups")
-    public ResponseEntity<List<StudyGroupDto>> getMyOwnedGroups() {
+    public ResponseEntity<Page<StudyGroupDto>> getMyOwnedGroups(
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
         User currentUser = authService.getCurrentUser();
         if (currentUser == null) {
             return ResponseEntity.status(401).build();
         }
 
-        List<StudyGroupDto> groups = studyGroupService.getMyOwnedGroups(currentUser);
+        Page<StudyGroupDto> groups = studyGroupService.getMyOwnedGroups(currentUser, page, Math.min(Math.max(size, 1), 100));
         return ResponseEntity.ok(groups);
     }
 
     /**
-     * 현재 사용자가 참여자로 있는 스터디 그룹 목록을 조회합니다.
+     * 현재 사용자가 참여자로 있는 스터디 그룹 목록을 최근 가입 순으로 페이지 단위 조회합니다.
      *
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
      * @return 사용자가 참여한 스터디 그룹 목록
      */
-    @Operation(summary = "내가 참여한 스터디 그룹 목록 조회", description = "현재 로그인한 사용자가 참여자로 가입한 모든 스터디 그룹 목록을 조회합니다.")
+    @Operation(summary = "내가 참여한 스터디 그룹 목록 조회", description = "현재 로그인한 사용자가 참여자로 가입한 활성 스터디 그룹 목록을 최근 가입 순으로 페이지 단위 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "참여 그룹 목록 조회 성공"),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
     })
     @GetMapping("/my-joined-groups")
-    public ResponseEntity<List<StudyGroupDto>> getMyJoinedGroups() {
+    public ResponseEntity<Page<StudyGroupDto>> getMyJoinedGroups(
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
         User currentUser = authService.getCurrentUser();
         if (currentUser == null) {
             return ResponseEntity.status(401).build();
         }
 
-        List<StudyGroupDto> groups = studyGroupService.getMyJoinedGroups(currentUser);
+        Page<StudyGroupDto> groups = studyGroupService.getMyJoinedGroups(currentUser, page, Math.min(Math.max(size, 1), 100));
         return ResponseEntity.ok(groups);
     }
 
+    /**
+     * 현재 로그인한 사용자가 속한 모든 스터디 그룹의 안 읽은 채팅 수를 조회합니다.
+     *
+     * @return 그룹별 안 읽은 채팅 수
+     */
+    @Operation(summary = "내 그룹별 안 읽은 채팅 수 조회", description = "현재 로그인한 사용자가 활성 멤버로 속한 모든 스터디 그룹의 안 읽은 채팅 수를 한 번에 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "안 읽은 채팅 수 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @GetMapping("/my-unread-chats")
+    public ResponseEntity<List<UnreadChatCountDto>> getMyUnreadChatCounts() {
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        return ResponseEntity.ok(chatUnreadService.getUnreadCounts(currentUser.getUserId()));
+    }
+
     /**
      * 특정 스터디 그룹의 세부 정보를 조회합니다.
+     * If-None-Match 헤더의 ETag가 현재 버전과 같으면 본문 없이 304를 반환합니다.
      *
      * @param groupId 스터디 그룹 ID
      * @return 스터디 그룹 세부 정보
      */
-    @Operation(summary = "스터디 그룹 상세 정보 조회", description = "특정 스터디 그룹의 세부 정보를 조회합니다.")
+    @Operation(summary = "스터디 그룹 상세 정보 조회", description = "특정 스터디 그룹의 세부 정보를 조회합니다. ETag 기반 조건부 요청을 지원합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "그룹 상세 정보 조회 성공",
                     content = @Content(schema = @Schema(implementation = StudyGroupDto.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
             @ApiResponse(responseCode = "404", description = "스터디 그룹을 찾을 수 없음")
     })
     @GetMapping("/{groupId}")
     public ResponseEntity<StudyGroupDto> getGroupDetails(
-            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId) {
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            WebRequest webRequest) {
+        String eTag = studyGroupService.getGroupETag(groupId);
+        if (eTag == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         StudyGroupDto group = studyGroupService.getGroupDetails(groupId);
         if (group == null) {
             return ResponseEntity.notFound().build();
         }
 
-        return ResponseEntity.ok(group);
+        return ResponseEntity.ok().eTag(eTag).body(group);
     }
 
     /**
@@ -166,6 +213,7 @@ public class StudyGroupController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "그룹 생성 성공",
                     content = @Content(schema = @Schema(implementation = StudyGroupDto.class))),
+            @ApiResponse(responseCode = "400", description = "채팅 보관 기간이 허용 범위를 벗어남"),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
     })
     @PostMapping
@@ -191,6 +239,7 @@ public class StudyGroupController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "그룹 정보 수정 성공",
                     content = @Content(schema = @Schema(implementation = StudyGroupDto.class))),
+            @ApiResponse(responseCode = "400", description = "채팅 보관 기간이 허용 범위를 벗어남"),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
             @ApiResponse(responseCode = "403", description = "그룹 수정 권한 없음")
     })
@@ -241,20 +290,32 @@ public class StudyGroupController {
     }
 
     /**
-     * 특정 스터디 그룹의 멤버 목록을 조회합니다.
+     * 특정 스터디 그룹의 멤버 목록을 상태별로 커서 기반 페이지 조회합니다.
      *
      * @param groupId 스터디 그룹 ID
-     * @return 그룹 멤버 목록
+     * @param status 조회할 멤버 상태
+     * @param order 가입일 정렬 방향 (asc, desc)
+     * @param cursor 이전 응답의 nextCursor
+     * @param size 페이지 크기
+     * @return 그룹 멤버 목록과 다음 커서
      */
-    @Operation(summary = "스터디 그룹 멤버 목록 조회", description = "특정 스터디 그룹의 모든 멤버 목록을 조회합니다.")
+    @Operation(summary = "스터디 그룹 멤버 목록 조회", description = "특정 스터디 그룹의 멤버 목록을 상태별로 조회합니다. 가입일 순으로 정렬되며 커서(nextCursor)로 다음 페이지를 조회합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "그룹 멤버 목록 조회 성공"),
+            @ApiResponse(responseCode = "200", description = "그룹 멤버 목록 조회 성공",
+                    content = @Content(schema = @Schema(implementation = GroupMemberPageDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
             @ApiResponse(responseCode = "404", description = "스터디 그룹을 찾을 수 없음")
     })
     @GetMapping("/{groupId}/members")
-    public ResponseEntity<List<GroupMemberDto>> getGroupMembers(
-            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId) {
-        List<GroupMemberDto> members = studyGroupService.getGroupMembers(groupId);
+    public ResponseEntity<GroupMemberPageDto> getGroupMembers(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "멤버 상태 (ACTIVE, PENDING, INACTIVE, KICKED)") @RequestParam(defaultValue = "ACTIVE") GroupMemberStatus status,
+            @Parameter(description = "가입일 정렬 방향 (asc, desc)") @RequestParam(defaultValue = "asc") String order,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+        GroupMemberPageDto members = studyGroupService.getGroupMembers(
+                groupId, status, "desc".equalsIgnoreCase(order), cursor, Math.min(Math.max(size, 1), 100));
         if (members == null) {
             return ResponseEntity.notFound().build();
         }
@@ -461,6 +522,119 @@ public class StudyGroupController {
     }
 
 
+    /**
+     * 여러 사용자의 가입 신청을 한 번에 승인합니다.
+     * 정원을 넘는 신청은 요청 순서상 뒤쪽부터 MAX_MEMBERS_EXCEEDED로 처리됩니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param request 승인할 사용자 ID 목록
+     * @return 사용자별 처리 결과
+     */
+    @Operation(summary = "가입 신청 일괄 승인", description = "여러 사용자의 가입 신청을 한 번에 승인합니다. 그룹 생성자만 사용 가능하며, 사용자별 처리 결과를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "일괄 처리 완료 (사용자별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "사용자 ID 목록이 비었거나 최대 개수 초과"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (그룹 생성자만 가능)"),
+            @ApiResponse(responseCode = "404", description = "스터디 그룹을 찾을 수 없음")
+    })
+    @PostMapping("/{groupId}/members/bulk-approve")
+    public ResponseEntity<?> bulkApproveMembers(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "승인할 사용자 ID 목록") @RequestBody BulkMemberActionRequest request) {
+
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+        if (!isValidBulkRequest(request)) {
+            return ResponseEntity.badRequest().body("userIds must contain 1 to " + MAX_BULK_MEMBER_ACTIONS + " users");
+        }
+
+        return toBulkResponse(studyGroupService.bulkApproveMembers(currentUser, groupId, request.getUserIds()));
+    }
+
+    /**
+     * 여러 사용자의 가입 신청을 한 번에 거절합니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param request 거절할 사용자 ID 목록
+     * @return 사용자별 처리 결과
+     */
+    @Operation(summary = "가입 신청 일괄 거절", description = "여러 사용자의 가입 신청을 한 번에 거절합니다. 그룹 생성자만 사용 가능하며, 사용자별 처리 결과를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "일괄 처리 완료 (사용자별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "사용자 ID 목록이 비었거나 최대 개수 초과"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (그룹 생성자만 가능)"),
+            @ApiResponse(responseCode = "404", description = "스터디 그룹을 찾을 수 없음")
+    })
+    @PostMapping("/{groupId}/members/bulk-reject")
+    public ResponseEntity<?> bulkRejectMembers(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "거절할 사용자 ID 목록") @RequestBody BulkMemberActionRequest request) {
+
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+        if (!isValidBulkRequest(request)) {
+            return ResponseEntity.badRequest().body("userIds must contain 1 to " + MAX_BULK_MEMBER_ACTIONS + " users");
+        }
+
+        return toBulkResponse(studyGroupService.bulkRejectMembers(currentUser, groupId, request.getUserIds()));
+    }
+
+    /**
+     * 여러 멤버를 한 번에 추방합니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param request 추방할 사용자 ID 목록
+     * @return 사용자별 처리 결과
+     */
+    @Operation(summary = "스터디 그룹 멤버 일괄 추방", description = "그룹 생성자가 여러 멤버를 한 번에 추방합니다. 사용자별 처리 결과를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "일괄 처리 완료 (사용자별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "사용자 ID 목록이 비었거나 최대 개수 초과"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "멤버 추방 권한 없음 (그룹 생성자만 가능)"),
+            @ApiResponse(responseCode = "404", description = "스터디 그룹을 찾을 수 없음")
+    })
+    @PostMapping("/{groupId}/members/bulk-kick")
+    public ResponseEntity<?> bulkKickMembers(
+            @Parameter(description = "스터디 그룹 ID") @PathVariable Long groupId,
+            @Parameter(description = "추방할 사용자 ID 목록") @RequestBody BulkMemberActionRequest request) {
+
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.status(401).build();
+        }
+        if (!isValidBulkRequest(request)) {
+            return ResponseEntity.badRequest().body("userIds must contain 1 to " + MAX_BULK_MEMBER_ACTIONS + " users");
+        }
+
+        return toBulkResponse(studyGroupService.bulkKickMembers(currentUser, groupId, request.getUserIds()));
+    }
+
+    private boolean isValidBulkRequest(BulkMemberActionRequest request) {
+        return request != null && request.getUserIds() != null
+                && !request.getUserIds().isEmpty()
+                && request.getUserIds().size() <= MAX_BULK_MEMBER_ACTIONS
+                && !request.getUserIds().contains(null);
+    }
+
+    private ResponseEntity<?> toBulkResponse(BulkMemberActionResult result) {
+        if (result.getError() != null) {
+            return switch (result.getError()) {
+                case GROUP_NOT_FOUND -> ResponseEntity.status(404).body("Group not found");
+                case NOT_GROUP_OWNER -> ResponseEntity.status(403).body("Only group owner can manage members");
+                default -> ResponseEntity.status(400).body("Failed to process members");
+            };
+        }
+
+        return ResponseEntity.ok(result.getResults());
+    }
+
     /**
      * 스터디 그룹에서 탈퇴합니다.
      *
@@ -17,13 +17,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/users")
@@ -31,6 +35,11 @@ import java.util.Optional;
 @Tag(name = "유저", description = "사용자 프로필 및 관심사 관리 API - 사용자 정보와 관심사를 관리합니다.")
 public class UserController {
 
+    private static final int MAX_BATCH_PROFILES = 50;
+
+    // 관심사 카탈로그는 거의 바뀌지 않으므로 클라이언트/프록시 캐시 허용
+    private static final CacheControl INTERESTS_CACHE_CONTROL = CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic();
+
     private final UserService userService;
     private final AuthService authService;
     private final UserProfileRepository userProfileRepository;
@@ -91,6 +100,28 @@ public class UserController {
         return ResponseEntity.ok(profileWithStats);
     }
 
+    /**
+     * 여러 사용자의 공개 프로필과 통계 정보를 한 번에 조회합니다.
+     *
+     * @param userIds 조회할 사용자 ID 목록
+     * @return 공개 프로필 및 통계 정보 목록 (요청 순서, 없는 사용자는 제외)
+     */
+    @Operation(summary = "여러 사용자 프로필 및 통계 일괄 조회", description = "최대 " + MAX_BATCH_PROFILES + "명의 공개 프로필(이름, 이미지, 관심사)과 통계 정보를 한 번에 조회합니다. 개인정보는 포함되지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "프로필 일괄 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "사용자 ID 목록이 비었거나 최대 개수 초과")
+    })
+    @GetMapping("/profiles")
+    public ResponseEntity<List<UserProfileWithStatsDto>> getUserProfiles(
+            @Parameter(description = "조회할 사용자 ID 목록 (쉼표로 구분)") @RequestParam List<Long> userIds) {
+
+        if (userIds.isEmpty() || userIds.size() > MAX_BATCH_PROFILES || userIds.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(userService.getPublicProfiles(userIds));
+    }
+
     /**
      * 사용자의 온보딩 상태를 확인합니다.
      *
@@ -152,14 +183,20 @@ public class UserController {
      *
      * @return 전체 관심사 목록
      */
-    @Operation(summary = "전체 관심사 목록 조회", description = "시스템에 등록된 모든 활성 상태의 관심사 목록을 조회합니다.")
+    @Operation(summary = "전체 관심사 목록 조회", description = "시스템에 등록된 모든 활성 상태의 관심사 목록을 조회합니다. 응답은 1시간 동안 캐시할 수 있으며 ETag 기반 조건부 요청을 지원합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "관심사 목록 조회 성공")
+            @ApiResponse(responseCode = "200", description = "관심사 목록 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음")
     })
     @GetMapping("/interests")
-    public ResponseEntity<List<InterestDto>> getAllInterests() {
+    public ResponseEntity<List<InterestDto>> getAllInterests(WebRequest webRequest) {
+        String eTag = userService.getInterestsETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(INTERESTS_CACHE_CONTROL).build();
+        }
+
         List<InterestDto> interests = userService.getAllInterests();
-        return ResponseEntity.ok(interests);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(INTERESTS_CACHE_CONTROL).body(interests);
     }
 
     /**
@@ -0,0 +1,24 @@
+package com.mogacko.mogacko.dto;
+
+import com.mogacko.mogacko.entity.ParticipantStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 출석부 내보내기의 한 행 (모임 참가자 한 명)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceExportRow {
+    private Long meetingId;
+    private String meetingTitle;
+    private LocalDateTime meetingDate;
+    private Long userId;
+    private String userName;
+    private ParticipantStatus status;
+    private LocalDateTime checkInTime;
+}
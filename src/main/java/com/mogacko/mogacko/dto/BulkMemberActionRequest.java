@@ -0,0 +1,14 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkMemberActionRequest {
+    private List<Long> userIds;
+}
@@ -0,0 +1,31 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkMemberActionResult {
+    private List<MemberActionResultDto> results;
+    private MembershipActionResult error;
+
+    public static BulkMemberActionResult success(List<MemberActionResultDto> results) {
+        return BulkMemberActionResult.builder()
+                .results(results)
+                .error(null)
+                .build();
+    }
+
+    public static BulkMemberActionResult error(MembershipActionResult error) {
+        return BulkMemberActionResult.builder()
+                .results(null)
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 내보내기의 한 행
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatExportRow {
+    private Long chatId;
+    private Long senderId;
+    private String senderName;
+    private String message;
+    private LocalDateTime sentAt;
+}
@@ -12,4 +12,5 @@ import lombok.NoArgsConstructor;
 public class CheckInResponse {
     private boolean success;
     private String message;
+    private boolean pending; // 출석 기록이 아직 반영 중 (같은 요청을 다시 보내도 안전)
 }
\ No newline at end of file
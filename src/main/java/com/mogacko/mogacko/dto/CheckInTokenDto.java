@@ -0,0 +1,21 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 생성자가 화면에 QR 코드로 띄우는 출석 토큰
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CheckInTokenDto {
+    private String token;
+    private LocalDateTime expiresAt; // 이 시각 이후에는 출석에 쓸 수 없음
+    private Long refreshSeconds; // 새 토큰을 받아야 하는 주기 (초)
+}
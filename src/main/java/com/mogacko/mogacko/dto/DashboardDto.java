@@ -0,0 +1,19 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardDto {
+    private UserProfileDto profile;
+    private UserStatisticsDto statistics;
+    private List<DashboardGroupDto> ownedGroups;  // 내가 그룹장인 그룹
+    private List<DashboardGroupDto> joinedGroups; // 참여자로 가입한 그룹
+}
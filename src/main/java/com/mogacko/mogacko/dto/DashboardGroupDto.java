@@ -0,0 +1,19 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardGroupDto {
+    private StudyGroupDto group;
+    private List<MeetingDto> upcomingMeetings;
+    private GroupNoticeDto latestNotice;
+    private List<GroupGoalDto> goals; // 진행 중인 목표
+}
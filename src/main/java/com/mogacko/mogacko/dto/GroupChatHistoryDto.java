@@ -0,0 +1,18 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupChatHistoryDto {
+    private List<GroupChatDto> chats; // 최신 순
+    private Long nextCursor;          // 다음 요청의 before 값 (더 없으면 null)
+    private boolean hasMore;
+}
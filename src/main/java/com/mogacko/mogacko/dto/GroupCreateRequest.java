@@ -16,4 +16,5 @@ public class GroupCreateRequest {
     private String locationName;
     private Integer maxMembers;
     private String requirements;
+    private Integer chatRetentionDays;
 }
\ No newline at end of file
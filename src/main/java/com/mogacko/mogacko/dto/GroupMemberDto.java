@@ -1,5 +1,6 @@
 package com.mogacko.mogacko.dto;
 
+import com.mogacko.mogacko.entity.GroupMemberStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,4 +19,11 @@ public class GroupMemberDto {
     private String profileImage;
     private LocalDate joinDate;
     private String status;
+
+    // JPQL 생성자 프로젝션용 (status_code 백필 전 행은 status가 null)
+    public GroupMemberDto(Long membershipId, Long userId, String userName, String profileImage,
+                          LocalDate joinDate, GroupMemberStatus status) {
+        this(membershipId, userId, userName != null ? userName : "", profileImage, joinDate,
+                status != null ? status.name() : null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ID별 집계 결과 (예: 그룹별 멤버 수, 모임별 참가자 수)
+ */
+@Getter
+@AllArgsConstructor
+public class IdCountDto {
+    private final Long id;
+    private final Long count;
+}
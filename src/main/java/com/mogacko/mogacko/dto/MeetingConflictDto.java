@@ -0,0 +1,18 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 내 모임과 시간이 겹치는 다른 모임 목록
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingConflictDto {
+    private MeetingSlotDto meeting;
+    private List<MeetingSlotDto> overlapping; // 시간이 겹치는 내 다른 모임 (모임 시각 순)
+}
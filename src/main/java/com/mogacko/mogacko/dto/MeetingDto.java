@@ -26,4 +26,13 @@ public class MeetingDto {
     private String creatorName;
     private Integer participantCount;
     private LocalDateTime createdAt;
+    private Long seriesId; // 반복 모임 ID (반복 모임이 아니면 null, 아직 만들어지지 않은 회차는 meetingId가 null)
+
+    // JPQL 생성자 프로젝션용 (participantCount는 COUNT 결과)
+    public MeetingDto(Long meetingId, Long groupId, String title, String location, BigDecimal latitude,
+                      BigDecimal longitude, LocalDateTime meetingDate, Integer maxParticipants, String description,
+                      Long createdBy, String creatorName, Long participantCount, LocalDateTime createdAt, Long seriesId) {
+        this(meetingId, groupId, title, location, latitude, longitude, meetingDate, maxParticipants, description,
+                createdBy, creatorName != null ? creatorName : "", participantCount.intValue(), createdAt, seriesId);
+    }
 }
\ No newline at end of file
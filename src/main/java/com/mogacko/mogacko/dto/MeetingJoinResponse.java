@@ -0,0 +1,19 @@
+package com.mogacko.mogacko.dto;
+
+import com.mogacko.mogacko.entity.ParticipantStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MeetingJoinResponse {
+    private ParticipantStatus status; // REGISTERED: 참가 확정, WAITLISTED: 정원 초과로 대기
+    private Integer waitlistPosition; // 대기 순번 (1부터), 대기 중이 아니면 null
+    private List<MeetingSlotDto> conflicts; // 시간이 겹치는 내 다른 모임
+}
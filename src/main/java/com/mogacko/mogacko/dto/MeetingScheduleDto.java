@@ -0,0 +1,17 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 타이머 등록에 필요한 최소 정보
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingScheduleDto {
+    private final Long meetingId;
+    private final Long groupId;
+    private final LocalDateTime meetingDate;
+}
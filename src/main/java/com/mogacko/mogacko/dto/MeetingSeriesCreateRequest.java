@@ -0,0 +1,24 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingSeriesCreateRequest {
+    private String title;
+    private String location;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private LocalDateTime firstMeetingDate; // 첫 회차 일시
+    private Integer intervalWeeks;          // 1: 매주, 2: 격주
+    private LocalDate untilDate;            // 종료일 (포함)
+    private Integer maxParticipants;
+    private String description;
+}
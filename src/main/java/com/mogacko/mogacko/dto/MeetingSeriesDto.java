@@ -0,0 +1,27 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MeetingSeriesDto {
+    private Long seriesId;
+    private Long groupId;
+    private String title;
+    private String location;
+    private LocalDateTime firstMeetingDate;
+    private LocalDateTime lastMeetingDate;
+    private Integer intervalWeeks;
+    private Integer occurrenceCount;
+    private Integer maxParticipants;
+    private String description;
+    private Long createdBy;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 겹침 확인에 쓰는 모임 요약
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingSlotDto {
+    private Long meetingId;
+    private Long groupId;
+    private String groupTitle;
+    private String title;
+    private LocalDateTime meetingDate;
+}
@@ -0,0 +1,19 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 멤버 처리에서 사용자별 처리 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberActionResultDto {
+    private Long userId;
+    // MembershipActionResult / KickMemberResult 값
+    private String result;
+}
@@ -0,0 +1,15 @@
+package com.mogacko.mogacko.dto;
+
+import com.mogacko.mogacko.entity.GroupMemberStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 그룹 멤버의 사용자 ID와 상태
+ */
+@Getter
+@AllArgsConstructor
+public class MemberStatusDto {
+    private final Long userId;
+    private final GroupMemberStatus status;
+}
@@ -0,0 +1,36 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 일정(여러 그룹의 모임)의 모임 항목
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MyMeetingDto {
+    private Long meetingId;
+    private Long groupId;
+    private String groupTitle;
+    private String title;
+    private String location;
+    private LocalDateTime meetingDate;
+    private Integer maxParticipants;
+    private Integer participantCount;
+    private Boolean registered; // 내가 참가 신청했는지 여부
+    private Long seriesId; // 반복 모임 ID (반복 모임이 아니면 null, 아직 만들어지지 않은 회차는 meetingId가 null)
+
+    // JPQL 생성자 프로젝션용
+    public MyMeetingDto(Long meetingId, Long groupId, String groupTitle, String title, String location,
+                        LocalDateTime meetingDate, Integer maxParticipants, Long participantCount, Long myParticipations,
+                        Long seriesId) {
+        this(meetingId, groupId, groupTitle, title, location, meetingDate, maxParticipants,
+                participantCount.intValue(), myParticipations != null && myParticipations > 0, seriesId);
+    }
+}
@@ -0,0 +1,17 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MyMeetingPageDto {
+    private List<MyMeetingDto> meetings;
+    private boolean hasMore; // 기간 내 모임이 최대 건수를 넘어 뒤쪽이 잘렸는지 여부
+}
@@ -0,0 +1,24 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 연결이 끊긴 동안 기기에 저장한 출석 기록
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineCheckInClaim {
+    private Long meetingId;
+    private Long userId;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private LocalDateTime checkedAt; // 기기 시각 (초 단위까지 서명에 포함)
+    private String token; // 출석 시각에 모임 장소에서 스캔한 QR 출석 토큰
+    private String signature; // 오프라인 출석 키로 만든 서명
+}
@@ -0,0 +1,24 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 연결이 끊긴 동안 출석 기록에 서명할 키
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfflineCheckInKeyDto {
+    private Long meetingId;
+    private String key; // Base64URL로 인코딩한 HMAC-SHA256 키
+    private LocalDateTime checkInFrom; // 출석체크 가능 시작 시각
+    private LocalDateTime checkInUntil; // 출석체크 가능 종료 시각
+    private String qrKey; // 모임 생성자에게만: 기기에서 QR 출석 토큰을 만들 Base64URL 키 (그 외 null)
+    private Long qrStepSeconds; // QR 출석 토큰의 시간 단계 길이 (초, qrKey가 있을 때만)
+}
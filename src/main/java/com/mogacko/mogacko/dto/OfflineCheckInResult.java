@@ -0,0 +1,20 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 오프라인 출석 기록 하나의 처리 결과 (요청 순서와 같음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfflineCheckInResult {
+    private Long meetingId;
+    private Long userId;
+    private boolean success;
+    private String message;
+}
@@ -0,0 +1,12 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QrCheckInRequest {
+    private String token; // QR 코드로 읽은 출석 토큰
+}
@@ -0,0 +1,29 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 리소스 본문을 읽지 않고 updatedAt/건수만으로 계산한 버전 정보입니다.
+ * 조건부 GET(If-None-Match)에 사용할 ETag를 만듭니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ResourceVersion {
+    private LocalDateTime lastModified;
+    private Long count;
+
+    public ResourceVersion(LocalDateTime lastModified) {
+        this(lastModified, 1L);
+    }
+
+    // 연관 데이터(작성자 이름 등)는 버전에 포함되지 않으므로 weak ETag로 표시
+    public String toETag() {
+        long millis = lastModified == null ? 0
+                : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return "W/\"" + Long.toHexString(millis) + "-" + count + "\"";
+    }
+}
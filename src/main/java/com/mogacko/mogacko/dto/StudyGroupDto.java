@@ -26,6 +26,17 @@ public class StudyGroupDto {
     private Integer currentMembers;
     private String requirements;
     private Boolean isActive;
+    private Integer chatRetentionDays;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // JPQL 생성자 프로젝션용 (currentMembers는 COUNT 서브쿼리 결과)
+    public StudyGroupDto(Long groupId, Long creatorId, String creatorName, String title, String interestName,
+                         String description, String locationName, Integer maxMembers, Long currentMembers,
+                         String requirements, Boolean isActive, Integer chatRetentionDays,
+                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(groupId, creatorId, creatorName != null ? creatorName : "", title, interestName, description, locationName,
+                null, null, maxMembers, currentMembers.intValue(), requirements, isActive, chatRetentionDays,
+                createdAt, updatedAt);
+    }
 }
\ No newline at end of file
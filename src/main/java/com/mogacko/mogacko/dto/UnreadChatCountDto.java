@@ -0,0 +1,17 @@
+package com.mogacko.mogacko.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UnreadChatCountDto {
+    private Long groupId;
+    private Long lastReadChatId;
+    private Long unreadCount;
+    private Long latestChatId;
+}
@@ -0,0 +1,17 @@
+package com.mogacko.mogacko.entity;
+
+/**
+ * DB에 작은 정수 코드로 저장되는 enum
+ */
+public interface CodedEnum {
+    short getCode();
+
+    static <E extends Enum<E> & CodedEnum> E fromCode(Class<E> type, short code) {
+        for (E constant : type.getEnumConstants()) {
+            if (constant.getCode() == code) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code: " + code);
+    }
+}
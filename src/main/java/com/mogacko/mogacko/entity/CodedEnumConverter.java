@@ -0,0 +1,25 @@
+package com.mogacko.mogacko.entity;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * CodedEnum을 SMALLINT 코드로 변환하는 공통 JPA 컨버터
+ */
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Short> {
+
+    private final Class<E> type;
+
+    protected CodedEnumConverter(Class<E> type) {
+        this.type = type;
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(E attribute) {
+        return attribute != null ? attribute.getCode() : null;
+    }
+
+    @Override
+    public E convertToEntityAttribute(Short dbData) {
+        return dbData != null ? CodedEnum.fromCode(type, dbData) : null;
+    }
+}
@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "group_chats")
+@Table(name = "group_chats", indexes = {
+        @Index(name = "idx_group_chats_group_chat", columnList = "group_id, chat_id"),
+        @Index(name = "idx_group_chats_sent_at", columnList = "sent_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
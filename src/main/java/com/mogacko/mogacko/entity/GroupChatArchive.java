@@ -0,0 +1,56 @@
+package com.mogacko.mogacko.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 그룹 채팅을 그룹/월 단위 묶음으로 압축해 저장하는 아카이브
+ * payload는 채팅 목록(JSON)을 gzip으로 압축한 값입니다.
+ */
+@Entity
+@Table(name = "group_chat_archives", indexes = {
+        @Index(name = "idx_group_chat_archives_group_last_chat", columnList = "group_id, last_chat_id"),
+        @Index(name = "idx_group_chat_archives_last_sent_at", columnList = "last_sent_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupChatArchive {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "archive_id")
+    private Long archiveId;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(name = "period", length = 7, nullable = false)
+    private String period; // yyyy-MM
+
+    @Column(name = "first_chat_id", nullable = false)
+    private Long firstChatId;
+
+    @Column(name = "last_chat_id", nullable = false)
+    private Long lastChatId;
+
+    @Column(name = "message_count", nullable = false)
+    private Integer messageCount;
+
+    @Column(name = "first_sent_at")
+    private LocalDateTime firstSentAt;
+
+    @Column(name = "last_sent_at")
+    private LocalDateTime lastSentAt;
+
+    @Column(name = "payload", columnDefinition = "bytea", nullable = false)
+    private byte[] payload;
+
+    @CreationTimestamp
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+}
@@ -11,7 +11,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "group_goals")
+@Table(name = "group_goals", indexes = {
+        @Index(name = "idx_group_goals_group_updated", columnList = "group_id, updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -8,7 +8,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "group_members")
+@Table(name = "group_members", indexes = {
+        @Index(name = "idx_group_members_group_status_join", columnList = "group_id, status_code, join_date, membership_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,8 +32,12 @@ public class GroupMember {
     @Column(name = "join_date")
     private LocalDate joinDate;
 
-    @Column(length = 20)
-    private String status;
+    // 상태별 부분 인덱스는 StatusCodeMigration에서 생성
+    @Column(name = "status_code")
+    private GroupMemberStatus status;
+
+    @Column(name = "last_read_chat_id")
+    private Long lastReadChatId; // 마지막으로 읽은 채팅 ID
 
     @CreationTimestamp
     @Column(name = "created_at")
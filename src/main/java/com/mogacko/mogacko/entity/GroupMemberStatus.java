@@ -0,0 +1,16 @@
+package com.mogacko.mogacko.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum GroupMemberStatus implements CodedEnum {
+    ACTIVE((short) 1),   // 활성 멤버
+    PENDING((short) 2),  // 가입 승인 대기
+    INACTIVE((short) 3), // 탈퇴
+    KICKED((short) 4);   // 추방
+
+    private final short code;
+
+}
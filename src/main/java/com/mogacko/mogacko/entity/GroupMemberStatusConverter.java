@@ -0,0 +1,10 @@
+package com.mogacko.mogacko.entity;
+
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class GroupMemberStatusConverter extends CodedEnumConverter<GroupMemberStatus> {
+    public GroupMemberStatusConverter() {
+        super(GroupMemberStatus.class);
+    }
+}
@@ -8,7 +8,9 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "group_notices")
+@Table(name = "group_notices", indexes = {
+        @Index(name = "idx_group_notices_group_updated", columnList = "group_id, updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
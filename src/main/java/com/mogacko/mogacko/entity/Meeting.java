@@ -9,7 +9,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "meetings")
+@Table(name = "meetings", indexes = {
+        @Index(name = "idx_meetings_group_date", columnList = "group_id, meeting_date"),
+        @Index(name = "idx_meetings_date", columnList = "meeting_date"),
+        @Index(name = "idx_meetings_series_date", columnList = "series_id, meeting_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,6 +29,11 @@ public class Meeting {
     @JoinColumn(name = "group_id", nullable = false)
     private StudyGroup group;
 
+    // 반복 모임의 회차이면 해당 반복 모임
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "series_id")
+    private MeetingSeries series;
+
     @Column(name = "title", length = 255, nullable = false)
     private String title;
 
@@ -43,6 +52,10 @@ public class Meeting {
     @Column(name = "max_participants")
     private Integer maxParticipants;
 
+    // 대기자를 제외한 참가자 수 (정원 확인용)
+    @Column(name = "seat_count")
+    private Integer seatCount;
+
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
@@ -50,6 +63,10 @@ public class Meeting {
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
 
+    // 출석 확정(미출석 참가자 결석 처리) 시각. 확정 전이면 null
+    @Column(name = "attendance_finalized_at")
+    private LocalDateTime attendanceFinalizedAt;
+
     @CreationTimestamp
     @Column(name = "created_at")
     private LocalDateTime createdAt;
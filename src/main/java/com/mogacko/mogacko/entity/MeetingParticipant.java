@@ -7,7 +7,12 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "meeting_participants")
+@Table(name = "meeting_participants", uniqueConstraints = {
+        // 같은 사용자의 동시 참가 신청이 중복 등록되지 않도록 함 (MeetingSeatAllocator의 ON CONFLICT 대상)
+        @UniqueConstraint(name = "uk_meeting_participants_meeting_user", columnNames = {"meeting_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_meeting_participants_user", columnList = "user_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,8 +32,8 @@ public class MeetingParticipant {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(length = 20)
-    private String status; // REGISTERED, ATTENDED, ABSENT
+    @Column(name = "status_code")
+    private ParticipantStatus status;
 
     @Column(name = "check_in_time")
     private LocalDateTime checkInTime;
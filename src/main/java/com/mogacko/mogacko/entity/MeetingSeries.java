@@ -0,0 +1,83 @@
+package com.mogacko.mogacko.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 매주/격주로 반복되는 모임 일정.
+ * 회차는 firstMeetingDate + n * intervalWeeks 주로 계산되며, 가까운 기간(horizon)의 회차만 meetings 행으로 만들어집니다.
+ */
+@Entity
+@Table(name = "meeting_series", indexes = {
+        @Index(name = "idx_meeting_series_group", columnList = "group_id"),
+        @Index(name = "idx_meeting_series_next", columnList = "next_occurrence_date")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MeetingSeries {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "series_id")
+    private Long seriesId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", nullable = false)
+    private StudyGroup group;
+
+    @Column(name = "title", length = 255, nullable = false)
+    private String title;
+
+    @Column(name = "location", length = 255, nullable = false)
+    private String location;
+
+    @Column(name = "latitude", precision = 10, scale = 8)
+    private BigDecimal latitude;
+
+    @Column(name = "longitude", precision = 11, scale = 8)
+    private BigDecimal longitude;
+
+    @Column(name = "max_participants")
+    private Integer maxParticipants;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by", nullable = false)
+    private User createdBy;
+
+    // 첫 회차 일시
+    @Column(name = "first_meeting_date", nullable = false)
+    private LocalDateTime firstMeetingDate;
+
+    // 반복 간격 (1: 매주, 2: 격주)
+    @Column(name = "interval_weeks", nullable = false)
+    private Integer intervalWeeks;
+
+    // 전체 회차 수 (종료일까지)
+    @Column(name = "occurrence_count", nullable = false)
+    private Integer occurrenceCount;
+
+    // meetings 행으로 만들어진 회차 수 (앞에서부터)
+    @Column(name = "materialized_count", nullable = false)
+    private Integer materializedCount;
+
+    // 아직 만들어지지 않은 다음 회차 일시. 모든 회차가 만들어졌으면 null
+    @Column(name = "next_occurrence_date")
+    private LocalDateTime nextOccurrenceDate;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public LocalDateTime occurrenceDate(int index) {
+        return firstMeetingDate.plusWeeks((long) index * intervalWeeks);
+    }
+}
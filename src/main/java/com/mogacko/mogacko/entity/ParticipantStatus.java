@@ -0,0 +1,16 @@
+package com.mogacko.mogacko.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ParticipantStatus implements CodedEnum {
+    REGISTERED((short) 1), // 참가 신청
+    ATTENDED((short) 2),   // 출석
+    ABSENT((short) 3),     // 결석
+    WAITLISTED((short) 4); // 정원 초과로 대기
+
+    private final short code;
+
+}
@@ -0,0 +1,10 @@
+package com.mogacko.mogacko.entity;
+
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class ParticipantStatusConverter extends CodedEnumConverter<ParticipantStatus> {
+    public ParticipantStatusConverter() {
+        super(ParticipantStatus.class);
+    }
+}
@@ -9,7 +9,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "study_groups")
+@Table(name = "study_groups", indexes = {
+        @Index(name = "idx_study_groups_creator_created", columnList = "creator_id, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -47,6 +49,9 @@ public class StudyGroup {
     @Column(name = "is_active")
     private Boolean isActive;
 
+    @Column(name = "chat_retention_days")
+    private Integer chatRetentionDays; // 채팅 보관 기간(일), null이면 무기한
+
     @CreationTimestamp
     @Column(name = "created_at")  // 명시적 지정
     private LocalDateTime createdAt;
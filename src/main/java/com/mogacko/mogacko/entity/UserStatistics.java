@@ -29,6 +29,10 @@ public class UserStatistics {
     @Column(name = "total_meetings") // 필드명 변경
     private Integer totalMeetings;
 
+    // 출석 확정된 모임 중 출석한 수. null이면 증감 반영 전에 다시 집계해야 하는 행
+    @Column(name = "attended_meetings")
+    private Integer attendedMeetings;
+
     @UpdateTimestamp
     private LocalDateTime lastUpdated;
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.mogacko.mogacko.event;
+
+import com.mogacko.mogacko.dto.GroupChatDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 그룹 채팅 메시지가 저장되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class GroupChatSentEvent {
+    private final GroupChatDto chat;
+}
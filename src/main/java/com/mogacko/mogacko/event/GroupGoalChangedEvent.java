@@ -0,0 +1,14 @@
+package com.mogacko.mogacko.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 그룹 목표(세부 목표 완료 여부 포함)가 생성, 수정 또는 삭제되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class GroupGoalChangedEvent {
+    private final Long groupId;
+    private final Long goalId;
+}
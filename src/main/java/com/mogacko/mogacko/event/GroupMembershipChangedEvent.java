@@ -0,0 +1,14 @@
+package com.mogacko.mogacko.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 그룹 멤버십(가입 승인, 탈퇴, 강퇴 등)이 변경되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class GroupMembershipChangedEvent {
+    private final Long groupId;
+    private final Long userId;
+}
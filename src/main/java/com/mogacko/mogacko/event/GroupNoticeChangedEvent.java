@@ -0,0 +1,14 @@
+package com.mogacko.mogacko.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 그룹 공지사항이 생성, 수정 또는 삭제되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class GroupNoticeChangedEvent {
+    private final Long groupId;
+    private final Long noticeId;
+}
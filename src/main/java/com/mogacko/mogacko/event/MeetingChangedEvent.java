@@ -0,0 +1,14 @@
+package com.mogacko.mogacko.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모임이 생성되거나 참가자가 바뀌었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingChangedEvent {
+    private final Long groupId;
+    private final Long meetingId; // 반복 모임 생성처럼 특정 모임이 없으면 null
+}
@@ -0,0 +1,14 @@
+package com.mogacko.mogacko.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자의 모임 참가 상태가 바뀌었을 때(참가 확정, 대기자 승급, 취소) 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingParticipationChangedEvent {
+    private final Long meetingId;
+    private final Long userId;
+}
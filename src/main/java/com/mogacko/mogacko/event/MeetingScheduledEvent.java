@@ -0,0 +1,17 @@
+package com.mogacko.mogacko.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임이 새로 생성되어 일정(모임 시각)이 정해졌을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingScheduledEvent {
+    private final Long meetingId;
+    private final Long groupId;
+    private final LocalDateTime meetingDate;
+}
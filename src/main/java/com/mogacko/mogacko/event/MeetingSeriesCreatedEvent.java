@@ -0,0 +1,13 @@
+package com.mogacko.mogacko.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 반복 모임이 생성되어 가까운 회차를 만들어야 할 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingSeriesCreatedEvent {
+    private final Long seriesId;
+}
@@ -0,0 +1,38 @@
+package com.mogacko.mogacko.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 모임 시각을 기준으로 예약된 타이머가 만료되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingTimerEvent {
+    private final Long meetingId;
+    private final Long groupId;
+    private final LocalDateTime meetingDate;
+    private final Type type;
+
+    public enum Type {
+        REMINDER_24H(Duration.ofHours(-24)),
+        // 출석체크 가능 시간 시작 (모임 2시간 전)
+        CHECK_IN_OPENED(Duration.ofHours(-2)),
+        REMINDER_1H(Duration.ofHours(-1)),
+        // 출석체크 가능 시간 종료 (모임 2시간 후). 모임 후 처리(결석 확정 등)의 기준 시점
+        CHECK_IN_CLOSED(Duration.ofHours(2));
+
+        private final Duration offset;
+
+        Type(Duration offset) {
+            this.offset = offset;
+        }
+
+        public LocalDateTime firesAt(LocalDateTime meetingDate) {
+            return meetingDate.plus(offset);
+        }
+    }
+}
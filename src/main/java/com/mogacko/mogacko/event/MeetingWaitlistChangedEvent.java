@@ -0,0 +1,13 @@
+package com.mogacko.mogacko.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모임 좌석이 비었거나 대기자가 생겨 빈 좌석을 대기자로 채워야 할 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingWaitlistChangedEvent {
+    private final Long meetingId;
+}
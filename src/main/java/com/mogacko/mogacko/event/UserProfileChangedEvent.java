@@ -0,0 +1,13 @@
+package com.mogacko.mogacko.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 프로필(이름, 관심사 등)이 변경되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class UserProfileChangedEvent {
+    private final Long userId;
+}
@@ -0,0 +1,29 @@
+package com.mogacko.mogacko.repository;
+
+import com.mogacko.mogacko.entity.GroupChatArchive;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface GroupChatArchiveRepository extends JpaRepository<GroupChatArchive, Long> {
+    // 커서보다 오래된 메시지를 포함하는 아카이브를 최신 묶음부터 조회
+    List<GroupChatArchive> findByGroupIdAndFirstChatIdLessThanOrderByLastChatIdDesc(Long groupId, Long chatId, Pageable pageable);
+
+    // 내보내기용: 묶음 하나(최대 1000건)씩 읽도록 payload만 서버 측 커서로 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1"))
+    @Query("SELECT a.payload FROM GroupChatArchive a WHERE a.groupId = :groupId ORDER BY a.firstChatId")
+    Stream<byte[]> streamPayloads(@Param("groupId") Long groupId);
+
+    @Modifying
+    @Query("DELETE FROM GroupChatArchive a WHERE a.groupId = :groupId AND a.lastSentAt < :cutoff")
+    int deleteExpired(@Param("groupId") Long groupId, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,12 +1,50 @@
 // src/main/java/com/mogacko/mogacko/repository/GroupChatRepository.java
 package com.mogacko.mogacko.repository;
 
+import com.mogacko.mogacko.dto.ChatExportRow;
 import com.mogacko.mogacko.entity.GroupChat;
 import com.mogacko.mogacko.entity.StudyGroup;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface GroupChatRepository extends JpaRepository<GroupChat, Long> {
     Page<GroupChat> findByGroupOrderBySentAtDesc(StudyGroup group, Pageable pageable);
+
+    List<GroupChat> findByGroupGroupIdAndChatIdGreaterThanOrderByChatIdAsc(Long groupId, Long chatId, Pageable pageable);
+
+    @Query("SELECT COUNT(c) FROM GroupChat c WHERE c.group.groupId = :groupId AND c.chatId > :chatId AND c.sender.userId <> :userId")
+    long countUnread(@Param("groupId") Long groupId, @Param("userId") Long userId, @Param("chatId") Long chatId);
+
+    List<GroupChat> findByGroupGroupIdAndChatIdLessThanOrderByChatIdDesc(Long groupId, Long chatId, Pageable pageable);
+
+    List<GroupChat> findByGroupGroupIdAndSentAtBeforeOrderByChatIdAsc(Long groupId, LocalDateTime sentAt, Pageable pageable);
+
+    @Query("SELECT DISTINCT c.group.groupId FROM GroupChat c WHERE c.sentAt < :cutoff")
+    List<Long> findGroupIdsWithChatsBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // 내보내기용: 엔티티 대신 DTO로 받아 영속성 컨텍스트에 쌓이지 않게 하고, 서버 측 커서로 fetch size만큼씩 읽음
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.mogacko.mogacko.dto.ChatExportRow(c.chatId, s.userId, p.name, c.message, c.sentAt) " +
+            "FROM GroupChat c JOIN c.sender s LEFT JOIN UserProfile p ON p.user = s " +
+            "WHERE c.group.groupId = :groupId ORDER BY c.chatId")
+    Stream<ChatExportRow> streamForExport(@Param("groupId") Long groupId);
+
+    @Modifying
+    @Query("DELETE FROM GroupChat c WHERE c.chatId IN :chatIds")
+    int deleteByChatIds(@Param("chatIds") List<Long> chatIds);
+
+    @Modifying
+    @Query("DELETE FROM GroupChat c WHERE c.group.groupId = :groupId AND c.sentAt < :cutoff")
+    int deleteExpired(@Param("groupId") Long groupId, @Param("cutoff") LocalDateTime cutoff);
 }
\ No newline at end of file
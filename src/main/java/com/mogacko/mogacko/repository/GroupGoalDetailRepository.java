@@ -4,10 +4,12 @@ import com.mogacko.mogacko.entity.GroupGoal;
 import com.mogacko.mogacko.entity.GroupGoalDetail;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface GroupGoalDetailRepository extends JpaRepository<GroupGoalDetail, Long> {
     List<GroupGoalDetail> findByGoal(GroupGoal goal);
     List<GroupGoalDetail> findByGoalOrderByCreatedAtAsc(GroupGoal goal);
     void deleteAllByGoal(GroupGoal goal);
+    List<GroupGoalDetail> findByGoalGoalIdInOrderByCreatedAtAsc(Collection<Long> goalIds);
 }
\ No newline at end of file
@@ -1,13 +1,32 @@
 package com.mogacko.mogacko.repository;
 
+import com.mogacko.mogacko.dto.ResourceVersion;
 import com.mogacko.mogacko.entity.GroupGoal;
 import com.mogacko.mogacko.entity.StudyGroup;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface GroupGoalRepository extends JpaRepository<GroupGoal, Long> {
     List<GroupGoal> findByGroup(StudyGroup group);
 
     List<GroupGoal> findByGroupOrderByEndDateDesc(StudyGroup group);
+
+    @Query("SELECT new com.mogacko.mogacko.dto.ResourceVersion(MAX(g.updatedAt), COUNT(g)) " +
+            "FROM GroupGoal g WHERE g.group.groupId = :groupId")
+    ResourceVersion findVersionByGroupId(@Param("groupId") Long groupId);
+
+    @Query("SELECT new com.mogacko.mogacko.dto.ResourceVersion(g.updatedAt) " +
+            "FROM GroupGoal g WHERE g.goalId = :goalId AND g.group.groupId = :groupId")
+    Optional<ResourceVersion> findVersionById(@Param("groupId") Long groupId, @Param("goalId") Long goalId);
+
+    // 종료되지 않은 목표
+    @Query("SELECT g FROM GroupGoal g WHERE g.group.groupId IN :groupIds AND (g.endDate IS NULL OR g.endDate >= :today) " +
+            "ORDER BY g.endDate DESC")
+    List<GroupGoal> findOngoingGoalsByGroupIds(@Param("groupIds") Collection<Long> groupIds, @Param("today") LocalDate today);
 }
\ No newline at end of file
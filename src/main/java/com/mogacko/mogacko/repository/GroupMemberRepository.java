@@ -1,12 +1,21 @@
 package com.mogacko.mogacko.repository;
 
+import com.mogacko.mogacko.dto.GroupMemberDto;
+import com.mogacko.mogacko.dto.IdCountDto;
+import com.mogacko.mogacko.dto.MemberStatusDto;
+import com.mogacko.mogacko.dto.UnreadChatCountDto;
 import com.mogacko.mogacko.entity.GroupMember;
+import com.mogacko.mogacko.entity.GroupMemberStatus;
 import com.mogacko.mogacko.entity.StudyGroup;
 import com.mogacko.mogacko.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,13 +26,102 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
 
     Optional<GroupMember> findByGroupAndUser(StudyGroup group, User user);
 
-    @Query("SELECT COUNT(gm) FROM GroupMember gm WHERE gm.group = :group AND gm.status = 'ACTIVE'")
+    @Query("SELECT COUNT(gm) FROM GroupMember gm WHERE gm.group = :group AND gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE")
     int countActiveMembers(StudyGroup group);
 
-    @Query("SELECT gm.group FROM GroupMember gm WHERE gm.user = :user AND gm.status = 'ACTIVE'")
+    @Query("SELECT gm.group FROM GroupMember gm WHERE gm.user = :user AND gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE")
     List<StudyGroup> findUserGroups(User user);
 
-    List<GroupMember> findByGroupAndStatus(StudyGroup group, String status);
-    @Query("SELECT COUNT(gm) FROM GroupMember gm WHERE gm.user = :user AND gm.status = 'ACTIVE'")
+    List<GroupMember> findByGroupAndStatus(StudyGroup group, GroupMemberStatus status);
+    @Query("SELECT COUNT(gm) FROM GroupMember gm WHERE gm.user = :user AND gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE")
     int countActiveGroupsByUser(@Param("user") User user);
-}
\ No newline at end of file
+
+    // 사용자가 속한 모든 활성 그룹의 안 읽은 채팅 수 (본인 메시지 제외)
+    @Query("SELECT new com.mogacko.mogacko.dto.UnreadChatCountDto(g.groupId, gm.lastReadChatId, COUNT(c), MAX(c.chatId)) " +
+            "FROM GroupMember gm JOIN gm.group g " +
+            "LEFT JOIN GroupChat c ON c.group = g AND c.chatId > COALESCE(gm.lastReadChatId, 0L) AND c.sender <> gm.user " +
+            "WHERE gm.user.userId = :userId AND gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE AND g.isActive = true " +
+            "GROUP BY g.groupId, gm.lastReadChatId")
+    List<UnreadChatCountDto> findUnreadChatCounts(@Param("userId") Long userId);
+
+    // 사용자의 활성 멤버십을 그룹/관심사와 함께 한 번에 조회
+    @Query("SELECT gm FROM GroupMember gm JOIN FETCH gm.group g JOIN FETCH g.interest " +
+            "WHERE gm.user.userId = :userId AND gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE AND g.isActive = true")
+    List<GroupMember> findActiveMembershipsWithGroup(@Param("userId") Long userId);
+
+    @Query("SELECT new com.mogacko.mogacko.dto.IdCountDto(gm.group.groupId, COUNT(gm)) FROM GroupMember gm " +
+            "WHERE gm.group.groupId IN :groupIds AND gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE GROUP BY gm.group.groupId")
+    List<IdCountDto> countActiveMembersByGroupIds(@Param("groupIds") Collection<Long> groupIds);
+
+    @Query("SELECT new com.mogacko.mogacko.dto.MemberStatusDto(gm.user.userId, gm.status) FROM GroupMember gm " +
+            "WHERE gm.group.groupId = :groupId")
+    List<MemberStatusDto> findMemberStatuses(@Param("groupId") Long groupId);
+
+    @Query("SELECT new com.mogacko.mogacko.dto.MemberStatusDto(gm.user.userId, gm.status) FROM GroupMember gm " +
+            "WHERE gm.group.groupId = :groupId AND gm.user.userId IN :userIds")
+    List<MemberStatusDto> findMemberStatusesByUserIds(@Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("UPDATE GroupMember gm SET gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE, gm.joinDate = :joinDate " +
+            "WHERE gm.group.groupId = :groupId AND gm.user.userId IN :userIds AND gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.PENDING")
+    int approvePendingMembers(@Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds, @Param("joinDate") LocalDate joinDate);
+
+    @Modifying
+    @Query("DELETE FROM GroupMember gm " +
+            "WHERE gm.group.groupId = :groupId AND gm.user.userId IN :userIds AND gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.PENDING")
+    int deletePendingMembers(@Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("UPDATE GroupMember gm SET gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.KICKED " +
+            "WHERE gm.group.groupId = :groupId AND gm.user.userId IN :userIds AND gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE")
+    int kickActiveMembers(@Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds);
+
+    // 멤버 목록 keyset 페이지 (가입일, membershipId 순). 이름/이미지는 조인으로 함께 조회
+    // 가입일이 없는 멤버는 오래된 순에서는 맨 뒤, 최근 순에서는 맨 앞에 오며 (PostgreSQL 기본 NULL 정렬과 같아 인덱스를 그대로 사용)
+    // 커서가 가입일 없는 멤버를 가리키면 *Undated 쿼리로 이어서 조회
+    @Query("SELECT new com.mogacko.mogacko.dto.GroupMemberDto(gm.membershipId, u.userId, p.name, u.profileImage, gm.joinDate, gm.status) " +
+            "FROM GroupMember gm JOIN gm.user u LEFT JOIN UserProfile p ON p.user = u " +
+            "WHERE gm.group.groupId = :groupId AND gm.status = :status " +
+            "ORDER BY gm.joinDate ASC NULLS LAST, gm.membershipId ASC")
+    List<GroupMemberDto> findMemberPageAsc(@Param("groupId") Long groupId, @Param("status") GroupMemberStatus status, Pageable pageable);
+
+    @Query("SELECT new com.mogacko.mogacko.dto.GroupMemberDto(gm.membershipId, u.userId, p.name, u.profileImage, gm.joinDate, gm.status) " +
+            "FROM GroupMember gm JOIN gm.user u LEFT JOIN UserProfile p ON p.user = u " +
+            "WHERE gm.group.groupId = :groupId AND gm.status = :status " +
+            "AND (gm.joinDate > :joinDate OR (gm.joinDate = :joinDate AND gm.membershipId > :membershipId) OR gm.joinDate IS NULL) " +
+            "ORDER BY gm.joinDate ASC NULLS LAST, gm.membershipId ASC")
+    List<GroupMemberDto> findMemberPageAscAfter(@Param("groupId") Long groupId, @Param("status") GroupMemberStatus status,
+                                                @Param("joinDate") LocalDate joinDate, @Param("membershipId") Long membershipId,
+                                                Pageable pageable);
+
+    @Query("SELECT new com.mogacko.mogacko.dto.GroupMemberDto(gm.membershipId, u.userId, p.name, u.profileImage, gm.joinDate, gm.status) " +
+            "FROM GroupMember gm JOIN gm.user u LEFT JOIN UserProfile p ON p.user = u " +
+            "WHERE gm.group.groupId = :groupId AND gm.status = :status " +
+            "AND gm.joinDate IS NULL AND gm.membershipId > :membershipId " +
+            "ORDER BY gm.membershipId ASC")
+    List<GroupMemberDto> findMemberPageAscAfterUndated(@Param("groupId") Long groupId, @Param("status") GroupMemberStatus status,
+                                                       @Param("membershipId") Long membershipId, Pageable pageable);
+
+    @Query("SELECT new com.mogacko.mogacko.dto.GroupMemberDto(gm.membershipId, u.userId, p.name, u.profileImage, gm.joinDate, gm.status) " +
+            "FROM GroupMember gm JOIN gm.user u LEFT JOIN UserProfile p ON p.user = u " +
+            "WHERE gm.group.groupId = :groupId AND gm.status = :status " +
+            "ORDER BY gm.joinDate DESC NULLS FIRST, gm.membershipId DESC")
+    List<GroupMemberDto> findMemberPageDesc(@Param("groupId") Long groupId, @Param("status") GroupMemberStatus status, Pageable pageable);
+
+    @Query("SELECT new com.mogacko.mogacko.dto.GroupMemberDto(gm.membershipId, u.userId, p.name, u.profileImage, gm.joinDate, gm.status) " +
+            "FROM GroupMember gm JOIN gm.user u LEFT JOIN UserProfile p ON p.user = u " +
+            "WHERE gm.group.groupId = :groupId AND gm.status = :status " +
+            "AND (gm.joinDate < :joinDate OR (gm.joinDate = :joinDate AND gm.membershipId < :membershipId)) " +
+            "ORDER BY gm.joinDate DESC NULLS FIRST, gm.membershipId DESC")
+    List<GroupMemberDto> findMemberPageDescBefore(@Param("groupId") Long groupId, @Param("status") GroupMemberStatus status,
+                                                  @Param("joinDate") LocalDate joinDate, @Param("membershipId") Long membershipId,
+                                                  Pageable pageable);
+
+    @Query("SELECT new com.mogacko.mogacko.dto.GroupMemberDto(gm.membershipId, u.userId, p.name, u.profileImage, gm.joinDate, gm.status) " +
+            "FROM GroupMember gm JOIN gm.user u LEFT JOIN UserProfile p ON p.user = u " +
+            "WHERE gm.group.groupId = :groupId AND gm.status = :status " +
+            "AND ((gm.joinDate IS NULL AND gm.membershipId < :membershipId) OR gm.joinDate IS NOT NULL) " +
+            "ORDER BY gm.joinDate DESC NULLS FIRST, gm.membershipId DESC")
+    List<GroupMemberDto> findMemberPageDescBeforeUndated(@Param("groupId") Long groupId, @Param("status") GroupMemberStatus status,
+                                                         @Param("membershipId") Long membershipId, Pageable pageable);
+}
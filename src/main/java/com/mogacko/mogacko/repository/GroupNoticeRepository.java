@@ -1,12 +1,32 @@
 package com.mogacko.mogacko.repository;
 
+import com.mogacko.mogacko.dto.ResourceVersion;
 import com.mogacko.mogacko.entity.GroupNotice;
 import com.mogacko.mogacko.entity.StudyGroup;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface GroupNoticeRepository extends JpaRepository<GroupNotice, Long> {
 
     Page<GroupNotice> findByGroupOrderByCreatedAtDesc(StudyGroup group, Pageable pageable);
+
+    @Query("SELECT new com.mogacko.mogacko.dto.ResourceVersion(MAX(n.updatedAt), COUNT(n)) " +
+            "FROM GroupNotice n WHERE n.group.groupId = :groupId")
+    ResourceVersion findVersionByGroupId(@Param("groupId") Long groupId);
+
+    @Query("SELECT new com.mogacko.mogacko.dto.ResourceVersion(n.updatedAt) " +
+            "FROM GroupNotice n WHERE n.noticeId = :noticeId AND n.group.groupId = :groupId")
+    Optional<ResourceVersion> findVersionById(@Param("groupId") Long groupId, @Param("noticeId") Long noticeId);
+
+    // 그룹별 가장 최근 공지 한 건씩
+    @Query("SELECT n FROM GroupNotice n WHERE n.noticeId IN " +
+            "(SELECT MAX(n2.noticeId) FROM GroupNotice n2 WHERE n2.group.groupId IN :groupIds GROUP BY n2.group.groupId)")
+    List<GroupNotice> findLatestByGroupIds(@Param("groupIds") Collection<Long> groupIds);
 }
\ No newline at end of file
@@ -1,28 +1,73 @@
 package com.mogacko.mogacko.repository;
 
+import com.mogacko.mogacko.dto.AttendanceExportRow;
+import com.mogacko.mogacko.dto.IdCountDto;
+import com.mogacko.mogacko.dto.MeetingSlotDto;
 import com.mogacko.mogacko.entity.Meeting;
 import com.mogacko.mogacko.entity.MeetingParticipant;
+import com.mogacko.mogacko.entity.ParticipantStatus;
 import com.mogacko.mogacko.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MeetingParticipantRepository extends JpaRepository<MeetingParticipant, Long> {
     Optional<MeetingParticipant> findByMeetingAndUser(Meeting meeting, User user);
     List<MeetingParticipant> findByMeeting(Meeting meeting);
 
-    @Query("SELECT COUNT(mp) FROM MeetingParticipant mp WHERE mp.meeting = :meeting")
+    @Query("SELECT mp.status FROM MeetingParticipant mp WHERE mp.meeting.meetingId = :meetingId AND mp.user.userId = :userId")
+    Optional<ParticipantStatus> findStatus(@Param("meetingId") Long meetingId, @Param("userId") Long userId);
+
+    // 대기자를 제외한 참가자 수
+    @Query("SELECT COUNT(mp) FROM MeetingParticipant mp WHERE mp.meeting = :meeting AND mp.status <> com.mogacko.mogacko.entity.ParticipantStatus.WAITLISTED")
     int countParticipants(Meeting meeting);
 
-    @Query("SELECT COUNT(mp) FROM MeetingParticipant mp WHERE mp.meeting = :meeting AND mp.status = 'ATTENDED'")
+    @Query("SELECT COUNT(mp) FROM MeetingParticipant mp WHERE mp.meeting = :meeting AND mp.status = com.mogacko.mogacko.entity.ParticipantStatus.ATTENDED")
     int countAttendance(Meeting meeting);
 
     @Query("SELECT COUNT(mp) FROM MeetingParticipant mp WHERE mp.user = :user")
     int countByUser(@Param("user") User user);
 
-    @Query("SELECT COUNT(mp) FROM MeetingParticipant mp WHERE mp.user = :user AND mp.status = 'ATTENDED'")
+    @Query("SELECT COUNT(mp) FROM MeetingParticipant mp WHERE mp.user = :user AND mp.status = com.mogacko.mogacko.entity.ParticipantStatus.ATTENDED")
     int countAttendedByUser(@Param("user") User user);
-}
\ No newline at end of file
+
+    // 출석이 확정된 모임만 집계 (진행 전 모임의 참가 신청은 출석률에 포함하지 않음)
+    @Query("SELECT COUNT(mp) FROM MeetingParticipant mp WHERE mp.user = :user AND mp.meeting.attendanceFinalizedAt IS NOT NULL " +
+            "AND mp.status <> com.mogacko.mogacko.entity.ParticipantStatus.WAITLISTED")
+    int countFinalizedByUser(@Param("user") User user);
+
+    @Query("SELECT COUNT(mp) FROM MeetingParticipant mp WHERE mp.user = :user AND mp.meeting.attendanceFinalizedAt IS NOT NULL " +
+            "AND mp.status = com.mogacko.mogacko.entity.ParticipantStatus.ATTENDED")
+    int countFinalizedAttendedByUser(@Param("user") User user);
+
+    @Query("SELECT new com.mogacko.mogacko.dto.IdCountDto(mp.meeting.meetingId, COUNT(mp)) FROM MeetingParticipant mp " +
+            "WHERE mp.meeting.meetingId IN :meetingIds AND mp.status <> com.mogacko.mogacko.entity.ParticipantStatus.WAITLISTED GROUP BY mp.meeting.meetingId")
+    List<IdCountDto> countParticipantsByMeetingIds(@Param("meetingIds") Collection<Long> meetingIds);
+
+    // 사용자가 참가 확정한 기준 시각 이후 모임 (일정 겹침 확인용)
+    @Query("SELECT new com.mogacko.mogacko.dto.MeetingSlotDto(m.meetingId, g.groupId, g.title, m.title, m.meetingDate) " +
+            "FROM MeetingParticipant mp JOIN mp.meeting m JOIN m.group g WHERE mp.user.userId = :userId AND m.meetingDate > :from " +
+            "AND mp.status IN (com.mogacko.mogacko.entity.ParticipantStatus.REGISTERED, com.mogacko.mogacko.entity.ParticipantStatus.ATTENDED)")
+    List<MeetingSlotDto> findRegisteredSlotsFrom(@Param("userId") Long userId, @Param("from") LocalDateTime from);
+
+    @Query("SELECT new com.mogacko.mogacko.dto.MeetingSlotDto(m.meetingId, g.groupId, g.title, m.title, m.meetingDate) " +
+            "FROM MeetingParticipant mp JOIN mp.meeting m JOIN m.group g WHERE m.meetingId = :meetingId AND mp.user.userId = :userId " +
+            "AND mp.status IN (com.mogacko.mogacko.entity.ParticipantStatus.REGISTERED, com.mogacko.mogacko.entity.ParticipantStatus.ATTENDED)")
+    Optional<MeetingSlotDto> findRegisteredSlot(@Param("meetingId") Long meetingId, @Param("userId") Long userId);
+
+    // 내보내기용: 엔티티 대신 DTO로 받아 영속성 컨텍스트에 쌓이지 않게 하고, 서버 측 커서로 fetch size만큼씩 읽음
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.mogacko.mogacko.dto.AttendanceExportRow(m.meetingId, m.title, m.meetingDate, u.userId, p.name, mp.status, mp.checkInTime) " +
+            "FROM MeetingParticipant mp JOIN mp.meeting m JOIN mp.user u LEFT JOIN UserProfile p ON p.user = u " +
+            "WHERE m.group.groupId = :groupId ORDER BY m.meetingDate, m.meetingId, mp.participantId")
+    Stream<AttendanceExportRow> streamAttendanceForExport(@Param("groupId") Long groupId);
+}
@@ -1,25 +1,76 @@
 package com.mogacko.mogacko.repository;
 
+import com.mogacko.mogacko.dto.MeetingDto;
+import com.mogacko.mogacko.dto.MeetingScheduleDto;
+import com.mogacko.mogacko.dto.MyMeetingDto;
 import com.mogacko.mogacko.entity.Meeting;
 import com.mogacko.mogacko.entity.StudyGroup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
     List<Meeting> findByGroupOrderByMeetingDateDesc(StudyGroup group);
 
-    @Query("SELECT m FROM Meeting m WHERE m.group = :group AND m.meetingDate < :now ORDER BY m.meetingDate DESC")
-    List<Meeting> findPastMeetings(@Param("group") StudyGroup group, @Param("now") LocalDateTime now);
+    // 지난 모임 (최근 순). 작성자 이름과 참가자 수를 한 쿼리로 조회
+    @Query(value = "SELECT new com.mogacko.mogacko.dto.MeetingDto(m.meetingId, m.group.groupId, m.title, m.location, m.latitude, m.longitude, " +
+            "m.meetingDate, m.maxParticipants, m.description, c.userId, p.name, COUNT(mp), m.createdAt, m.series.seriesId) " +
+            "FROM Meeting m JOIN m.createdBy c LEFT JOIN UserProfile p ON p.user = c " +
+            "LEFT JOIN MeetingParticipant mp ON mp.meeting = m AND mp.status <> com.mogacko.mogacko.entity.ParticipantStatus.WAITLISTED " +
+            "WHERE m.group.groupId = :groupId AND m.meetingDate < :now " +
+            "GROUP BY m.meetingId, m.group.groupId, m.title, m.location, m.latitude, m.longitude, m.meetingDate, " +
+            "m.maxParticipants, m.description, c.userId, p.name, m.createdAt, m.series.seriesId " +
+            "ORDER BY m.meetingDate DESC, m.meetingId DESC",
+            countQuery = "SELECT COUNT(m) FROM Meeting m WHERE m.group.groupId = :groupId AND m.meetingDate < :now")
+    Page<MeetingDto> findPastMeetings(@Param("groupId") Long groupId, @Param("now") LocalDateTime now, Pageable pageable);
 
-    @Query("SELECT m FROM Meeting m WHERE m.group = :group AND m.meetingDate > :now ORDER BY m.meetingDate ASC")
-    List<Meeting> findUpcomingMeetings(@Param("group") StudyGroup group, @Param("now") LocalDateTime now);
+    // 예정된 모임 (가까운 순)
+    @Query(value = "SELECT new com.mogacko.mogacko.dto.MeetingDto(m.meetingId, m.group.groupId, m.title, m.location, m.latitude, m.longitude, " +
+            "m.meetingDate, m.maxParticipants, m.description, c.userId, p.name, COUNT(mp), m.createdAt, m.series.seriesId) " +
+            "FROM Meeting m JOIN m.createdBy c LEFT JOIN UserProfile p ON p.user = c " +
+            "LEFT JOIN MeetingParticipant mp ON mp.meeting = m AND mp.status <> com.mogacko.mogacko.entity.ParticipantStatus.WAITLISTED " +
+            "WHERE m.group.groupId = :groupId AND m.meetingDate >= :now " +
+            "GROUP BY m.meetingId, m.group.groupId, m.title, m.location, m.latitude, m.longitude, m.meetingDate, " +
+            "m.maxParticipants, m.description, c.userId, p.name, m.createdAt, m.series.seriesId " +
+            "ORDER BY m.meetingDate ASC, m.meetingId ASC",
+            countQuery = "SELECT COUNT(m) FROM Meeting m WHERE m.group.groupId = :groupId AND m.meetingDate >= :now")
+    Page<MeetingDto> findUpcomingMeetings(@Param("groupId") Long groupId, @Param("now") LocalDateTime now, Pageable pageable);
 
     @Query("SELECT m FROM Meeting m WHERE m.group = :group AND m.meetingDate BETWEEN :start AND :end")
     List<Meeting> findCurrentMeetings(@Param("group") StudyGroup group, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
-}
\ No newline at end of file
+
+    @Query("SELECT m FROM Meeting m WHERE m.group.groupId IN :groupIds AND m.meetingDate > :from AND m.meetingDate <= :to " +
+            "ORDER BY m.meetingDate ASC")
+    List<Meeting> findUpcomingMeetingsByGroupIds(@Param("groupIds") Collection<Long> groupIds,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to);
+
+    // 사용자가 활성 멤버인 모든 그룹의 기간 내 모임 (참가자 수, 본인 참가 여부 포함)
+    @Query("SELECT new com.mogacko.mogacko.dto.MyMeetingDto(m.meetingId, g.groupId, g.title, m.title, m.location, m.meetingDate, " +
+            "m.maxParticipants, COUNT(mp), SUM(CASE WHEN mp.user.userId = :userId THEN 1L ELSE 0L END), m.series.seriesId) " +
+            "FROM GroupMember gm JOIN gm.group g JOIN Meeting m ON m.group = g " +
+            "LEFT JOIN MeetingParticipant mp ON mp.meeting = m AND mp.status <> com.mogacko.mogacko.entity.ParticipantStatus.WAITLISTED " +
+            "WHERE gm.user.userId = :userId AND gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE " +
+            "AND g.isActive = true AND m.meetingDate >= :from AND m.meetingDate < :to " +
+            "GROUP BY m.meetingId, g.groupId, g.title, m.title, m.location, m.meetingDate, m.maxParticipants, m.series.seriesId " +
+            "ORDER BY m.meetingDate ASC, m.meetingId ASC")
+    List<MyMeetingDto> findAgenda(@Param("userId") Long userId,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to,
+                                  Pageable pageable);
+
+    // 타이머 적재용: 기준 시각 이후의 모임을 meetingId 순으로 나눠 조회 (keyset)
+    @Query("SELECT new com.mogacko.mogacko.dto.MeetingScheduleDto(m.meetingId, m.group.groupId, m.meetingDate) " +
+            "FROM Meeting m WHERE m.meetingDate >= :from AND m.meetingId > :afterMeetingId ORDER BY m.meetingId ASC")
+    List<MeetingScheduleDto> findSchedulesFrom(@Param("from") LocalDateTime from,
+                                               @Param("afterMeetingId") Long afterMeetingId,
+                                               Pageable pageable);
+}
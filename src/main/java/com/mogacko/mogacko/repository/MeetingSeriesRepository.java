@@ -0,0 +1,35 @@
+package com.mogacko.mogacko.repository;
+
+import com.mogacko.mogacko.entity.MeetingSeries;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface MeetingSeriesRepository extends JpaRepository<MeetingSeries, Long> {
+
+    // 다음 회차가 horizon 안에 들어온 반복 모임
+    @Query("SELECT s.seriesId FROM MeetingSeries s WHERE s.nextOccurrenceDate IS NOT NULL AND s.nextOccurrenceDate < :horizonEnd")
+    List<Long> findIdsDueBefore(@Param("horizonEnd") LocalDateTime horizonEnd);
+
+    // 회차 생성과 생성 수 갱신을 직렬화하기 위해 행을 잠그고 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MeetingSeries s WHERE s.seriesId = :seriesId")
+    Optional<MeetingSeries> findByIdForUpdate(@Param("seriesId") Long seriesId);
+
+    // 사용자가 활성 멤버인 그룹의 반복 모임 중 아직 만들어지지 않은 회차가 기준 시각 이전에 있는 것 (일정 조회 시 가상 회차 확장용)
+    @Query("SELECT s FROM MeetingSeries s JOIN FETCH s.group g WHERE g.isActive = true " +
+            "AND s.nextOccurrenceDate IS NOT NULL AND s.nextOccurrenceDate < :to " +
+            "AND EXISTS (SELECT gm FROM GroupMember gm WHERE gm.group = g AND gm.user.userId = :userId " +
+            "AND gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE)")
+    List<MeetingSeries> findPendingForMember(@Param("userId") Long userId, @Param("to") LocalDateTime to);
+
+    // 아직 만들어지지 않은 회차가 남은 그룹의 반복 모임 (모임 목록 조회 시 가상 회차 확장용)
+    @Query("SELECT s FROM MeetingSeries s WHERE s.group.groupId = :groupId AND s.nextOccurrenceDate IS NOT NULL")
+    List<MeetingSeries> findPendingByGroupId(@Param("groupId") Long groupId);
+}
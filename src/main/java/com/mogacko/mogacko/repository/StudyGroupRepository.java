@@ -1,18 +1,30 @@
 package com.mogacko.mogacko.repository;
 
+import com.mogacko.mogacko.dto.ResourceVersion;
+import com.mogacko.mogacko.dto.StudyGroupDto;
 import com.mogacko.mogacko.entity.StudyGroup;
 import com.mogacko.mogacko.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface StudyGroupRepository extends JpaRepository<StudyGroup, Long> {
     List<StudyGroup> findByCreator(User creator);
 
+    List<StudyGroup> findByChatRetentionDaysIsNotNull();
+
+    // 정원 확인과 승인을 직렬화하기 위해 그룹 행을 잠그고 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sg FROM StudyGroup sg WHERE sg.groupId = :groupId")
+    Optional<StudyGroup> findByIdForUpdate(@Param("groupId") Long groupId);
+
     @Query("SELECT sg FROM StudyGroup sg WHERE sg.isActive = true")
     Page<StudyGroup> findActiveGroups(Pageable pageable);
 
@@ -27,4 +39,34 @@ public interface StudyGroupRepository extends JpaRepository<StudyGroup, Long> {
             "OR LOWER(sg.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
             "AND sg.isActive = true")
     Page<StudyGroup> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.mogacko.mogacko.dto.ResourceVersion(sg.updatedAt, " +
+            "(SELECT COUNT(gm) FROM GroupMember gm WHERE gm.group = sg AND gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE)) " +
+            "FROM StudyGroup sg WHERE sg.groupId = :groupId")
+    Optional<ResourceVersion> findVersionById(@Param("groupId") Long groupId);
+
+    // 내가 그룹장인 활성 그룹 (멤버 수 포함 프로젝션)
+    @Query(value = "SELECT new com.mogacko.mogacko.dto.StudyGroupDto(sg.groupId, c.userId, p.name, sg.title, i.interestName, " +
+            "sg.description, sg.locationName, sg.maxMembers, " +
+            "(SELECT COUNT(am) FROM GroupMember am WHERE am.group = sg AND am.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE), " +
+            "sg.requirements, sg.isActive, sg.chatRetentionDays, sg.createdAt, sg.updatedAt) " +
+            "FROM StudyGroup sg JOIN sg.creator c JOIN sg.interest i LEFT JOIN UserProfile p ON p.user = c " +
+            "WHERE c.userId = :userId AND sg.isActive = true " +
+            "ORDER BY sg.createdAt DESC, sg.groupId DESC",
+            countQuery = "SELECT COUNT(sg) FROM StudyGroup sg WHERE sg.creator.userId = :userId AND sg.isActive = true")
+    Page<StudyGroupDto> findOwnedGroupSummaries(@Param("userId") Long userId, Pageable pageable);
+
+    // 내가 멤버로 참여한 활성 그룹 (그룹장인 그룹 제외, 최근 가입 순)
+    @Query(value = "SELECT new com.mogacko.mogacko.dto.StudyGroupDto(sg.groupId, c.userId, p.name, sg.title, i.interestName, " +
+            "sg.description, sg.locationName, sg.maxMembers, " +
+            "(SELECT COUNT(am) FROM GroupMember am WHERE am.group = sg AND am.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE), " +
+            "sg.requirements, sg.isActive, sg.chatRetentionDays, sg.createdAt, sg.updatedAt) " +
+            "FROM GroupMember gm JOIN gm.group sg JOIN sg.creator c JOIN sg.interest i LEFT JOIN UserProfile p ON p.user = c " +
+            "WHERE gm.user.userId = :userId AND gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE " +
+            "AND sg.isActive = true AND c.userId <> :userId " +
+            "ORDER BY gm.joinDate DESC, sg.groupId DESC",
+            countQuery = "SELECT COUNT(gm) FROM GroupMember gm JOIN gm.group sg " +
+                    "WHERE gm.user.userId = :userId AND gm.status = com.mogacko.mogacko.entity.GroupMemberStatus.ACTIVE " +
+                    "AND sg.isActive = true AND sg.creator.userId <> :userId")
+    Page<StudyGroupDto> findJoinedGroupSummaries(@Param("userId") Long userId, Pageable pageable);
+}
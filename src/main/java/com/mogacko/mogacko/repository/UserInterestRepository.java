@@ -4,16 +4,31 @@ import com.mogacko.mogacko.entity.Interest;
 import com.mogacko.mogacko.entity.User;
 import com.mogacko.mogacko.entity.UserInterest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserInterestRepository extends JpaRepository<UserInterest, Long> {
     List<UserInterest> findByUser(User user);
 
+    List<UserInterest> findByUserUserIdIn(Collection<Long> userIds);
+
     Optional<UserInterest> findByUserAndInterest(User user, Interest interest);
 
     @Query("SELECT ui.interest FROM UserInterest ui WHERE ui.user = :user")
     List<Interest> findUserInterests(User user);
-}
\ No newline at end of file
+
+    @Query("SELECT ui.interest FROM UserInterest ui WHERE ui.user.userId = :userId")
+    List<Interest> findUserInterestsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT ui.interest.interestId FROM UserInterest ui WHERE ui.user.userId = :userId")
+    List<Long> findInterestIdsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserInterest ui WHERE ui.user.userId = :userId AND ui.interest.interestId IN :interestIds")
+    int deleteByUserIdAndInterestIds(@Param("userId") Long userId, @Param("interestIds") Collection<Long> interestIds);
+}
@@ -4,10 +4,18 @@ package com.mogacko.mogacko.repository;
 import com.mogacko.mogacko.entity.User;
 import com.mogacko.mogacko.entity.UserProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
     Optional<UserProfile> findByUser(User user);
     Optional<UserProfile> findByUserUserId(Long userId);
+    List<UserProfile> findByUserUserIdIn(Collection<Long> userIds);
+
+    @Query("SELECT p FROM UserProfile p JOIN FETCH p.user WHERE p.user.userId IN :userIds")
+    List<UserProfile> findWithUserByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
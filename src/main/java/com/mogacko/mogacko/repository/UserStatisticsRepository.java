@@ -4,8 +4,12 @@ import com.mogacko.mogacko.entity.User;
 import com.mogacko.mogacko.entity.UserStatistics;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserStatisticsRepository extends JpaRepository<UserStatistics, Long> {
     Optional<UserStatistics> findByUser(User user);
+    Optional<UserStatistics> findByUserUserId(Long userId);
+    List<UserStatistics> findByUserUserIdIn(Collection<Long> userIds);
 }
\ No newline at end of file
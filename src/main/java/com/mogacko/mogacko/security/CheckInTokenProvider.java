@@ -0,0 +1,190 @@
+package com.mogacko.mogacko.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 모임 출석 QR 코드에 담는 짧은 수명의 토큰을 발급/검증합니다.
+ * 토큰은 "시간 단계.서명" 형식입니다. JWT 비밀 키에서 파생한 키로 (그룹 ID, 모임 ID)를 HMAC-SHA256해 모임별 QR 키를 만들고,
+ * 서명은 그 QR 키로 시간 단계를 HMAC-SHA256한 값의 앞 16바이트입니다. 모임 생성자는 QR 키를 미리 받아 두면 연결 없이도 기기에서 토큰을 만들 수 있습니다.
+ * 시간 단계는 step-seconds 단위로 바뀌므로 QR 코드를 주기적으로 새로 받아야 하고, 검증은 서명과 시간 단계만 확인하므로 DB를 조회하지 않습니다.
+ * 오프라인 출석 기록용으로 (모임, 사용자)마다 다른 서명 키도 파생합니다. 키를 저장하지 않고 검증 시 다시 계산합니다.
+ * 오프라인 기록에도 현장에서 스캔한 QR 토큰을 담게 하므로, 키만으로는 모임 장소/시각에 있었다는 기록을 만들 수 없습니다.
+ */
+@Component
+public class CheckInTokenProvider {
+
+    private static final String KEY_PURPOSE = "meeting-check-in";
+    private static final String OFFLINE_KEY_PURPOSE = "meeting-offline-check-in";
+    // 오프라인 출석 기록 서명 대상의 출석 시각 형식 (초 단위)
+    private static final DateTimeFormatter CLAIM_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final int SIGNATURE_BYTES = 16;
+
+    private final SecretKeySpec key;
+    private final SecretKeySpec offlineKey;
+    private final long stepSeconds;
+    private final ThreadLocal<Mac> mac;
+    private final ThreadLocal<Mac> offlineMac;
+
+    public CheckInTokenProvider(JwtTokenProvider jwtTokenProvider,
+                                @Value("${check-in.token.step-seconds:30}") long stepSeconds) {
+        this.key = new SecretKeySpec(jwtTokenProvider.deriveKey(KEY_PURPOSE), "HmacSHA256");
+        this.offlineKey = new SecretKeySpec(jwtTokenProvider.deriveKey(OFFLINE_KEY_PURPOSE), "HmacSHA256");
+        this.stepSeconds = stepSeconds;
+        this.mac = ThreadLocal.withInitial(() -> newMac(key));
+        this.offlineMac = ThreadLocal.withInitial(() -> newMac(offlineKey));
+    }
+
+    /**
+     * @param groupId 스터디 그룹 ID
+     * @param meetingId 모임 ID
+     * @param epochSeconds 발급 시각
+     * @return 발급 시각이 속한 시간 단계의 토큰
+     */
+    public String issue(Long groupId, Long meetingId, long epochSeconds) {
+        long step = epochSeconds / stepSeconds;
+        return step + "." + sign(groupId, meetingId, step);
+    }
+
+    /**
+     * 토큰이 이 모임용으로 서명되었고, 현재 또는 바로 이전 시간 단계에 발급되었는지 확인합니다.
+     * 이전 단계까지 허용하므로 QR 코드가 바뀐 직후에 스캔해도 통과합니다.
+     *
+     * @param token QR 코드의 토큰
+     * @param groupId 스터디 그룹 ID
+     * @param meetingId 모임 ID
+     * @param epochSeconds 검증 시각
+     * @return 유효하면 true
+     */
+    public boolean verify(String token, Long groupId, Long meetingId, long epochSeconds) {
+        long currentStep = epochSeconds / stepSeconds;
+        return verifyStep(token, groupId, meetingId, currentStep - 1, currentStep);
+    }
+
+    /**
+     * 오프라인 출석 기록에 담긴 QR 토큰이 이 모임용으로 서명되었고, 기록의 출석 시각 무렵에 화면에 떠 있던 것인지 확인합니다.
+     * 기기 시각이 서버와 어긋날 수 있으므로 허용 오차만큼 앞뒤 시간 단계도 인정합니다.
+     *
+     * @param token 기록에 담긴 QR 코드의 토큰
+     * @param groupId 스터디 그룹 ID
+     * @param meetingId 모임 ID
+     * @param epochSeconds 기록의 출석 시각
+     * @param toleranceSeconds 기기 시각 허용 오차
+     * @return 유효하면 true
+     */
+    public boolean verifyIssuedNear(String token, Long groupId, Long meetingId, long epochSeconds, long toleranceSeconds) {
+        return verifyStep(token, groupId, meetingId,
+                (epochSeconds - toleranceSeconds) / stepSeconds - 1, (epochSeconds + toleranceSeconds) / stepSeconds);
+    }
+
+    // 서명이 맞고 시간 단계가 [minStep, maxStep] 안인지 확인
+    private boolean verifyStep(String token, Long groupId, Long meetingId, long minStep, long maxStep) {
+        if (token == null) {
+            return false;
+        }
+        int separator = token.indexOf('.');
+        if (separator <= 0) {
+            return false;
+        }
+
+        long step;
+        try {
+            step = Long.parseLong(token.substring(0, separator));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (step < minStep || step > maxStep) {
+            return false;
+        }
+
+        byte[] expected = sign(groupId, meetingId, step).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    /**
+     * @return 토큰 하나가 발급된 뒤 유효한 최대 시간 (초)
+     */
+    public long getValiditySeconds() {
+        return stepSeconds * 2;
+    }
+
+    public long getStepSeconds() {
+        return stepSeconds;
+    }
+
+    /**
+     * 모임 생성자가 연결이 끊긴 동안 기기에서 QR 토큰을 직접 만들 수 있도록 모임별 QR 키를 발급합니다. 같은 모임에는 항상 같은 키가 나옵니다.
+     * 토큰은 "{step}.{Base64URL(HMAC-SHA256(QR 키, step)의 앞 16바이트)}"이며, step은 epoch 초를 step-seconds로 나눈 몫입니다.
+     *
+     * @return Base64URL(패딩 없음)로 인코딩한 32바이트 HMAC-SHA256 키
+     */
+    public String issueQrKey(Long groupId, Long meetingId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(qrKeyFor(groupId, meetingId));
+    }
+
+    /**
+     * 참가자가 연결이 끊긴 동안 출석 기록에 서명할 키를 발급합니다. 같은 (모임, 사용자)에는 항상 같은 키가 나옵니다.
+     *
+     * @return Base64URL(패딩 없음)로 인코딩한 32바이트 HMAC-SHA256 키
+     */
+    public String issueOfflineKey(Long meetingId, Long userId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(offlineKeyFor(meetingId, userId));
+    }
+
+    /**
+     * 오프라인 출석 기록의 서명을 확인합니다.
+     * 서명 대상은 "meetingId:userId:latitude:longitude:checkedAt:token"이며 (위경도는 보낸 값 그대로, 출석 시각은 yyyy-MM-dd'T'HH:mm:ss,
+     * token은 출석 시각에 스캔한 QR 토큰), 서명은 issueOfflineKey로 받은 키로 HMAC-SHA256한 값을 Base64URL(패딩 없음)로 인코딩한 것입니다.
+     *
+     * @return 서명이 일치하면 true
+     */
+    public boolean verifyOfflineClaim(Long meetingId, Long userId, BigDecimal latitude, BigDecimal longitude,
+                                      LocalDateTime checkedAt, String token, String signature) {
+        if (signature == null || latitude == null || longitude == null || checkedAt == null || token == null) {
+            return false;
+        }
+
+        String payload = meetingId + ":" + userId + ":" + latitude.toPlainString() + ":" + longitude.toPlainString()
+                + ":" + CLAIM_TIME_FORMAT.format(checkedAt) + ":" + token;
+        Mac claimMac = newMac(new SecretKeySpec(offlineKeyFor(meetingId, userId), "HmacSHA256"));
+        byte[] expected = Base64.getUrlEncoder().withoutPadding()
+                .encode(claimMac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private byte[] offlineKeyFor(Long meetingId, Long userId) {
+        return offlineMac.get().doFinal((meetingId + ":" + userId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private byte[] qrKeyFor(Long groupId, Long meetingId) {
+        return mac.get().doFinal((groupId + ":" + meetingId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String sign(Long groupId, Long meetingId, long step) {
+        Mac qrMac = newMac(new SecretKeySpec(qrKeyFor(groupId, meetingId), "HmacSHA256"));
+        byte[] signature = qrMac.doFinal(String.valueOf(step).getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(signature, SIGNATURE_BYTES));
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac instance = Mac.getInstance("HmacSHA256");
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
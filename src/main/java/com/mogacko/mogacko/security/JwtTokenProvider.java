@@ -8,6 +8,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.util.Date;
 
@@ -99,6 +103,23 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * JWT 서명 키와 분리된 용도별 서명 키를 파생합니다 (HMAC-SHA256(secret, purpose)).
+     * 용도마다 다른 키를 쓰므로 한 용도의 서명을 다른 용도의 토큰으로 재사용할 수 없습니다.
+     *
+     * @param purpose 키 용도 (예: "meeting-check-in")
+     * @return 32바이트 키
+     */
+    public byte[] deriveKey(String purpose) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac.doFinal(purpose.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
     public Claims getClaims(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(key)
@@ -0,0 +1,143 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.entity.ParticipantStatus;
+import com.mogacko.mogacko.event.MeetingTimerEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 출석체크 시간이 끝난 모임의 출석을 확정합니다.
+ * 확정되지 않은 모임을 배치 단위로 선점(FOR UPDATE SKIP LOCKED)해 남은 REGISTERED 참가자를 UPDATE 한 번으로 ABSENT 처리하고,
+ * 사용자별 출석 증감분을 모아 통계에 한 번에 반영합니다. 배치마다 별도 트랜잭션이므로 여러 인스턴스가 동시에 실행해도 중복 반영되지 않습니다.
+ * 출석체크 종료 타이머가 만료될 때마다 실행되며, 서버가 내려가 있던 동안 끝난 모임은 시작 시 처리합니다.
+ */
+@Slf4j
+@Service
+public class AttendanceFinalizationService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserStatisticsService statisticsService;
+    private final int batchSize;
+
+    // 실행 중에 들어온 요청은 현재 실행이 끝난 뒤 한 번 더 처리
+    private final AtomicBoolean requested = new AtomicBoolean();
+    private final ReentrantLock running = new ReentrantLock();
+
+    public AttendanceFinalizationService(JdbcTemplate jdbcTemplate,
+                                         PlatformTransactionManager transactionManager,
+                                         UserStatisticsService statisticsService,
+                                         @Value("${attendance.finalize.batch-size:200}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.statisticsService = statisticsService;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        try {
+            // 확정 대상 모임 조회용
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_meetings_unfinalized " +
+                    "ON meetings (meeting_date) WHERE attendance_finalized_at IS NULL");
+        } catch (DataAccessException e) {
+            log.warn("Could not create partial index idx_meetings_unfinalized: {}", e.getMessage());
+        }
+        finalizeClosedMeetings();
+    }
+
+    @EventListener
+    public void onMeetingTimer(MeetingTimerEvent event) {
+        if (event.getType() == MeetingTimerEvent.Type.CHECK_IN_CLOSED) {
+            finalizeClosedMeetings();
+        }
+    }
+
+    /**
+     * 출석체크 시간이 끝났지만 아직 확정되지 않은 모임을 모두 확정합니다.
+     * 이미 실행 중이면 요청만 남기고 돌아가며, 실행 중인 쪽이 끝난 뒤 다시 처리합니다.
+     */
+    public void finalizeClosedMeetings() {
+        requested.set(true);
+        while (requested.get() && running.tryLock()) {
+            try {
+                while (requested.getAndSet(false)) {
+                    finalizeAll();
+                }
+            } finally {
+                running.unlock();
+            }
+        }
+    }
+
+    private void finalizeAll() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(MeetingService.CHECK_IN_WINDOW);
+
+        int meetings = 0;
+        Integer finalized;
+        do {
+            finalized = transactionTemplate.execute(status -> finalizeNextBatch(cutoff));
+            meetings += finalized != null ? finalized : 0;
+        } while (finalized != null && finalized == batchSize);
+
+        if (meetings > 0) {
+            log.info("Finalized attendance of {} meetings", meetings);
+        }
+    }
+
+    // 모임 배치 하나를 선점해 결석 처리 후 통계 반영. 선점한 모임 수를 반환
+    private int finalizeNextBatch(LocalDateTime cutoff) {
+        List<Long> meetingIds = jdbcTemplate.queryForList(
+                "UPDATE meetings SET attendance_finalized_at = ? WHERE meeting_id IN (" +
+                        "SELECT meeting_id FROM meetings WHERE attendance_finalized_at IS NULL AND meeting_date <= ? " +
+                        "ORDER BY meeting_date LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING meeting_id",
+                Long.class, Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(cutoff), batchSize);
+        if (meetingIds.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(meetingIds.size(), "?"));
+        Object[] ids = meetingIds.toArray();
+
+        // userId -> {확정된 모임 수, 출석 수}
+        Map<Long, int[]> deltas = new HashMap<>();
+        List<Long> absentUserIds = jdbcTemplate.queryForList(
+                "UPDATE meeting_participants SET status_code = " + ParticipantStatus.ABSENT.getCode() +
+                        " WHERE meeting_id IN (" + placeholders + ") AND status_code = " + ParticipantStatus.REGISTERED.getCode() +
+                        " RETURNING user_id",
+                Long.class, ids);
+        for (Long userId : absentUserIds) {
+            deltas.computeIfAbsent(userId, id -> new int[2])[0]++;
+        }
+        jdbcTemplate.query(
+                "SELECT user_id, COUNT(*) FROM meeting_participants WHERE meeting_id IN (" + placeholders + ") " +
+                        "AND status_code = " + ParticipantStatus.ATTENDED.getCode() + " GROUP BY user_id",
+                rs -> {
+                    int[] delta = deltas.computeIfAbsent(rs.getLong(1), id -> new int[2]);
+                    delta[0] += rs.getInt(2);
+                    delta[1] += rs.getInt(2);
+                },
+                ids);
+
+        statisticsService.applyAttendanceDeltas(deltas.entrySet().stream()
+                .map(entry -> new UserStatisticsService.AttendanceDelta(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                .toList());
+        return meetingIds.size();
+    }
+}
@@ -0,0 +1,232 @@
+package com.mogacko.mogacko.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mogacko.mogacko.entity.GroupChat;
+import com.mogacko.mogacko.entity.GroupChatArchive;
+import com.mogacko.mogacko.entity.StudyGroup;
+import com.mogacko.mogacko.repository.GroupChatArchiveRepository;
+import com.mogacko.mogacko.repository.GroupChatRepository;
+import com.mogacko.mogacko.repository.StudyGroupRepository;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 그룹 채팅을 월 단위로 압축 아카이브 테이블로 옮기고, 그룹별 보관 기간이 지난 메시지를 일괄 삭제합니다.
+ * 최근 chat.archive.hot-months 개월의 메시지만 group_chats에 남기므로 조회/집계 쿼리가 다루는 행 수가 일정하게 유지됩니다.
+ */
+@Slf4j
+@Service
+public class ChatArchiveService {
+
+    private static final int ARCHIVE_CHUNK_SIZE = 1000;
+    private static final int ARCHIVE_READ_BATCH = 4;
+
+    private final GroupChatRepository chatRepository;
+    private final GroupChatArchiveRepository archiveRepository;
+    private final StudyGroupRepository groupRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int hotMonths;
+
+    public ChatArchiveService(GroupChatRepository chatRepository,
+                              GroupChatArchiveRepository archiveRepository,
+                              StudyGroupRepository groupRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${chat.archive.hot-months:3}") int hotMonths) {
+        this.chatRepository = chatRepository;
+        this.archiveRepository = archiveRepository;
+        this.groupRepository = groupRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.hotMonths = hotMonths;
+    }
+
+    /**
+     * hot 보관 기간이 지난 월의 채팅을 그룹/월 단위 묶음으로 압축해 아카이브로 옮깁니다.
+     * 묶음 하나(최대 1000건)마다 별도 트랜잭션으로 INSERT 후 원본을 삭제하므로 중간에 실패해도 중복/유실이 없습니다.
+     */
+    @Scheduled(cron = "${chat.archive.cron:0 30 3 * * *}")
+    public void archiveOldChats() {
+        LocalDateTime cutoff = YearMonth.now().minusMonths(hotMonths).atDay(1).atStartOfDay();
+
+        int archived = 0;
+        for (Long groupId : chatRepository.findGroupIdsWithChatsBefore(cutoff)) {
+            Integer moved;
+            do {
+                moved = transactionTemplate.execute(status -> archiveNextChunk(groupId, cutoff));
+                archived += moved != null ? moved : 0;
+            } while (moved != null && moved > 0);
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} group chats sent before {}", archived, cutoff);
+        }
+    }
+
+    /**
+     * 보관 기간(chatRetentionDays)이 설정된 그룹의 만료된 메시지를 그룹마다 한 번의 DELETE로 정리합니다.
+     * 아카이브 묶음은 묶음 내 마지막 메시지까지 만료되었을 때 삭제됩니다.
+     */
+    @Scheduled(cron = "${chat.retention.cron:0 0 4 * * *}")
+    public void pruneExpiredChats() {
+        for (StudyGroup group : groupRepository.findByChatRetentionDaysIsNotNull()) {
+            // 검증 이전에 저장된 잘못된 값이면 현재 메시지까지 지워질 수 있으므로 건너뜀
+            if (group.getChatRetentionDays() < 1) {
+                log.warn("Skipping chat pruning of group {}: invalid retention {} days",
+                        group.getGroupId(), group.getChatRetentionDays());
+                continue;
+            }
+            LocalDateTime cutoff = LocalDate.now().minusDays(group.getChatRetentionDays()).atStartOfDay();
+            Integer deleted = transactionTemplate.execute(status ->
+                    chatRepository.deleteExpired(group.getGroupId(), cutoff)
+                            + archiveRepository.deleteExpired(group.getGroupId(), cutoff));
+
+            if (deleted != null && deleted > 0) {
+                log.info("Pruned {} expired chat rows of group {}", deleted, group.getGroupId());
+            }
+        }
+    }
+
+    /**
+     * 커서보다 오래된 아카이브 메시지를 최신 순으로 조회합니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param beforeChatId 커서 (이 ID보다 작은 메시지만 조회)
+     * @param limit 최대 조회 건수
+     * @return 아카이브된 메시지 목록 (chatId 내림차순)
+     */
+    @Transactional(readOnly = true)
+    public List<ArchivedChat> findArchivedChatsBefore(Long groupId, Long beforeChatId, int limit) {
+        List<ArchivedChat> result = new ArrayList<>();
+        int page = 0;
+        List<GroupChatArchive> archives;
+        do {
+            archives = archiveRepository.findByGroupIdAndFirstChatIdLessThanOrderByLastChatIdDesc(
+                    groupId, beforeChatId, PageRequest.of(page++, ARCHIVE_READ_BATCH));
+
+            for (GroupChatArchive archive : archives) {
+                List<ArchivedChat> chats = decompress(archive.getPayload());
+                chats.sort(Comparator.comparing(ArchivedChat::getChatId).reversed());
+                for (ArchivedChat chat : chats) {
+                    if (chat.getChatId() < beforeChatId) {
+                        result.add(chat);
+                        if (result.size() == limit) {
+                            return result;
+                        }
+                    }
+                }
+            }
+        } while (archives.size() == ARCHIVE_READ_BATCH);
+
+        return result;
+    }
+
+    /**
+     * 그룹의 아카이브 메시지를 오래된 순으로 하나씩 넘깁니다 (내보내기용).
+     * 묶음을 하나씩 읽어 풀기 때문에 메모리에는 한 묶음만 올라갑니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param action 메시지마다 호출할 작업 (chatId 오름차순)
+     */
+    @Transactional(readOnly = true)
+    public void forEachArchivedChat(Long groupId, Consumer<ArchivedChat> action) {
+        try (Stream<byte[]> payloads = archiveRepository.streamPayloads(groupId)) {
+            payloads.forEach(payload -> {
+                List<ArchivedChat> chats = decompress(payload);
+                chats.sort(Comparator.comparing(ArchivedChat::getChatId));
+                chats.forEach(action);
+            });
+        }
+    }
+
+    private int archiveNextChunk(Long groupId, LocalDateTime cutoff) {
+        List<GroupChat> chats = chatRepository.findByGroupGroupIdAndSentAtBeforeOrderByChatIdAsc(
+                groupId, cutoff, PageRequest.of(0, ARCHIVE_CHUNK_SIZE));
+        if (chats.isEmpty()) {
+            return 0;
+        }
+
+        // 한 묶음에는 같은 월의 메시지만 담음
+        YearMonth period = YearMonth.from(chats.get(0).getSentAt());
+        List<GroupChat> chunk = chats.stream()
+                .filter(chat -> YearMonth.from(chat.getSentAt()).equals(period))
+                .toList();
+
+        List<ArchivedChat> archivedChats = chunk.stream()
+                .map(chat -> new ArchivedChat(chat.getChatId(), chat.getSender().getUserId(), chat.getMessage(), chat.getSentAt()))
+                .toList();
+
+        GroupChatArchive archive = GroupChatArchive.builder()
+                .groupId(groupId)
+                .period(period.toString())
+                .firstChatId(chunk.get(0).getChatId())
+                .lastChatId(chunk.get(chunk.size() - 1).getChatId())
+                .messageCount(chunk.size())
+                .firstSentAt(chunk.stream().map(GroupChat::getSentAt).min(Comparator.naturalOrder()).orElse(null))
+                .lastSentAt(chunk.stream().map(GroupChat::getSentAt).max(Comparator.naturalOrder()).orElse(null))
+                .payload(compress(archivedChats))
+                .build();
+
+        archiveRepository.save(archive);
+        chatRepository.deleteByChatIds(chunk.stream().map(GroupChat::getChatId).toList());
+
+        return chunk.size();
+    }
+
+    private byte[] compress(List<ArchivedChat> chats) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, chats);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<ArchivedChat> decompress(byte[] payload) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, new TypeReference<ArrayList<ArchivedChat>>() {});
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 아카이브 payload에 저장되는 채팅 메시지
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ArchivedChat {
+        private Long chatId;
+        private Long senderId;
+        private String message;
+        private LocalDateTime sentAt;
+    }
+}
@@ -0,0 +1,284 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.dto.GroupChatDto;
+import com.mogacko.mogacko.event.GroupChatSentEvent;
+import com.mogacko.mogacko.repository.StudyGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 그룹 채팅의 새 메시지를 SSE / long-poll 구독자에게 전달합니다.
+ * 대기 중인 구독자는 DB 커넥션을 잡지 않으며, 메시지 전송 이벤트로 깨어나 변경분만 받습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatStreamService {
+
+    private static final int BACKLOG_BATCH_SIZE = 100;
+    private static final long SSE_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    private final GroupChatService chatService;
+    private final StudyGroupRepository groupRepository;
+
+    // groupId -> 구독자 목록
+    private final Map<Long, Set<ChatSubscriber>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * SSE 스트림을 엽니다. 커서가 있으면 그 이후의 메시지를 먼저 전송합니다.
+     * 밀린 메시지가 {@value #BACKLOG_BATCH_SIZE}건 이상이면 그만큼만 보내고 backlog-truncated 이벤트와 함께 스트림을 닫습니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param afterChatId 마지막으로 받은 채팅 ID (없으면 새 메시지만 전송)
+     * @return SSE emitter (그룹이 없으면 null)
+     */
+    public SseEmitter openStream(Long groupId, Long afterChatId) {
+        if (!groupRepository.existsById(groupId)) {
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        SseSubscriber subscriber = new SseSubscriber(emitter, afterChatId);
+
+        // backlog 조회 전에 먼저 등록해야 그 사이 전송된 메시지를 놓치지 않음
+        // 그 사이 도착한 메시지는 backlog 전송이 끝날 때까지 구독자에 버퍼링됨 (중복은 chatId로 걸러짐)
+        subscribe(groupId, subscriber);
+        emitter.onCompletion(() -> unsubscribe(groupId, subscriber));
+        emitter.onTimeout(() -> unsubscribe(groupId, subscriber));
+        emitter.onError(e -> unsubscribe(groupId, subscriber));
+
+        if (afterChatId != null) {
+            List<GroupChatDto> backlog;
+            try {
+                backlog = chatService.getChatsAfter(groupId, afterChatId, BACKLOG_BATCH_SIZE);
+            } catch (RuntimeException e) {
+                unsubscribe(groupId, subscriber);
+                throw e;
+            }
+
+            if (backlog.size() < BACKLOG_BATCH_SIZE) {
+                if (subscriber.replay(backlog)) {
+                    subscriber.finishReplay();
+                }
+            } else {
+                // 밀린 메시지가 한 배치를 넘으면 한 배치만 보내고 연결을 닫음
+                // (미전송 이벤트가 응답 버퍼에 쌓여 힙을 차지하지 않도록, 나머지는 재연결로 이어서 받음)
+                unsubscribe(groupId, subscriber);
+                subscriber.replayTruncated(backlog);
+            }
+        }
+
+        return emitter;
+    }
+
+    /**
+     * 커서 이후의 메시지가 생길 때까지 응답을 보류합니다 (long-poll).
+     * 이미 새 메시지가 있으면 즉시, 없으면 새 메시지 도착 또는 타임아웃 시 응답합니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param afterChatId 마지막으로 받은 채팅 ID
+     * @param timeoutMillis 최대 대기 시간
+     * @return 새 메시지 목록 (타임아웃 시 빈 목록)
+     */
+    public DeferredResult<ResponseEntity<List<GroupChatDto>>> poll(Long groupId, Long afterChatId, long timeoutMillis) {
+        DeferredResult<ResponseEntity<List<GroupChatDto>>> result =
+                new DeferredResult<>(timeoutMillis, ResponseEntity.ok(List.of()));
+
+        if (!groupRepository.existsById(groupId)) {
+            result.setResult(ResponseEntity.notFound().build());
+            return result;
+        }
+
+        LongPollSubscriber subscriber = new LongPollSubscriber(result, afterChatId);
+        subscribe(groupId, subscriber);
+        result.onCompletion(() -> unsubscribe(groupId, subscriber));
+
+        if (afterChatId != null) {
+            subscriber.deliver(chatService.getChatsAfter(groupId, afterChatId, BACKLOG_BATCH_SIZE));
+        }
+
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChatSent(GroupChatSentEvent event) {
+        GroupChatDto chat = event.getChat();
+        Set<ChatSubscriber> groupSubscribers = subscribers.get(chat.getGroupId());
+        if (groupSubscribers == null) {
+            return;
+        }
+
+        List<GroupChatDto> delta = List.of(chat);
+        for (ChatSubscriber subscriber : groupSubscribers) {
+            if (!subscriber.deliver(delta)) {
+                unsubscribe(chat.getGroupId(), subscriber);
+            }
+        }
+    }
+
+    // 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 heartbeat 전송
+    @Scheduled(fixedRate = 20000)
+    public void sendHeartbeats() {
+        subscribers.forEach((groupId, groupSubscribers) -> {
+            for (ChatSubscriber subscriber : groupSubscribers) {
+                if (subscriber instanceof SseSubscriber sse && !sse.heartbeat()) {
+                    unsubscribe(groupId, subscriber);
+                }
+            }
+        });
+    }
+
+    private void subscribe(Long groupId, ChatSubscriber subscriber) {
+        subscribers.computeIfAbsent(groupId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+    }
+
+    private void unsubscribe(Long groupId, ChatSubscriber subscriber) {
+        subscribers.computeIfPresent(groupId, (id, groupSubscribers) -> {
+            groupSubscribers.remove(subscriber);
+            return groupSubscribers.isEmpty() ? null : groupSubscribers;
+        });
+    }
+
+    private interface ChatSubscriber {
+        /**
+         * @return 구독이 계속 유효하면 true
+         */
+        boolean deliver(List<GroupChatDto> chats);
+    }
+
+    private static class SseSubscriber implements ChatSubscriber {
+        private final SseEmitter emitter;
+        private long lastDeliveredId;
+        private boolean closed;
+        // backlog 전송 중 도착한 실시간 메시지 (chatId 순), backlog 전송이 끝나면 null
+        private TreeMap<Long, GroupChatDto> pending;
+
+        SseSubscriber(SseEmitter emitter, Long afterChatId) {
+            this.emitter = emitter;
+            this.lastDeliveredId = afterChatId != null ? afterChatId : Long.MIN_VALUE;
+            this.pending = afterChatId != null ? new TreeMap<>() : null;
+        }
+
+        @Override
+        public synchronized boolean deliver(List<GroupChatDto> chats) {
+            if (closed) {
+                return false;
+            }
+
+            // 먼저 보내면 lastDeliveredId가 앞서 나가 아직 보내지 않은 backlog가 걸러짐
+            if (pending != null) {
+                chats.forEach(chat -> pending.put(chat.getChatId(), chat));
+                return true;
+            }
+            return send(chats);
+        }
+
+        synchronized boolean replay(List<GroupChatDto> backlog) {
+            return !closed && send(backlog);
+        }
+
+        /**
+         * backlog 한 배치를 보내고 남은 메시지가 있음을 알린 뒤 스트림을 닫습니다.
+         * EventSource는 마지막 id를 Last-Event-ID로 보내며 자동 재연결하므로 다음 배치부터 이어서 받습니다.
+         */
+        synchronized void replayTruncated(List<GroupChatDto> backlog) {
+            if (closed || !send(backlog)) {
+                return;
+            }
+
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("backlog-truncated")
+                        .data(lastDeliveredId));
+                closed = true;
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                closed = true;
+                emitter.completeWithError(e);
+            }
+        }
+
+        // backlog 전송이 끝나면 버퍼링한 메시지를 이어서 보내고 실시간 전송으로 전환
+        synchronized boolean finishReplay() {
+            List<GroupChatDto> buffered = new ArrayList<>(pending.values());
+            pending = null;
+            return !closed && send(buffered);
+        }
+
+        private boolean send(List<GroupChatDto> chats) {
+            try {
+                for (GroupChatDto chat : chats) {
+                    if (chat.getChatId() <= lastDeliveredId) {
+                        continue;
+                    }
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(chat.getChatId()))
+                            .name("chat")
+                            .data(chat));
+                    lastDeliveredId = chat.getChatId();
+                }
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                closed = true;
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+
+        synchronized boolean heartbeat() {
+            if (closed) {
+                return false;
+            }
+
+            try {
+                emitter.send(SseEmitter.event().comment("keepalive"));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                closed = true;
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+
+    private static class LongPollSubscriber implements ChatSubscriber {
+        private final DeferredResult<ResponseEntity<List<GroupChatDto>>> result;
+        private final long afterChatId;
+
+        LongPollSubscriber(DeferredResult<ResponseEntity<List<GroupChatDto>>> result, Long afterChatId) {
+            this.result = result;
+            this.afterChatId = afterChatId != null ? afterChatId : Long.MIN_VALUE;
+        }
+
+        @Override
+        public boolean deliver(List<GroupChatDto> chats) {
+            List<GroupChatDto> delta = chats.stream()
+                    .filter(chat -> chat.getChatId() > afterChatId)
+                    .collect(Collectors.toList());
+
+            if (delta.isEmpty()) {
+                return !result.isSetOrExpired();
+            }
+
+            // 한 번 응답하면 구독 종료
+            result.setResult(ResponseEntity.ok(delta));
+            return false;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.dto.GroupChatDto;
+import com.mogacko.mogacko.dto.UnreadChatCountDto;
+import com.mogacko.mogacko.event.GroupChatSentEvent;
+import com.mogacko.mogacko.event.GroupMembershipChangedEvent;
+import com.mogacko.mogacko.repository.GroupChatRepository;
+import com.mogacko.mogacko.repository.GroupMemberRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 그룹 채팅의 안 읽은 메시지 수를 관리합니다.
+ * 사용자별로 처음 조회할 때 한 번의 집계 쿼리로 적재한 뒤에는 메시지 전송 이벤트로 메모리에서 증감하고,
+ * 읽음 커서(last_read_chat_id)는 변경분만 모아 주기적으로 DB에 일괄 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatUnreadService {
+
+    private static final long USER_STATE_TTL_MILLIS = 5 * 60 * 1000L;
+    private static final long USER_STATE_IDLE_MILLIS = 30 * 60 * 1000L;
+
+    private static final String CHECKPOINT_SQL =
+            "UPDATE group_members SET last_read_chat_id = ? " +
+            "WHERE group_id = ? AND user_id = ? AND (last_read_chat_id IS NULL OR last_read_chat_id < ?)";
+
+    private final GroupMemberRepository memberRepository;
+    private final GroupChatRepository chatRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // groupId -> (userId -> 카운터)
+    private final Map<Long, Map<Long, UnreadCounter>> countersByGroup = new ConcurrentHashMap<>();
+    // userId -> 적재된 사용자 상태
+    private final Map<Long, LoadedUser> loadedUsers = new ConcurrentHashMap<>();
+    // groupId -> 알려진 최신 채팅 ID
+    private final Map<Long, Long> latestChatIds = new ConcurrentHashMap<>();
+    // DB에 아직 반영되지 않은 읽음 커서
+    private final Set<UnreadCounter> dirtyCounters = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 사용자가 속한 모든 활성 그룹의 안 읽은 메시지 수를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 그룹별 안 읽은 메시지 수
+     */
+    public List<UnreadChatCountDto> getUnreadCounts(Long userId) {
+        LoadedUser user = loadUser(userId);
+
+        List<UnreadChatCountDto> result = new ArrayList<>();
+        for (Long groupId : user.groupIds) {
+            UnreadCounter counter = findCounter(groupId, userId);
+            if (counter != null) {
+                result.add(counter.toDto(latestChatIds.get(groupId)));
+            }
+        }
+        result.sort(Comparator.comparing(UnreadChatCountDto::getGroupId));
+        return result;
+    }
+
+    /**
+     * 채팅을 지정한 메시지까지 읽음 처리합니다.
+     *
+     * @param userId 사용자 ID
+     * @param groupId 스터디 그룹 ID
+     * @param chatId 마지막으로 읽은 채팅 ID (없으면 최신 메시지까지)
+     * @return 갱신된 안 읽은 메시지 수 (그룹의 활성 멤버가 아니면 null)
+     */
+    public UnreadChatCountDto markAsRead(Long userId, Long groupId, Long chatId) {
+        loadUser(userId);
+        UnreadCounter counter = findCounter(groupId, userId);
+        if (counter == null) {
+            return null;
+        }
+
+        long latest = latestChatIds.getOrDefault(groupId, 0L);
+        // 존재하지 않는 미래의 ID로 커서를 옮겨 이후 메시지가 가려지지 않도록 최신 ID로 제한
+        long target = chatId == null ? latest : Math.min(chatId, latest);
+
+        synchronized (counter) {
+            if (target <= counter.lastReadChatId) {
+                return counter.toDto(latest);
+            }
+            long unread = target >= latest ? 0 : chatRepository.countUnread(groupId, userId, target);
+            counter.lastReadChatId = target;
+            counter.unreadCount = unread;
+        }
+        dirtyCounters.add(counter);
+
+        return counter.toDto(latest);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChatSent(GroupChatSentEvent event) {
+        GroupChatDto chat = event.getChat();
+        latestChatIds.merge(chat.getGroupId(), chat.getChatId(), Math::max);
+
+        Map<Long, UnreadCounter> counters = countersByGroup.get(chat.getGroupId());
+        if (counters == null) {
+            return;
+        }
+
+        for (UnreadCounter counter : counters.values()) {
+            synchronized (counter) {
+                if (chat.getChatId() <= counter.countedUpTo) {
+                    continue;
+                }
+                counter.countedUpTo = chat.getChatId();
+                if (counter.userId.equals(chat.getSenderId())) {
+                    // 본인이 보낸 메시지는 그 시점까지 읽은 것으로 간주
+                    counter.lastReadChatId = chat.getChatId();
+                    counter.unreadCount = 0;
+                    dirtyCounters.add(counter);
+                } else {
+                    counter.unreadCount++;
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(GroupMembershipChangedEvent event) {
+        // 다음 조회 시 멤버십을 포함해 다시 적재
+        loadedUsers.remove(event.getUserId());
+    }
+
+    /**
+     * 변경된 읽음 커서를 한 번의 배치 UPDATE로 DB에 반영합니다.
+     * 커서는 뒤로 이동하지 않으므로 여러 인스턴스가 같은 행을 갱신해도 안전합니다.
+     */
+    @Scheduled(fixedDelayString = "${chat.unread.checkpoint-interval-ms:10000}")
+    public void checkpoint() {
+        flush(new ArrayList<>(dirtyCounters));
+        evictIdleUsers();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush(new ArrayList<>(dirtyCounters));
+    }
+
+    private void flush(List<UnreadCounter> counters) {
+        if (counters.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(counters.size());
+        for (UnreadCounter counter : counters) {
+            dirtyCounters.remove(counter);
+            long lastRead;
+            synchronized (counter) {
+                lastRead = counter.lastReadChatId;
+            }
+            batchArgs.add(new Object[]{lastRead, counter.groupId, counter.userId, lastRead});
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(CHECKPOINT_SQL, batchArgs);
+        } catch (RuntimeException e) {
+            // 다음 체크포인트에서 다시 시도
+            dirtyCounters.addAll(counters);
+            log.warn("Failed to checkpoint {} chat read cursors", counters.size(), e);
+        }
+    }
+
+    private LoadedUser loadUser(Long userId) {
+        LoadedUser loaded = loadedUsers.get(userId);
+        long now = System.currentTimeMillis();
+        if (loaded != null && now - loaded.loadedAt < USER_STATE_TTL_MILLIS) {
+            loaded.lastAccessedAt = now;
+            return loaded;
+        }
+
+        // 아직 반영되지 않은 커서가 있으면 먼저 반영해야 DB 집계와 어긋나지 않음
+        flush(dirtyCounters.stream().filter(counter -> counter.userId.equals(userId)).toList());
+        removeCounters(userId);
+
+        List<UnreadChatCountDto> rows = memberRepository.findUnreadChatCounts(userId);
+        LoadedUser user = new LoadedUser(now);
+        for (UnreadChatCountDto row : rows) {
+            long lastRead = row.getLastReadChatId() != null ? row.getLastReadChatId() : 0L;
+            long latest = Math.max(lastRead, row.getLatestChatId() != null ? row.getLatestChatId() : 0L);
+            latestChatIds.merge(row.getGroupId(), latest, Math::max);
+
+            UnreadCounter counter = new UnreadCounter(row.getGroupId(), userId, lastRead, row.getUnreadCount(), latest);
+            countersByGroup.computeIfAbsent(row.getGroupId(), id -> new ConcurrentHashMap<>()).put(userId, counter);
+            user.groupIds.add(row.getGroupId());
+        }
+        loadedUsers.put(userId, user);
+        return user;
+    }
+
+    private void evictIdleUsers() {
+        long now = System.currentTimeMillis();
+        loadedUsers.entrySet().removeIf(entry -> {
+            if (now - entry.getValue().lastAccessedAt < USER_STATE_IDLE_MILLIS) {
+                return false;
+            }
+            removeCounters(entry.getKey());
+            return true;
+        });
+    }
+
+    private void removeCounters(Long userId) {
+        countersByGroup.forEach((groupId, counters) -> counters.remove(userId));
+        countersByGroup.values().removeIf(Map::isEmpty);
+    }
+
+    private UnreadCounter findCounter(Long groupId, Long userId) {
+        Map<Long, UnreadCounter> counters = countersByGroup.get(groupId);
+        return counters != null ? counters.get(userId) : null;
+    }
+
+    private static class UnreadCounter {
+        private final Long groupId;
+        private final Long userId;
+        private long lastReadChatId;
+        private long unreadCount;
+        // 카운트에 반영된 마지막 채팅 ID (이벤트 중복 반영 방지)
+        private long countedUpTo;
+
+        UnreadCounter(Long groupId, Long userId, long lastReadChatId, long unreadCount, long countedUpTo) {
+            this.groupId = groupId;
+            this.userId = userId;
+            this.lastReadChatId = lastReadChatId;
+            this.unreadCount = unreadCount;
+            this.countedUpTo = countedUpTo;
+        }
+
+        synchronized UnreadChatCountDto toDto(Long latestChatId) {
+            return UnreadChatCountDto.builder()
+                    .groupId(groupId)
+                    .lastReadChatId(lastReadChatId > 0 ? lastReadChatId : null)
+                    .unreadCount(unreadCount)
+                    .latestChatId(latestChatId)
+                    .build();
+        }
+    }
+
+    private static class LoadedUser {
+        private final long loadedAt;
+        private volatile long lastAccessedAt;
+        private final Set<Long> groupIds = ConcurrentHashMap.newKeySet();
+
+        LoadedUser(long loadedAt) {
+            this.loadedAt = loadedAt;
+            this.lastAccessedAt = loadedAt;
+        }
+    }
+}
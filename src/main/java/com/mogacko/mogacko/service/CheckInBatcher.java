@@ -0,0 +1,212 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.entity.CodedEnum;
+import com.mogacko.mogacko.entity.ParticipantStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 출석 기록을 모아 UPDATE 한 문장으로 반영합니다.
+ * 요청은 큐에 쌓이고, 쓰기 중인 스레드가 없으면 요청한 스레드가 직접 큐를 비우며 반영합니다 (그룹 커밋).
+ * 반영하는 동안 들어온 요청은 다음 배치로 함께 처리되므로, 한 모임에 출석이 몰리면 배치가 커지고 요청마다 쓰지 않습니다.
+ * 배치는 요청한 쪽 트랜잭션과 별개의 트랜잭션에서 반영됩니다. 오프라인 출석 일괄 업로드는 이미 모여 있으므로 큐를 거치지 않습니다.
+ */
+@Slf4j
+@Component
+public class CheckInBatcher {
+
+    private static final short ATTENDED = ParticipantStatus.ATTENDED.getCode();
+    private static final short REGISTERED = ParticipantStatus.REGISTERED.getCode();
+    private static final short ABSENT = ParticipantStatus.ABSENT.getCode();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final int maxBatchSize;
+    private final long timeoutMillis;
+
+    private final ConcurrentLinkedQueue<PendingCheckIn> queue = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock writing = new ReentrantLock();
+
+    public CheckInBatcher(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${check-in.batch.max-size:500}") int maxBatchSize,
+                          @Value("${check-in.batch.timeout-ms:5000}") long timeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 참가 확정자(REGISTERED)를 출석(ATTENDED)으로 바꿉니다. 이미 출석했으면 출석 시각을 바꾸지 않고 성공으로 봅니다.
+     * 제한 시간 안에 반영되지 않으면 PENDING을 반환합니다. 요청은 큐에 남아 나중에 반영될 수 있으며, 출석 처리는 멱등이므로 다시 요청해도 안전합니다.
+     *
+     * @param meetingId 모임 ID
+     * @param userId 사용자 ID
+     * @param checkInTime 출석 시각
+     * @return 처리 결과
+     */
+    public Outcome checkIn(Long meetingId, Long userId, LocalDateTime checkInTime) {
+        PendingCheckIn pending = new PendingCheckIn(meetingId, userId, checkInTime, new CompletableFuture<>());
+        queue.add(pending);
+        drain();
+        return await(pending.result());
+    }
+
+    /**
+     * 여러 출석 기록을 큐를 거치지 않고 호출한 쪽 트랜잭션에서 UPDATE 한 문장으로 반영합니다 (오프라인 출석 일괄 업로드용).
+     * 참가 확정자와 이미 출석한 참가자 외에, 출석이 확정되어 결석(ABSENT) 처리된 참가자도 출석으로 바꿉니다.
+     *
+     * @param checkIns (모임, 사용자) -> 출석 시각
+     * @return 출석 처리된 (모임, 사용자) -> 바뀌기 전 상태
+     */
+    public Map<CheckInKey, ParticipantStatus> checkInAll(Map<CheckInKey, LocalDateTime> checkIns) {
+        if (checkIns.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<CheckInKey, ParticipantStatus> attended = new HashMap<>();
+        // 바뀌기 전 상태를 돌려받기 위해 대상 행을 하위 쿼리에서 잠그고 읽음
+        jdbcTemplate.query(
+                "UPDATE meeting_participants mp SET status_code = " + ATTENDED + ", " +
+                        "check_in_time = COALESCE(mp.check_in_time, x.check_in_time) " +
+                        "FROM (SELECT p.participant_id, p.status_code AS previous_status, c.check_in_time " +
+                        "FROM meeting_participants p JOIN (VALUES " + values(checkIns.size()) + ") " +
+                        "AS c(meeting_id, user_id, check_in_time) ON p.meeting_id = c.meeting_id AND p.user_id = c.user_id " +
+                        "WHERE p.status_code IN (" + REGISTERED + ", " + ATTENDED + ", " + ABSENT + ") FOR UPDATE OF p) AS x " +
+                        "WHERE mp.participant_id = x.participant_id " +
+                        "RETURNING mp.meeting_id, mp.user_id, x.previous_status",
+                rs -> {
+                    attended.put(new CheckInKey(rs.getLong(1), rs.getLong(2)),
+                            CodedEnum.fromCode(ParticipantStatus.class, rs.getShort(3)));
+                },
+                args(checkIns));
+        return attended;
+    }
+
+    // 쓰기 중인 스레드가 없으면 큐가 빌 때까지 배치 단위로 반영. 잠금을 놓은 뒤에도 큐를 다시 확인해 남은 요청이 없게 함
+    private void drain() {
+        while (!queue.isEmpty() && writing.tryLock()) {
+            try {
+                List<PendingCheckIn> batch;
+                while (!(batch = poll()).isEmpty()) {
+                    write(batch);
+                }
+            } finally {
+                writing.unlock();
+            }
+        }
+    }
+
+    private List<PendingCheckIn> poll() {
+        List<PendingCheckIn> batch = new ArrayList<>();
+        PendingCheckIn pending;
+        while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+            batch.add(pending);
+        }
+        return batch;
+    }
+
+    private void write(List<PendingCheckIn> batch) {
+        // 같은 (모임, 사용자) 요청은 가장 이른 출석 시각 하나로 합침
+        Map<CheckInKey, LocalDateTime> checkIns = new LinkedHashMap<>();
+        for (PendingCheckIn pending : batch) {
+            checkIns.merge(new CheckInKey(pending.meetingId(), pending.userId()), pending.checkInTime(),
+                    (a, b) -> a.isBefore(b) ? a : b);
+        }
+
+        try {
+            Set<CheckInKey> attended = requiresNew.execute(status -> update(checkIns));
+            for (PendingCheckIn pending : batch) {
+                pending.result().complete(attended != null
+                        && attended.contains(new CheckInKey(pending.meetingId(), pending.userId())));
+            }
+            log.debug("Wrote {} check-ins ({} requests)", checkIns.size(), batch.size());
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+
+    private Set<CheckInKey> update(Map<CheckInKey, LocalDateTime> checkIns) {
+        Set<CheckInKey> attended = new HashSet<>();
+        jdbcTemplate.query(
+                "UPDATE meeting_participants mp SET status_code = " + ATTENDED + ", " +
+                        "check_in_time = COALESCE(mp.check_in_time, c.check_in_time) " +
+                        "FROM (VALUES " + values(checkIns.size()) + ") " +
+                        "AS c(meeting_id, user_id, check_in_time) " +
+                        "WHERE mp.meeting_id = c.meeting_id AND mp.user_id = c.user_id " +
+                        "AND mp.status_code IN (" + REGISTERED + ", " + ATTENDED + ") " +
+                        "RETURNING mp.meeting_id, mp.user_id",
+                rs -> {
+                    attended.add(new CheckInKey(rs.getLong(1), rs.getLong(2)));
+                },
+                args(checkIns));
+        return attended;
+    }
+
+    private String values(int rows) {
+        return String.join(", ", Collections.nCopies(rows, "(?, ?, CAST(? AS TIMESTAMP))"));
+    }
+
+    private Object[] args(Map<CheckInKey, LocalDateTime> checkIns) {
+        List<Object> args = new ArrayList<>(checkIns.size() * 3);
+        checkIns.forEach((key, checkInTime) ->
+                Collections.addAll(args, key.meetingId(), key.userId(), Timestamp.valueOf(checkInTime)));
+        return args.toArray();
+    }
+
+    private Outcome await(CompletableFuture<Boolean> result) {
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS) ? Outcome.ATTENDED : Outcome.REJECTED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for check-in", e);
+        } catch (TimeoutException e) {
+            log.warn("Check-in was not written in {}ms", timeoutMillis);
+            return Outcome.PENDING;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime
+                    ? runtime
+                    : new IllegalStateException(e.getCause());
+        }
+    }
+
+    public record CheckInKey(long meetingId, long userId) {
+    }
+
+    /**
+     * 출석 요청 처리 결과
+     */
+    public enum Outcome {
+        ATTENDED, // 출석 처리됨 (이미 출석한 경우 포함)
+        REJECTED, // 참가 확정자가 아님 (참가자가 아니거나 대기/결석 상태)
+        PENDING   // 제한 시간 안에 반영되지 않음 (나중에 반영될 수 있음)
+    }
+
+    private record PendingCheckIn(Long meetingId, Long userId, LocalDateTime checkInTime,
+                                  CompletableFuture<Boolean> result) {
+    }
+}
@@ -0,0 +1,329 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.dto.*;
+import com.mogacko.mogacko.entity.*;
+import com.mogacko.mogacko.event.GroupGoalChangedEvent;
+import com.mogacko.mogacko.event.GroupMembershipChangedEvent;
+import com.mogacko.mogacko.event.GroupNoticeChangedEvent;
+import com.mogacko.mogacko.event.MeetingChangedEvent;
+import com.mogacko.mogacko.event.UserProfileChangedEvent;
+import com.mogacko.mogacko.repository.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 홈 화면 대시보드를 한 번의 요청으로 구성합니다.
+ * 프로필/통계/그룹 목록과 그룹별 모임·공지·목표를 서로 독립적인 섹션으로 나누어 병렬로 조회하고,
+ * 각 섹션은 그룹 수와 관계없이 고정된 개수의 배치 쿼리로 읽은 뒤 짧은 시간 동안 캐시합니다.
+ * 그룹 목록, 모임, 공지, 목표, 프로필 섹션은 변경 이벤트가 커밋되면 바로 무효화됩니다.
+ */
+@Service
+public class DashboardService {
+
+    private static final int UPCOMING_MEETING_DAYS = 30;
+    private static final int UPCOMING_MEETINGS_PER_GROUP = 3;
+
+    private final UserService userService;
+    private final UserStatisticsService statisticsService;
+    private final GroupMemberRepository memberRepository;
+    private final MeetingRepository meetingRepository;
+    private final MeetingParticipantRepository participantRepository;
+    private final GroupNoticeRepository noticeRepository;
+    private final GroupGoalRepository goalRepository;
+    private final GroupGoalDetailRepository goalDetailRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final ParallelReader parallelReader;
+    private final long sectionTimeoutMillis;
+
+    // userId 단위 섹션
+    private final TtlCache<Long, UserProfileDto> profileCache;
+    private final TtlCache<Long, UserStatisticsDto> statisticsCache;
+    private final TtlCache<Long, List<StudyGroupDto>> groupsCache;
+    // groupId 단위 섹션
+    private final TtlCache<Long, List<MeetingDto>> meetingsCache;
+    private final TtlCache<Long, Optional<GroupNoticeDto>> noticeCache;
+    private final TtlCache<Long, List<GroupGoalDto>> goalsCache;
+
+    public DashboardService(UserService userService,
+                            UserStatisticsService statisticsService,
+                            GroupMemberRepository memberRepository,
+                            MeetingRepository meetingRepository,
+                            MeetingParticipantRepository participantRepository,
+                            GroupNoticeRepository noticeRepository,
+                            GroupGoalRepository goalRepository,
+                            GroupGoalDetailRepository goalDetailRepository,
+                            UserProfileRepository userProfileRepository,
+                            ParallelReader parallelReader,
+                            @Value("${dashboard.cache-ttl-ms:30000}") long cacheTtlMillis,
+                            @Value("${dashboard.section-timeout-ms:3000}") long sectionTimeoutMillis) {
+        this.userService = userService;
+        this.statisticsService = statisticsService;
+        this.memberRepository = memberRepository;
+        this.meetingRepository = meetingRepository;
+        this.participantRepository = participantRepository;
+        this.noticeRepository = noticeRepository;
+        this.goalRepository = goalRepository;
+        this.goalDetailRepository = goalDetailRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.parallelReader = parallelReader;
+        this.sectionTimeoutMillis = sectionTimeoutMillis;
+
+        this.profileCache = new TtlCache<>(cacheTtlMillis);
+        this.statisticsCache = new TtlCache<>(cacheTtlMillis);
+        this.groupsCache = new TtlCache<>(cacheTtlMillis);
+        this.meetingsCache = new TtlCache<>(cacheTtlMillis);
+        this.noticeCache = new TtlCache<>(cacheTtlMillis);
+        this.goalsCache = new TtlCache<>(cacheTtlMillis);
+    }
+
+    /**
+     * 사용자의 대시보드를 조회합니다.
+     * 제한 시간 안에 조회하지 못한 섹션은 비워 두고 나머지 섹션을 반환합니다.
+     *
+     * @param user 현재 사용자
+     * @return 대시보드 정보
+     */
+    public DashboardDto getDashboard(User user) {
+        Long userId = user.getUserId();
+
+        CompletableFuture<UserProfileDto> profile = fetch("profile",
+                () -> profileCache.get(userId, () -> userService.getUserProfile(user)), null);
+        CompletableFuture<UserStatisticsDto> statistics = fetch("statistics",
+                () -> statisticsCache.get(userId, () -> statisticsService.findUserStatistics(user)), null);
+        List<StudyGroupDto> groups = fetch("groups",
+                () -> groupsCache.get(userId, () -> loadGroups(userId)), List.<StudyGroupDto>of()).join();
+
+        List<Long> groupIds = groups.stream().map(StudyGroupDto::getGroupId).toList();
+
+        // 그룹 목록이 정해지면 그룹별 섹션도 서로 독립적이므로 병렬로 조회
+        CompletableFuture<Map<Long, List<MeetingDto>>> meetings = fetch("meetings",
+                () -> meetingsCache.getAll(groupIds, this::loadUpcomingMeetings), Map.of());
+        CompletableFuture<Map<Long, Optional<GroupNoticeDto>>> notices = fetch("notices",
+                () -> noticeCache.getAll(groupIds, this::loadLatestNotices), Map.of());
+        CompletableFuture<Map<Long, List<GroupGoalDto>>> goals = fetch("goals",
+                () -> goalsCache.getAll(groupIds, this::loadOngoingGoals), Map.of());
+
+        List<DashboardGroupDto> ownedGroups = new ArrayList<>();
+        List<DashboardGroupDto> joinedGroups = new ArrayList<>();
+        for (StudyGroupDto group : groups) {
+            DashboardGroupDto dashboardGroup = DashboardGroupDto.builder()
+                    .group(group)
+                    .upcomingMeetings(meetings.join().getOrDefault(group.getGroupId(), List.of()))
+                    .latestNotice(notices.join().getOrDefault(group.getGroupId(), Optional.empty()).orElse(null))
+                    .goals(goals.join().getOrDefault(group.getGroupId(), List.of()))
+                    .build();
+
+            if (userId.equals(group.getCreatorId())) {
+                ownedGroups.add(dashboardGroup);
+            } else {
+                joinedGroups.add(dashboardGroup);
+            }
+        }
+
+        return DashboardDto.builder()
+                .profile(profile.join())
+                .statistics(statistics.join())
+                .ownedGroups(ownedGroups)
+                .joinedGroups(joinedGroups)
+                .build();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(GroupMembershipChangedEvent event) {
+        groupsCache.evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        meetingsCache.evict(event.getGroupId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNoticeChanged(GroupNoticeChangedEvent event) {
+        noticeCache.evict(event.getGroupId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGoalChanged(GroupGoalChangedEvent event) {
+        goalsCache.evict(event.getGroupId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        profileCache.evict(event.getUserId());
+    }
+
+    @Scheduled(fixedRate = 60000)
+    public void evictExpiredSections() {
+        profileCache.evictExpired();
+        statisticsCache.evictExpired();
+        groupsCache.evictExpired();
+        meetingsCache.evictExpired();
+        noticeCache.evictExpired();
+        goalsCache.evictExpired();
+    }
+
+    // 실패/시간 초과한 섹션은 기본값으로 대체
+    private <T> CompletableFuture<T> fetch(String section, Supplier<T> loader, T fallback) {
+        return parallelReader.submitOrDefault("dashboard." + section, loader, fallback, sectionTimeoutMillis);
+    }
+
+    private List<StudyGroupDto> loadGroups(Long userId) {
+        List<StudyGroup> groups = memberRepository.findActiveMembershipsWithGroup(userId).stream()
+                .map(GroupMember::getGroup)
+                .sorted(Comparator.comparing(StudyGroup::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
+        if (groups.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> memberCounts = toCountMap(memberRepository.countActiveMembersByGroupIds(
+                groups.stream().map(StudyGroup::getGroupId).toList()));
+        Map<Long, String> creatorNames = findNames(groups.stream().map(group -> group.getCreator().getUserId()));
+
+        return groups.stream()
+                .map(group -> StudyGroupDto.builder()
+                        .groupId(group.getGroupId())
+                        .creatorId(group.getCreator().getUserId())
+                        .creatorName(creatorNames.getOrDefault(group.getCreator().getUserId(), ""))
+                        .title(group.getTitle())
+                        .interestName(group.getInterest().getInterestName())
+                        .description(group.getDescription())
+                        .locationName(group.getLocationName())
+                        .maxMembers(group.getMaxMembers())
+                        .currentMembers(memberCounts.getOrDefault(group.getGroupId(), 0L).intValue())
+                        .requirements(group.getRequirements())
+                        .isActive(group.getIsActive())
+                        .chatRetentionDays(group.getChatRetentionDays())
+                        .createdAt(group.getCreatedAt())
+                        .updatedAt(group.getUpdatedAt())
+                        .build())
+                .toList();
+    }
+
+    private Map<Long, List<MeetingDto>> loadUpcomingMeetings(Collection<Long> groupIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Meeting> meetings = meetingRepository.findUpcomingMeetingsByGroupIds(
+                groupIds, now, now.plusDays(UPCOMING_MEETING_DAYS));
+
+        // 그룹별로 가까운 모임 몇 개만 사용
+        Map<Long, List<Meeting>> byGroup = new HashMap<>();
+        for (Meeting meeting : meetings) {
+            List<Meeting> groupMeetings = byGroup.computeIfAbsent(meeting.getGroup().getGroupId(), id -> new ArrayList<>());
+            if (groupMeetings.size() < UPCOMING_MEETINGS_PER_GROUP) {
+                groupMeetings.add(meeting);
+            }
+        }
+
+        List<Meeting> selected = byGroup.values().stream().flatMap(List::stream).toList();
+        Map<Long, Long> participantCounts = selected.isEmpty() ? Map.of()
+                : toCountMap(participantRepository.countParticipantsByMeetingIds(
+                        selected.stream().map(Meeting::getMeetingId).toList()));
+        Map<Long, String> creatorNames = findNames(selected.stream().map(meeting -> meeting.getCreatedBy().getUserId()));
+
+        Map<Long, List<MeetingDto>> result = new HashMap<>();
+        groupIds.forEach(groupId -> result.put(groupId, byGroup.getOrDefault(groupId, List.of()).stream()
+                .map(meeting -> MeetingDto.builder()
+                        .meetingId(meeting.getMeetingId())
+                        .groupId(groupId)
+                        .title(meeting.getTitle())
+                        .location(meeting.getLocation())
+                        .latitude(meeting.getLatitude())
+                        .longitude(meeting.getLongitude())
+                        .meetingDate(meeting.getMeetingDate())
+                        .maxParticipants(meeting.getMaxParticipants())
+                        .description(meeting.getDescription())
+                        .createdBy(meeting.getCreatedBy().getUserId())
+                        .creatorName(creatorNames.getOrDefault(meeting.getCreatedBy().getUserId(), ""))
+                        .participantCount(participantCounts.getOrDefault(meeting.getMeetingId(), 0L).intValue())
+                        .createdAt(meeting.getCreatedAt())
+                        .build())
+                .toList()));
+        return result;
+    }
+
+    private Map<Long, Optional<GroupNoticeDto>> loadLatestNotices(Collection<Long> groupIds) {
+        List<GroupNotice> notices = noticeRepository.findLatestByGroupIds(groupIds);
+        Map<Long, String> creatorNames = findNames(notices.stream().map(notice -> notice.getCreator().getUserId()));
+
+        Map<Long, Optional<GroupNoticeDto>> result = new HashMap<>();
+        groupIds.forEach(groupId -> result.put(groupId, Optional.empty()));
+        for (GroupNotice notice : notices) {
+            result.put(notice.getGroup().getGroupId(), Optional.of(GroupNoticeDto.builder()
+                    .noticeId(notice.getNoticeId())
+                    .groupId(notice.getGroup().getGroupId())
+                    .creatorId(notice.getCreator().getUserId())
+                    .creatorName(creatorNames.getOrDefault(notice.getCreator().getUserId(), ""))
+                    .title(notice.getTitle())
+                    .content(notice.getContent())
+                    .createdAt(notice.getCreatedAt())
+                    .updatedAt(notice.getUpdatedAt())
+                    .build()));
+        }
+        return result;
+    }
+
+    private Map<Long, List<GroupGoalDto>> loadOngoingGoals(Collection<Long> groupIds) {
+        List<GroupGoal> goals = goalRepository.findOngoingGoalsByGroupIds(groupIds, LocalDate.now());
+        Map<Long, List<GroupGoalDetail>> detailsByGoal = goals.isEmpty() ? Map.of()
+                : goalDetailRepository.findByGoalGoalIdInOrderByCreatedAtAsc(goals.stream().map(GroupGoal::getGoalId).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(detail -> detail.getGoal().getGoalId()));
+        Map<Long, String> creatorNames = findNames(goals.stream().map(goal -> goal.getCreator().getUserId()));
+
+        Map<Long, List<GroupGoalDto>> result = new HashMap<>();
+        groupIds.forEach(groupId -> result.put(groupId, new ArrayList<>()));
+        for (GroupGoal goal : goals) {
+            List<GroupGoalDetail> details = detailsByGoal.getOrDefault(goal.getGoalId(), List.of());
+            List<GoalDetailDto> detailDtos = details.stream()
+                    .map(detail -> GoalDetailDto.builder()
+                            .detailId(detail.getDetailId())
+                            .goalId(goal.getGoalId())
+                            .description(detail.getDescription())
+                            .isCompleted(detail.getIsCompleted())
+                            .build())
+                    .toList();
+
+            result.get(goal.getGroup().getGroupId()).add(GroupGoalDto.builder()
+                    .goalId(goal.getGoalId())
+                    .groupId(goal.getGroup().getGroupId())
+                    .creatorId(goal.getCreator().getUserId())
+                    .creatorName(creatorNames.getOrDefault(goal.getCreator().getUserId(), ""))
+                    .title(goal.getTitle())
+                    .pointValue(goal.getPointValue())
+                    .startDate(goal.getStartDate())
+                    .endDate(goal.getEndDate())
+                    .details(detailDtos)
+                    .completedCount((int) details.stream().filter(GroupGoalDetail::getIsCompleted).count())
+                    .totalCount(details.size())
+                    .build());
+        }
+        return result;
+    }
+
+    // 작성자 이름을 한 번의 IN 쿼리로 조회
+    private Map<Long, String> findNames(Stream<Long> userIds) {
+        Set<Long> ids = userIds.collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return userProfileRepository.findByUserUserIdIn(ids).stream()
+                .collect(Collectors.toMap(profile -> profile.getUser().getUserId(), UserProfile::getName, (a, b) -> a));
+    }
+
+    private Map<Long, Long> toCountMap(List<IdCountDto> counts) {
+        return counts.stream().collect(Collectors.toMap(IdCountDto::getId, IdCountDto::getCount));
+    }
+}
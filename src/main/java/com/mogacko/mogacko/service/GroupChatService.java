@@ -2,16 +2,17 @@ package com.mogacko.mogacko.service;
 
 import com.mogacko.mogacko.dto.GroupChatCreateRequest;
 import com.mogacko.mogacko.dto.GroupChatDto;
+import com.mogacko.mogacko.dto.GroupChatHistoryDto;
 import com.mogacko.mogacko.entity.GroupChat;
-import com.mogacko.mogacko.entity.GroupMember;
 import com.mogacko.mogacko.entity.StudyGroup;
 import com.mogacko.mogacko.entity.User;
 import com.mogacko.mogacko.entity.UserProfile;
+import com.mogacko.mogacko.event.GroupChatSentEvent;
 import com.mogacko.mogacko.repository.GroupChatRepository;
-import com.mogacko.mogacko.repository.GroupMemberRepository;
 import com.mogacko.mogacko.repository.StudyGroupRepository;
 import com.mogacko.mogacko.repository.UserProfileRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,7 +21,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,9 +34,12 @@ public class GroupChatService {
 
     private final GroupChatRepository chatRepository;
     private final StudyGroupRepository groupRepository;
-    private final GroupMemberRepository memberRepository;
+    private final MembershipService membershipService;
     private final UserProfileRepository userProfileRepository;
+    private final ChatArchiveService chatArchiveService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional(readOnly = true)
     public Page<GroupChatDto> getGroupChats(Long groupId, int page, int size) {
         Optional<StudyGroup> groupOpt = groupRepository.findById(groupId);
 
@@ -46,6 +55,60 @@ public class GroupChatService {
         return chatPage.map(this::mapToChatDto);
     }
 
+    /**
+     * 커서(chatId) 이후에 전송된 채팅 메시지를 오래된 순으로 조회합니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param afterChatId 마지막으로 받은 채팅 ID
+     * @param limit 최대 조회 건수
+     * @return 커서 이후의 채팅 메시지 목록
+     */
+    @Transactional(readOnly = true)
+    public List<GroupChatDto> getChatsAfter(Long groupId, Long afterChatId, int limit) {
+        List<GroupChat> chats = chatRepository.findByGroupGroupIdAndChatIdGreaterThanOrderByChatIdAsc(
+                groupId, afterChatId, PageRequest.of(0, limit));
+
+        return chats.stream()
+                .map(this::mapToChatDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 커서(chatId) 이전의 채팅 메시지를 최신 순으로 조회합니다.
+     * 최근 메시지(group_chats)에서 모자라는 만큼 아카이브에서 이어서 읽으므로 보관 위치와 관계없이 연속된 이력을 반환합니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param beforeChatId 커서 (없으면 최신 메시지부터)
+     * @param size 최대 조회 건수
+     * @return 채팅 이력과 다음 커서 (그룹이 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public GroupChatHistoryDto getChatHistory(Long groupId, Long beforeChatId, int size) {
+        if (!groupRepository.existsById(groupId)) {
+            return null;
+        }
+
+        long cursor = beforeChatId != null ? beforeChatId : Long.MAX_VALUE;
+        List<GroupChatDto> chats = new ArrayList<>(size);
+
+        chatRepository.findByGroupGroupIdAndChatIdLessThanOrderByChatIdDesc(groupId, cursor, PageRequest.of(0, size))
+                .forEach(chat -> chats.add(mapToChatDto(chat)));
+
+        if (chats.size() < size) {
+            long archiveCursor = chats.isEmpty() ? cursor : chats.get(chats.size() - 1).getChatId();
+            Map<Long, UserProfile> senderProfiles = new HashMap<>();
+            chatArchiveService.findArchivedChatsBefore(groupId, archiveCursor, size - chats.size())
+                    .forEach(chat -> chats.add(mapToChatDto(groupId, chat, senderProfiles)));
+        }
+
+        boolean hasMore = chats.size() == size;
+        return GroupChatHistoryDto.builder()
+                .chats(chats)
+                .nextCursor(hasMore ? chats.get(chats.size() - 1).getChatId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
     @Transactional
     public GroupChatDto sendMessage(User user, Long groupId, GroupChatCreateRequest request) {
         Optional<StudyGroup> groupOpt = groupRepository.findById(groupId);
@@ -57,9 +120,7 @@ public class GroupChatService {
         StudyGroup group = groupOpt.get();
 
         // 그룹 멤버인지 확인
-        Optional<GroupMember> memberOpt = memberRepository.findByGroupAndUser(group, user);
-
-        if (memberOpt.isEmpty() || !"ACTIVE".equals(memberOpt.get().getStatus())) {
+        if (!membershipService.isActiveMember(groupId, user.getUserId())) {
             return null;
         }
 
@@ -71,8 +132,12 @@ public class GroupChatService {
                 .build();
 
         GroupChat savedChat = chatRepository.save(newChat);
+        GroupChatDto chatDto = mapToChatDto(savedChat);
+
+        // 커밋 이후 스트림 구독자에게 전달
+        eventPublisher.publishEvent(new GroupChatSentEvent(chatDto));
 
-        return mapToChatDto(savedChat);
+        return chatDto;
     }
 
     private GroupChatDto mapToChatDto(GroupChat chat) {
@@ -98,4 +163,20 @@ public class GroupChatService {
                 .sentAt(chat.getSentAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    private GroupChatDto mapToChatDto(Long groupId, ChatArchiveService.ArchivedChat chat, Map<Long, UserProfile> senderProfiles) {
+        // 같은 발신자의 프로필은 한 번만 조회
+        UserProfile profile = senderProfiles.computeIfAbsent(chat.getSenderId(),
+                senderId -> userProfileRepository.findByUserUserId(senderId).orElse(null));
+
+        return GroupChatDto.builder()
+                .chatId(chat.getChatId())
+                .groupId(groupId)
+                .senderId(chat.getSenderId())
+                .userName(profile != null ? profile.getName() : "")
+                .profileImage(profile != null ? profile.getUser().getProfileImage() : "")
+                .message(chat.getMessage())
+                .sentAt(chat.getSentAt())
+                .build();
+    }
+}
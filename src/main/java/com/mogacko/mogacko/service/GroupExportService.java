@@ -0,0 +1,311 @@
+package com.mogacko.mogacko.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mogacko.mogacko.dto.AttendanceExportRow;
+import com.mogacko.mogacko.dto.ChatExportRow;
+import com.mogacko.mogacko.entity.StudyGroup;
+import com.mogacko.mogacko.entity.User;
+import com.mogacko.mogacko.entity.UserProfile;
+import com.mogacko.mogacko.exception.BadRequestException;
+import com.mogacko.mogacko.exception.ServiceUnavailableException;
+import com.mogacko.mogacko.repository.GroupChatRepository;
+import com.mogacko.mogacko.repository.MeetingParticipantRepository;
+import com.mogacko.mogacko.repository.StudyGroupRepository;
+import com.mogacko.mogacko.repository.UserProfileRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 그룹 채팅 이력과 출석부를 CSV 또는 NDJSON으로 내보냅니다. 그룹 생성자만 내보낼 수 있습니다.
+ * 행을 서버 측 커서로 fetch size만큼씩 읽어 곧바로 응답에 쓰므로, 이력이 아무리 길어도 메모리에는 커서 한 번 분량의 행만 올라갑니다.
+ * 응답은 요청 스레드가 끝난 뒤 StreamingResponseBody에서 쓰이므로 읽기 전용 트랜잭션을 직접 열며,
+ * REPEATABLE READ로 열어 그사이 아카이브로 옮겨진 채팅이 빠지거나 두 번 나오지 않게 합니다.
+ * 내보내기는 응답을 쓰는 동안 커넥션과 async 스레드를 하나씩 잡으므로 동시에 export.max-concurrent개까지만 받고,
+ * 응답을 쓰는 최대 시간(export.timeout-ms)은 전역 async 타임아웃 대신 내보내기 요청에만 지정합니다.
+ */
+@Slf4j
+@Service
+public class GroupExportService {
+
+    private static final String[] CHAT_COLUMNS = {"chatId", "senderId", "senderName", "message", "sentAt"};
+    private static final String[] ATTENDANCE_COLUMNS =
+            {"meetingId", "meetingTitle", "meetingDate", "userId", "userName", "status", "checkInTime"};
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String ASYNC_INTERCEPTOR_KEY = GroupExportService.class.getName() + ".export";
+
+    private final StudyGroupRepository groupRepository;
+    private final GroupChatRepository chatRepository;
+    private final MeetingParticipantRepository participantRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final ChatArchiveService chatArchiveService;
+    private final ObjectWriter rowWriter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore exportPermits;
+    private final long exportTimeoutMillis;
+
+    public GroupExportService(StudyGroupRepository groupRepository,
+                              GroupChatRepository chatRepository,
+                              MeetingParticipantRepository participantRepository,
+                              UserProfileRepository userProfileRepository,
+                              ChatArchiveService chatArchiveService,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${export.max-concurrent:2}") int maxConcurrentExports,
+                              @Value("${export.timeout-ms:1800000}") long exportTimeoutMillis) {
+        this.groupRepository = groupRepository;
+        this.chatRepository = chatRepository;
+        this.participantRepository = participantRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.chatArchiveService = chatArchiveService;
+        this.objectMapper = objectMapper;
+        // 행마다 응답을 flush하지 않도록 함
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.exportPermits = new Semaphore(maxConcurrentExports);
+        this.exportTimeoutMillis = exportTimeoutMillis;
+    }
+
+    /**
+     * 그룹 채팅 전체(아카이브 포함)를 오래된 순으로 내보냅니다.
+     *
+     * @param user 요청한 사용자
+     * @param groupId 스터디 그룹 ID
+     * @param format 내보내기 형식
+     * @return 응답 본문 (그룹이 없거나 그룹 생성자가 아니면 null)
+     * @throws ServiceUnavailableException 동시에 진행 중인 내보내기가 이미 최대 개수인 경우
+     */
+    @Transactional(readOnly = true)
+    public StreamingResponseBody exportChats(User user, Long groupId, ExportFormat format) {
+        if (!isOwner(user, groupId)) {
+            return null;
+        }
+
+        return withPermit(out -> export(out, format, CHAT_COLUMNS, this::toCsvValues, (Consumer<ChatExportRow> rows) -> {
+            // 아카이브 메시지는 발신자 ID만 있으므로 발신자별로 이름을 한 번만 조회
+            Map<Long, String> senderNames = new HashMap<>();
+            chatArchiveService.forEachArchivedChat(groupId, chat -> rows.accept(new ChatExportRow(
+                    chat.getChatId(),
+                    chat.getSenderId(),
+                    senderNames.computeIfAbsent(chat.getSenderId(), this::findUserName),
+                    chat.getMessage(),
+                    chat.getSentAt())));
+
+            try (Stream<ChatExportRow> chats = chatRepository.streamForExport(groupId)) {
+                chats.forEach(rows);
+            }
+        }));
+    }
+
+    /**
+     * 그룹 모임의 참가자별 참가 상태와 출석 시각을 모임 시각 순으로 내보냅니다.
+     *
+     * @param user 요청한 사용자
+     * @param groupId 스터디 그룹 ID
+     * @param format 내보내기 형식
+     * @return 응답 본문 (그룹이 없거나 그룹 생성자가 아니면 null)
+     * @throws ServiceUnavailableException 동시에 진행 중인 내보내기가 이미 최대 개수인 경우
+     */
+    @Transactional(readOnly = true)
+    public StreamingResponseBody exportAttendance(User user, Long groupId, ExportFormat format) {
+        if (!isOwner(user, groupId)) {
+            return null;
+        }
+
+        return withPermit(out -> export(out, format, ATTENDANCE_COLUMNS, this::toCsvValues, (Consumer<AttendanceExportRow> rows) -> {
+            try (Stream<AttendanceExportRow> attendance = participantRepository.streamAttendanceForExport(groupId)) {
+                attendance.forEach(rows);
+            }
+        }));
+    }
+
+    // 동시 내보내기 자리를 하나 잡고, 응답을 다 쓰거나 요청이 끝나면(타임아웃, 연결 끊김 포함) 반납
+    private StreamingResponseBody withPermit(StreamingResponseBody body) {
+        if (!exportPermits.tryAcquire()) {
+            throw new ServiceUnavailableException("진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                exportPermits.release();
+            }
+        };
+
+        // 요청 스레드에서 호출된 경우 이 요청의 async 처리에만 타임아웃을 지정
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            WebAsyncUtils.getAsyncManager(servletAttributes.getRequest())
+                    .registerCallableInterceptor(ASYNC_INTERCEPTOR_KEY, new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                            if (request instanceof AsyncWebRequest asyncRequest) {
+                                asyncRequest.setTimeout(exportTimeoutMillis);
+                            }
+                        }
+
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                            release.run();
+                        }
+                    });
+        }
+
+        return out -> {
+            try {
+                body.writeTo(out);
+            } finally {
+                release.run();
+            }
+        };
+    }
+
+    private boolean isOwner(User user, Long groupId) {
+        Optional<StudyGroup> groupOpt = groupRepository.findById(groupId);
+        return groupOpt.isPresent() && groupOpt.get().getCreator().getUserId().equals(user.getUserId());
+    }
+
+    private String findUserName(Long userId) {
+        return userProfileRepository.findByUserUserId(userId).map(UserProfile::getName).orElse(null);
+    }
+
+    // source가 넘기는 행을 형식에 맞춰 버퍼에 쓰고, 버퍼가 찰 때마다 응답으로 내보냄
+    private <T> void export(OutputStream out, ExportFormat format, String[] columns,
+                            Function<T, Object[]> csvValues, Consumer<Consumer<T>> source) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        JsonGenerator json = null;
+        if (format == ExportFormat.NDJSON) {
+            json = objectMapper.getFactory().createGenerator(writer);
+            json.setRootValueSeparator(null);
+        } else {
+            // 엑셀에서 한글이 깨지지 않도록 BOM을 붙임
+            writer.write('\uFEFF');
+            writeCsvLine(writer, columns);
+        }
+
+        JsonGenerator generator = json;
+        long[] count = {0};
+        try {
+            transactionTemplate.executeWithoutResult(status -> source.accept(row -> {
+                try {
+                    if (generator != null) {
+                        rowWriter.writeValue(generator, row);
+                        generator.writeRaw('\n');
+                    } else {
+                        writeCsvLine(writer, csvValues.apply(row));
+                    }
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우 등
+            throw e.getCause();
+        }
+
+        if (generator != null) {
+            generator.flush();
+        }
+        writer.flush();
+        log.debug("Exported {} rows as {}", count[0], format);
+    }
+
+    private Object[] toCsvValues(ChatExportRow row) {
+        return new Object[]{row.getChatId(), row.getSenderId(), row.getSenderName(), row.getMessage(), row.getSentAt()};
+    }
+
+    private Object[] toCsvValues(AttendanceExportRow row) {
+        return new Object[]{row.getMeetingId(), row.getMeetingTitle(), row.getMeetingDate(), row.getUserId(),
+                row.getUserName(), row.getStatus(), row.getCheckInTime()};
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvField(writer, values[i]);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeCsvField(Writer writer, Object value) throws IOException {
+        String field = value.toString();
+        // 사용자가 입력한 값이 스프레드시트에서 수식으로 실행되지 않도록 함
+        if (value instanceof String && !field.isEmpty() && "=+-@\t\r".indexOf(field.charAt(0)) >= 0) {
+            field = "'" + field;
+        }
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum ExportFormat {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        /**
+         * @throws BadRequestException 지원하지 않는 형식인 경우
+         */
+        public static ExportFormat from(String value) {
+            for (ExportFormat format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("지원하지 않는 내보내기 형식입니다. (csv, ndjson)");
+        }
+    }
+}
@@ -3,12 +3,16 @@ package com.mogacko.mogacko.service;
 import com.mogacko.mogacko.dto.GoalDetailDto;
 import com.mogacko.mogacko.dto.GroupGoalCreateRequest;
 import com.mogacko.mogacko.dto.GroupGoalDto;
+import com.mogacko.mogacko.dto.ResourceVersion;
 import com.mogacko.mogacko.entity.*;
+import com.mogacko.mogacko.event.GroupGoalChangedEvent;
 import com.mogacko.mogacko.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -21,9 +25,11 @@ public class GroupGoalService {
     private final GroupGoalRepository goalRepository;
     private final GroupGoalDetailRepository detailRepository;
     private final StudyGroupRepository groupRepository;
-    private final GroupMemberRepository memberRepository;
+    private final MembershipService membershipService;
     private final UserProfileRepository userProfileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional(readOnly = true)
     public List<GroupGoalDto> getGroupGoals(Long groupId) {
         Optional<StudyGroup> groupOpt = groupRepository.findById(groupId);
 
@@ -39,6 +45,20 @@ public class GroupGoalService {
                 .collect(Collectors.toList());
     }
 
+    // 목표 목록 ETag (목표 수 + 최종 수정 시각)
+    @Transactional(readOnly = true)
+    public String getGoalsETag(Long groupId) {
+        return goalRepository.findVersionByGroupId(groupId).toETag();
+    }
+
+    @Transactional(readOnly = true)
+    public String getGoalETag(Long groupId, Long goalId) {
+        return goalRepository.findVersionById(groupId, goalId)
+                .map(ResourceVersion::toETag)
+                .orElse(null);
+    }
+
+    @Transactional(readOnly = true)
     public GroupGoalDto getGoalDetails(Long groupId, Long goalId) {
         Optional<GroupGoal> goalOpt = goalRepository.findById(goalId);
 
@@ -61,9 +81,7 @@ public class GroupGoalService {
         StudyGroup group = groupOpt.get();
 
         // 그룹 멤버인지 확인
-        Optional<GroupMember> memberOpt = memberRepository.findByGroupAndUser(group, user);
-
-        if (memberOpt.isEmpty() || !"ACTIVE".equals(memberOpt.get().getStatus())) {
+        if (!membershipService.isActiveMember(groupId, user.getUserId())) {
             return null;
         }
 
@@ -93,6 +111,7 @@ public class GroupGoalService {
             }
         }
 
+        eventPublisher.publishEvent(new GroupGoalChangedEvent(groupId, savedGoal.getGoalId()));
         return mapToGoalDto(savedGoal);
     }
 
@@ -116,6 +135,7 @@ public class GroupGoalService {
         goal.setPointValue(request.getPointValue());
         goal.setStartDate(request.getStartDate());
         goal.setEndDate(request.getEndDate());
+        goal.setUpdatedAt(LocalDateTime.now()); // 세부 목표만 바뀌어도 버전(ETag)이 바뀌도록 갱신
 
         GroupGoal updatedGoal = goalRepository.save(goal);
 
@@ -136,6 +156,7 @@ public class GroupGoalService {
             }
         }
 
+        eventPublisher.publishEvent(new GroupGoalChangedEvent(groupId, goalId));
         return mapToGoalDto(goalRepository.findById(updatedGoal.getGoalId()).orElse(updatedGoal));
     }
 
@@ -161,6 +182,7 @@ public class GroupGoalService {
 
         // 목표 삭제
         goalRepository.delete(goal);
+        eventPublisher.publishEvent(new GroupGoalChangedEvent(groupId, goalId));
 
         return true;
     }
@@ -183,9 +205,7 @@ public class GroupGoalService {
         GroupGoalDetail detail = detailOpt.get();
 
         // 그룹 멤버인지 확인
-        Optional<GroupMember> memberOpt = memberRepository.findByGroupAndUser(goal.getGroup(), user);
-
-        if (memberOpt.isEmpty() || !"ACTIVE".equals(memberOpt.get().getStatus())) {
+        if (!membershipService.isActiveMember(groupId, user.getUserId())) {
             return false;
         }
 
@@ -193,6 +213,10 @@ public class GroupGoalService {
         detail.setIsCompleted(!detail.getIsCompleted());
         detailRepository.save(detail);
 
+        // 목표 버전(ETag) 갱신
+        goal.setUpdatedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(new GroupGoalChangedEvent(groupId, goalId));
+
         return true;
     }
 
@@ -3,16 +3,17 @@ package com.mogacko.mogacko.service;
 
 import com.mogacko.mogacko.dto.GroupNoticeCreateRequest;
 import com.mogacko.mogacko.dto.GroupNoticeDto;
-import com.mogacko.mogacko.entity.GroupMember;
+import com.mogacko.mogacko.dto.ResourceVersion;
 import com.mogacko.mogacko.entity.GroupNotice;
 import com.mogacko.mogacko.entity.StudyGroup;
 import com.mogacko.mogacko.entity.User;
 import com.mogacko.mogacko.entity.UserProfile;
-import com.mogacko.mogacko.repository.GroupMemberRepository;
+import com.mogacko.mogacko.event.GroupNoticeChangedEvent;
 import com.mogacko.mogacko.repository.GroupNoticeRepository;
 import com.mogacko.mogacko.repository.StudyGroupRepository;
 import com.mogacko.mogacko.repository.UserProfileRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -27,9 +28,11 @@ public class GroupNoticeService {
 
     private final GroupNoticeRepository noticeRepository;
     private final StudyGroupRepository groupRepository;
-    private final GroupMemberRepository memberRepository;
+    private final MembershipService membershipService;
     private final UserProfileRepository userProfileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional(readOnly = true)
     public Page<GroupNoticeDto> getGroupNotices(Long groupId, int page, int size) {
         Optional<StudyGroup> groupOpt = groupRepository.findById(groupId);
 
@@ -45,6 +48,23 @@ public class GroupNoticeService {
         return noticePage.map(this::mapToNoticeDto);
     }
 
+    // 공지 목록 ETag (공지 수 + 최종 수정 시각)
+    @Transactional(readOnly = true)
+    public String getNoticesETag(Long groupId) {
+        if (!groupRepository.existsById(groupId)) {
+            return null;
+        }
+        return noticeRepository.findVersionByGroupId(groupId).toETag();
+    }
+
+    @Transactional(readOnly = true)
+    public String getNoticeETag(Long groupId, Long noticeId) {
+        return noticeRepository.findVersionById(groupId, noticeId)
+                .map(ResourceVersion::toETag)
+                .orElse(null);
+    }
+
+    @Transactional(readOnly = true)
     public GroupNoticeDto getNoticeDetails(Long groupId, Long noticeId) {
         Optional<GroupNotice> noticeOpt = noticeRepository.findById(noticeId);
 
@@ -67,9 +87,7 @@ public class GroupNoticeService {
         StudyGroup group = groupOpt.get();
 
         // 그룹 멤버인지 확인
-        Optional<GroupMember> memberOpt = memberRepository.findByGroupAndUser(group, user);
-
-        if (memberOpt.isEmpty() || !"ACTIVE".equals(memberOpt.get().getStatus())) {
+        if (!membershipService.isActiveMember(groupId, user.getUserId())) {
             return null;
         }
 
@@ -81,6 +99,7 @@ public class GroupNoticeService {
                 .build();
 
         GroupNotice savedNotice = noticeRepository.save(newNotice);
+        eventPublisher.publishEvent(new GroupNoticeChangedEvent(groupId, savedNotice.getNoticeId()));
 
         return mapToNoticeDto(savedNotice);
     }
@@ -105,6 +124,7 @@ public class GroupNoticeService {
         notice.setContent(request.getContent());
 
         GroupNotice updatedNotice = noticeRepository.save(notice);
+        eventPublisher.publishEvent(new GroupNoticeChangedEvent(groupId, noticeId));
 
         return mapToNoticeDto(updatedNotice);
     }
@@ -126,6 +146,7 @@ public class GroupNoticeService {
         }
 
         noticeRepository.delete(notice);
+        eventPublisher.publishEvent(new GroupNoticeChangedEvent(groupId, noticeId));
 
         return true;
     }
@@ -0,0 +1,117 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.dto.InterestDto;
+import com.mogacko.mogacko.entity.Interest;
+import com.mogacko.mogacko.repository.InterestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 관심사 카탈로그를 메모리에 보관합니다.
+ * interests 테이블은 작고 거의 바뀌지 않으므로 시작 시 한 번 적재하고, 이후의 이름/ID 조회는 DB를 거치지 않습니다.
+ * 갱신 시에는 새 스냅샷을 만들어 참조만 교체하므로(copy-on-write) 읽는 쪽은 잠금 없이 항상 일관된 스냅샷을 봅니다.
+ */
+@Slf4j
+@Service
+public class InterestCatalog {
+
+    private final InterestRepository interestRepository;
+
+    private volatile Snapshot snapshot;
+
+    public InterestCatalog(InterestRepository interestRepository) {
+        this.interestRepository = interestRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    // 관리 도구 등으로 DB를 직접 수정한 경우를 위한 주기적 재적재
+    @Scheduled(fixedDelayString = "${interest.catalog.refresh-ms:600000}", initialDelayString = "${interest.catalog.refresh-ms:600000}")
+    public void refresh() {
+        List<Interest> interests = interestRepository.findAll();
+        Snapshot next = new Snapshot(interests);
+        Snapshot previous = snapshot;
+        snapshot = next;
+
+        if (previous == null || !previous.version.equals(next.version)) {
+            log.info("Interest catalog loaded: {} interests ({} active)", interests.size(), next.activeInterests.size());
+        }
+    }
+
+    /**
+     * @return 활성 관심사 목록 (변경 불가)
+     */
+    public List<InterestDto> getActiveInterests() {
+        return snapshot().activeInterests;
+    }
+
+    /**
+     * @return 카탈로그 내용이 바뀔 때만 달라지는 ETag
+     */
+    public String getETag() {
+        return snapshot().version;
+    }
+
+    public Optional<Long> findIdByName(String interestName) {
+        return Optional.ofNullable(snapshot().nameToId.get(interestName));
+    }
+
+    public String getName(Long interestId) {
+        return snapshot().idToName.get(interestId);
+    }
+
+    public boolean contains(Long interestId) {
+        return snapshot().idToName.containsKey(interestId);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // 워밍업 이전에 호출된 경우
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static class Snapshot {
+        private final Map<Long, String> idToName;
+        private final Map<String, Long> nameToId;
+        private final List<InterestDto> activeInterests;
+        private final String version;
+
+        Snapshot(List<Interest> interests) {
+            Map<Long, String> ids = new HashMap<>();
+            Map<String, Long> names = new HashMap<>();
+            for (Interest interest : interests) {
+                ids.put(interest.getInterestId(), interest.getInterestName());
+                names.put(interest.getInterestName(), interest.getInterestId());
+            }
+
+            this.idToName = Map.copyOf(ids);
+            this.nameToId = Map.copyOf(names);
+            this.activeInterests = interests.stream()
+                    .filter(interest -> Boolean.TRUE.equals(interest.getIsActive()))
+                    .sorted(Comparator.comparing(Interest::getInterestId))
+                    .map(interest -> new InterestDto(interest.getInterestId(), interest.getInterestName()))
+                    .toList();
+            this.version = "\"interests-" + Integer.toHexString(activeInterests.hashCode()) + "\"";
+        }
+    }
+}
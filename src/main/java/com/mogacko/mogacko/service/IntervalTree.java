@@ -0,0 +1,214 @@
+package com.mogacko.mogacko.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 반열린 구간 [start, end)를 시작 시각 순으로 저장하는 AVL 기반 구간 트리.
+ * 노드마다 서브트리의 최대 종료 시각(maxEnd)을 두어, 겹치는 구간이 있는지는 O(log n), 겹치는 구간 k개 조회는 O(log n + k)에 답합니다.
+ * 같은 id로 다시 넣으면 이전 구간을 대체합니다. 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 합니다.
+ */
+class IntervalTree<T> {
+
+    private Node<T> root;
+    // id -> 노드 (삭제 시 키 조회용)
+    private final Map<Long, Node<T>> nodes = new HashMap<>();
+
+    /**
+     * 구간을 추가합니다. 같은 id의 구간이 있으면 대체합니다.
+     *
+     * @param id 구간 ID (정렬 시 같은 시작 시각의 구간을 구분)
+     * @param start 시작 (포함)
+     * @param end 종료 (제외)
+     * @param value 구간에 연결할 값
+     */
+    void put(long id, long start, long end, T value) {
+        if (end <= start) {
+            throw new IllegalArgumentException("end must be greater than start");
+        }
+        remove(id);
+        Node<T> node = new Node<>(id, start, end, value);
+        root = insert(root, node);
+        nodes.put(id, node);
+    }
+
+    /**
+     * @return 구간이 있었으면 true
+     */
+    boolean remove(long id) {
+        Node<T> node = nodes.remove(id);
+        if (node == null) {
+            return false;
+        }
+        root = delete(root, node.start, node.id);
+        return true;
+    }
+
+    /**
+     * [start, end)와 겹치는 구간이 하나라도 있는지 확인합니다. O(log n)
+     */
+    boolean overlapsAny(long start, long end) {
+        Node<T> node = root;
+        while (node != null) {
+            if (node.start < end && start < node.end) {
+                return true;
+            }
+            // 왼쪽 서브트리의 최대 종료 시각이 start보다 크면 겹치는 구간은 왼쪽에만 있을 수 있음
+            node = node.left != null && node.left.maxEnd > start ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * [start, end)와 겹치는 구간의 값을 시작 시각 순으로 조회합니다. O(log n + k)
+     */
+    List<T> overlapping(long start, long end) {
+        List<T> result = new ArrayList<>();
+        collect(root, start, end, result);
+        return result;
+    }
+
+    // 시작 시각 순회
+    void forEach(Consumer<T> action) {
+        inOrder(root, action);
+    }
+
+    int size() {
+        return nodes.size();
+    }
+
+    private void collect(Node<T> node, long start, long end, List<T> result) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, result);
+        if (node.start < end) {
+            if (start < node.end) {
+                result.add(node.value);
+            }
+            collect(node.right, start, end, result);
+        }
+    }
+
+    private void inOrder(Node<T> node, Consumer<T> action) {
+        if (node == null) {
+            return;
+        }
+        inOrder(node.left, action);
+        action.accept(node.value);
+        inOrder(node.right, action);
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.start, inserted.id, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> delete(Node<T> node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, start, id);
+        } else {
+            if (node.left == null || node.right == null) {
+                return node.left != null ? node.left : node.right;
+            }
+            // 오른쪽 서브트리의 최소 노드로 대체
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = delete(node.right, successor.start, successor.id);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private int compare(long start, long id, Node<T> node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    private Node<T> rebalance(Node<T> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private void update(Node<T> node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.maxEnd = Math.max(node.end, Math.max(maxEnd(node.left), maxEnd(node.right)));
+    }
+
+    private int height(Node<T> node) {
+        return node != null ? node.height : 0;
+    }
+
+    private long maxEnd(Node<T> node) {
+        return node != null ? node.maxEnd : Long.MIN_VALUE;
+    }
+
+    private static final class Node<T> {
+        private final long id;
+        private final long start;
+        private final long end;
+        private final T value;
+        private long maxEnd;
+        private int height = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(long id, long start, long end, T value) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+}
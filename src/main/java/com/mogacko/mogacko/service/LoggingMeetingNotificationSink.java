@@ -0,0 +1,19 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.event.MeetingTimerEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실제 알림 채널이 연결되기 전까지 사용하는 로그 출력용 알림 채널
+ */
+@Slf4j
+@Component
+public class LoggingMeetingNotificationSink implements MeetingNotificationSink {
+
+    @Override
+    public void send(MeetingTimerEvent event) {
+        log.info("Meeting notification: type={}, meetingId={}, groupId={}, meetingDate={}",
+                event.getType(), event.getMeetingId(), event.getGroupId(), event.getMeetingDate());
+    }
+}
@@ -0,0 +1,111 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.dto.MyMeetingDto;
+import com.mogacko.mogacko.dto.MyMeetingPageDto;
+import com.mogacko.mogacko.event.GroupMembershipChangedEvent;
+import com.mogacko.mogacko.event.MeetingChangedEvent;
+import com.mogacko.mogacko.exception.BadRequestException;
+import com.mogacko.mogacko.repository.MeetingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자가 속한 모든 그룹의 모임을 하나의 일정으로 조회합니다.
+ * 그룹 수와 관계없이 쿼리 한 번으로 읽고, 결과는 사용자/기간 단위로 캐시합니다.
+ * 반복 모임의 아직 만들어지지 않은 회차는 반복 규칙으로 계산해 함께 포함합니다 (meetingId가 null).
+ * 모임이 생성되거나 참가자가 바뀌면 해당 그룹 멤버들의 일정 캐시를, 멤버십이 바뀌면 그 사용자의 일정 캐시를 무효화합니다.
+ * 기간은 최대 92일이며, 기간 내 모임이 200건을 넘으면 앞의 200건만 돌려주고 hasMore로 알립니다.
+ */
+@Service
+public class MeetingAgendaService {
+
+    public static final int MAX_AGENDA_DAYS = 92;
+    public static final int MAX_AGENDA_MEETINGS = 200;
+
+    private final MeetingRepository meetingRepository;
+    private final MembershipService membershipService;
+    private final MeetingSeriesService seriesService;
+
+    private final TtlCache<AgendaKey, MyMeetingPageDto> cache;
+
+    public MeetingAgendaService(MeetingRepository meetingRepository,
+                                MembershipService membershipService,
+                                MeetingSeriesService seriesService,
+                                @Value("${agenda.cache-ttl-ms:60000}") long cacheTtlMillis) {
+        this.meetingRepository = meetingRepository;
+        this.membershipService = membershipService;
+        this.seriesService = seriesService;
+        this.cache = new TtlCache<>(cacheTtlMillis);
+    }
+
+    /**
+     * 기간 내 내 모임 일정을 시간 순으로 조회합니다.
+     * 같은 요청이 캐시를 공유하도록 기간은 분 단위로 자릅니다.
+     *
+     * @param userId 사용자 ID
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (제외, 시작 시각 이후 최대 92일)
+     * @return 모임 목록 (최대 200건)과 잘림 여부
+     * @throws BadRequestException 종료 시각이 시작 시각 이후가 아니거나 기간이 92일을 넘는 경우
+     */
+    @Transactional(readOnly = true)
+    public MyMeetingPageDto getAgenda(Long userId, LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from)) {
+            throw new BadRequestException("종료 시각은 시작 시각 이후여야 합니다.");
+        }
+        if (to.isAfter(from.plusDays(MAX_AGENDA_DAYS))) {
+            throw new BadRequestException("일정은 최대 " + MAX_AGENDA_DAYS + "일 기간까지만 조회할 수 있습니다.");
+        }
+        AgendaKey key = new AgendaKey(userId, from.truncatedTo(ChronoUnit.MINUTES), to.truncatedTo(ChronoUnit.MINUTES));
+        return cache.get(key, () -> loadAgenda(key));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        Set<Long> memberIds = new HashSet<>(membershipService.getActiveMemberIds(event.getGroupId()));
+        cache.evictIf(key -> memberIds.contains(key.userId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(GroupMembershipChangedEvent event) {
+        cache.evictIf(key -> key.userId().equals(event.getUserId()));
+    }
+
+    @Scheduled(fixedRate = 60000)
+    public void evictExpired() {
+        cache.evictExpired();
+    }
+
+    // 잘림 여부를 알기 위해 한 건 더 읽음
+    private MyMeetingPageDto loadAgenda(AgendaKey key) {
+        List<MyMeetingDto> merged = new ArrayList<>(meetingRepository.findAgenda(
+                key.userId(), key.from(), key.to(), PageRequest.of(0, MAX_AGENDA_MEETINGS + 1)));
+        List<MyMeetingDto> occurrences = seriesService.expandAgendaOccurrences(key.userId(), key.from(), key.to());
+        if (!occurrences.isEmpty()) {
+            merged.addAll(occurrences);
+            merged.sort(Comparator.comparing(MyMeetingDto::getMeetingDate));
+        }
+
+        boolean hasMore = merged.size() > MAX_AGENDA_MEETINGS;
+        return MyMeetingPageDto.builder()
+                .meetings(hasMore ? List.copyOf(merged.subList(0, MAX_AGENDA_MEETINGS)) : merged)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private record AgendaKey(Long userId, LocalDateTime from, LocalDateTime to) {
+    }
+}
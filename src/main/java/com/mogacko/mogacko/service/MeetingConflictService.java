@@ -0,0 +1,133 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.dto.MeetingConflictDto;
+import com.mogacko.mogacko.dto.MeetingSlotDto;
+import com.mogacko.mogacko.event.MeetingParticipationChangedEvent;
+import com.mogacko.mogacko.repository.MeetingParticipantRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별로 참가 확정한 모임끼리 시간이 겹치는지 확인합니다.
+ * 모임에는 종료 시각이 없으므로 모임 시각부터 meeting.conflict.duration-minutes 동안을 모임 시간으로 봅니다.
+ * 사용자의 참가 확정 모임을 처음 조회할 때 한 번 읽어 구간 트리로 만들고, 이후 참가 상태가 바뀌면 해당 모임만 트리에 반영하므로
+ * 겹침 확인은 그룹 수와 관계없이 메모리에서 O(log n)에 끝납니다.
+ * 트리는 사용 여부와 관계없이 만든 지 meeting.conflict.cache-ttl-ms가 지나면 버리고 다음 조회에서 DB로부터 다시 만듭니다.
+ * 다른 서버 인스턴스에서 바뀐 참가 상태처럼 이 인스턴스의 이벤트로 반영되지 않는 변경도 이 시간 안에 바로잡힙니다.
+ */
+@Service
+public class MeetingConflictService {
+
+    private final MeetingParticipantRepository participantRepository;
+    private final Duration meetingDuration;
+
+    private final TtlCache<Long, UserSchedule> schedules;
+
+    public MeetingConflictService(MeetingParticipantRepository participantRepository,
+                                  @Value("${meeting.conflict.duration-minutes:120}") long durationMinutes,
+                                  @Value("${meeting.conflict.cache-ttl-ms:600000}") long cacheTtlMillis) {
+        this.participantRepository = participantRepository;
+        this.meetingDuration = Duration.ofMinutes(durationMinutes);
+        this.schedules = new TtlCache<>(cacheTtlMillis);
+    }
+
+    /**
+     * 지정한 모임 시간과 겹치는 내 다른 참가 확정 모임을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param meetingId 확인할 모임 ID (결과에서 제외)
+     * @param meetingDate 확인할 모임 시각
+     * @return 겹치는 모임 목록 (모임 시각 순)
+     */
+    public List<MeetingSlotDto> findConflicts(Long userId, Long meetingId, LocalDateTime meetingDate) {
+        return getSchedule(userId).overlapping(meetingId, toMinutes(meetingDate), toMinutes(meetingDate.plus(meetingDuration)));
+    }
+
+    /**
+     * 아직 끝나지 않은 내 참가 확정 모임 중 다른 모임과 시간이 겹치는 것을 모두 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 겹치는 모임이 있는 모임 목록 (모임 시각 순)
+     */
+    public List<MeetingConflictDto> getConflicts(Long userId) {
+        return getSchedule(userId).conflictsAfter(toMinutes(LocalDateTime.now()));
+    }
+
+    // 트리를 이미 만든 사용자만 해당 모임의 참가 상태를 다시 읽어 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onParticipationChanged(MeetingParticipationChangedEvent event) {
+        UserSchedule schedule = schedules.getIfPresent(event.getUserId());
+        if (schedule == null) {
+            return;
+        }
+        participantRepository.findRegisteredSlot(event.getMeetingId(), event.getUserId())
+                .ifPresentOrElse(schedule::put, () -> schedule.remove(event.getMeetingId()));
+    }
+
+    @Scheduled(fixedRate = 60000)
+    public void evictExpired() {
+        schedules.evictExpired();
+    }
+
+    private UserSchedule getSchedule(Long userId) {
+        return schedules.get(userId, () -> {
+            UserSchedule schedule = new UserSchedule();
+            participantRepository.findRegisteredSlotsFrom(userId, LocalDateTime.now().minus(meetingDuration))
+                    .forEach(schedule::put);
+            return schedule;
+        });
+    }
+
+    // 구간 비교에만 쓰므로 시간대는 고정
+    private static long toMinutes(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    // 사용자 한 명의 참가 확정 모임 구간 트리
+    private final class UserSchedule {
+        private final IntervalTree<MeetingSlotDto> tree = new IntervalTree<>();
+
+        synchronized void put(MeetingSlotDto slot) {
+            long start = toMinutes(slot.getMeetingDate());
+            tree.put(slot.getMeetingId(), start, start + meetingDuration.toMinutes(), slot);
+        }
+
+        synchronized void remove(Long meetingId) {
+            tree.remove(meetingId);
+        }
+
+        synchronized List<MeetingSlotDto> overlapping(Long meetingId, long start, long end) {
+            if (!tree.overlapsAny(start, end)) {
+                return List.of();
+            }
+            List<MeetingSlotDto> result = new ArrayList<>(tree.overlapping(start, end));
+            result.removeIf(slot -> slot.getMeetingId().equals(meetingId));
+            return result;
+        }
+
+        synchronized List<MeetingConflictDto> conflictsAfter(long now) {
+            List<MeetingConflictDto> conflicts = new ArrayList<>();
+            tree.forEach(slot -> {
+                long start = toMinutes(slot.getMeetingDate());
+                long end = start + meetingDuration.toMinutes();
+                if (end <= now) {
+                    return;
+                }
+                List<MeetingSlotDto> overlapping = overlapping(slot.getMeetingId(), start, end);
+                if (!overlapping.isEmpty()) {
+                    conflicts.add(new MeetingConflictDto(slot, overlapping));
+                }
+            });
+            return conflicts;
+        }
+    }
+}
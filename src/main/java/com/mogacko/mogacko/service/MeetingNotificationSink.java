@@ -0,0 +1,12 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.event.MeetingTimerEvent;
+
+/**
+ * 모임 타이머 이벤트(리마인더, 출석체크 시작/종료)를 사용자에게 전달하는 알림 채널.
+ * 푸시/메일 등 구현체를 빈으로 등록하면 모두 호출됩니다. 타이머 스레드에서 호출되므로 오래 걸리는 작업은 비동기로 넘겨야 합니다.
+ */
+public interface MeetingNotificationSink {
+
+    void send(MeetingTimerEvent event);
+}
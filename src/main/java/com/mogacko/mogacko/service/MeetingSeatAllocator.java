@@ -0,0 +1,207 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.entity.CodedEnum;
+import com.mogacko.mogacko.entity.ParticipantStatus;
+import com.mogacko.mogacko.event.MeetingChangedEvent;
+import com.mogacko.mogacko.event.MeetingParticipationChangedEvent;
+import com.mogacko.mogacko.event.MeetingWaitlistChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모임 좌석(정원)과 대기자 명단을 관리합니다.
+ * meetings.seat_count에 대기자가 아닌 참가자 수를 두고, 좌석 확보는 정원 조건을 건 UPDATE 한 문장으로 처리하므로 동시에 참가해도 정원을 넘지 않습니다.
+ * 대기자 승급은 가장 먼저 대기한 행을 FOR UPDATE SKIP LOCKED로 골라 바꾸므로, 동시에 여러 자리가 비어도 같은 사람이 두 번 승급되지 않고 대기자 명단 전체를 잠그지 않습니다.
+ * 좌석이 빈 뒤(탈퇴)나 대기자가 생긴 뒤(만석 참가) 커밋되면 빈 좌석을 대기자로 채우므로, 두 작업이 엇갈려도 빈 좌석과 대기자가 함께 남지 않습니다.
+ */
+@Slf4j
+@Component
+public class MeetingSeatAllocator {
+
+    private static final short WAITLISTED = ParticipantStatus.WAITLISTED.getCode();
+    private static final short REGISTERED = ParticipantStatus.REGISTERED.getCode();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MeetingSeatAllocator(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+    }
+
+    // seat_count 컬럼이 추가되기 전에 생성된 모임의 좌석 수를 한 번 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSeatCounts() {
+        removeDuplicateParticipants();
+
+        int updated = jdbcTemplate.update(
+                "UPDATE meetings m SET seat_count = (SELECT COUNT(*) FROM meeting_participants mp " +
+                        "WHERE mp.meeting_id = m.meeting_id AND mp.status_code <> " + WAITLISTED + ") " +
+                        "WHERE m.seat_count IS NULL");
+        if (updated > 0) {
+            log.info("Backfilled seat_count of {} meetings", updated);
+        }
+    }
+
+    // 유니크 제약 이전에 같은 사용자가 두 번 등록된 행을 먼저 등록한 행만 남기고 정리한 뒤 제약을 보장
+    // 정리된 모임은 seat_count를 비워 다시 계산되게 함
+    private void removeDuplicateParticipants() {
+        int updated = jdbcTemplate.update(
+                "WITH removed AS (DELETE FROM meeting_participants d USING meeting_participants k " +
+                        "WHERE d.meeting_id = k.meeting_id AND d.user_id = k.user_id AND d.participant_id > k.participant_id " +
+                        "RETURNING d.meeting_id) " +
+                        "UPDATE meetings SET seat_count = NULL WHERE meeting_id IN (SELECT meeting_id FROM removed)");
+        if (updated > 0) {
+            log.warn("Removed duplicate participants of {} meetings", updated);
+        }
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS uk_meeting_participants_meeting_user " +
+                "ON meeting_participants (meeting_id, user_id)");
+    }
+
+    /**
+     * 좌석이 있으면 참가자로, 없으면 대기자로 등록합니다. 호출한 쪽 트랜잭션 안에서 실행됩니다.
+     * 같은 사용자의 요청이 동시에 들어와 이미 등록되었으면 확보한 좌석을 되돌리고 기존 상태를 반환합니다.
+     *
+     * @param meetingId 모임 ID
+     * @param userId 사용자 ID
+     * @return 등록된 상태 (REGISTERED 또는 WAITLISTED, 이미 등록되었으면 기존 상태)
+     */
+    public ParticipantStatus join(Long meetingId, Long userId) {
+        boolean seated = reserveSeat(meetingId);
+        ParticipantStatus status = seated ? ParticipantStatus.REGISTERED : ParticipantStatus.WAITLISTED;
+        int inserted = jdbcTemplate.update(
+                "INSERT INTO meeting_participants (meeting_id, user_id, status_code, created_at) VALUES (?, ?, ?, ?) " +
+                        "ON CONFLICT (meeting_id, user_id) DO NOTHING",
+                meetingId, userId, status.getCode(), Timestamp.valueOf(LocalDateTime.now()));
+        if (inserted == 0) {
+            if (seated) {
+                // 좌석을 잡은 사이 만석으로 보고 대기자가 된 사용자가 있을 수 있으므로 커밋 후 빈 좌석을 채움
+                jdbcTemplate.update("UPDATE meetings SET seat_count = seat_count - 1 WHERE meeting_id = ?", meetingId);
+                eventPublisher.publishEvent(new MeetingWaitlistChangedEvent(meetingId));
+            }
+            Short existing = jdbcTemplate.queryForObject(
+                    "SELECT status_code FROM meeting_participants WHERE meeting_id = ? AND user_id = ?",
+                    Short.class, meetingId, userId);
+            return CodedEnum.fromCode(ParticipantStatus.class, existing);
+        }
+
+        if (status == ParticipantStatus.WAITLISTED) {
+            eventPublisher.publishEvent(new MeetingWaitlistChangedEvent(meetingId));
+        } else {
+            eventPublisher.publishEvent(new MeetingParticipationChangedEvent(meetingId, userId));
+        }
+        return status;
+    }
+
+    /**
+     * 참가 신청 또는 대기를 취소합니다. 호출한 쪽 트랜잭션 안에서 실행되며, 좌석이 비면 커밋 후 대기자가 승급됩니다.
+     * 출석/결석이 확정된 참가는 취소하지 않습니다.
+     *
+     * @param meetingId 모임 ID
+     * @param userId 사용자 ID
+     * @return 취소되었으면 true
+     */
+    public boolean leave(Long meetingId, Long userId) {
+        List<Short> removed = jdbcTemplate.queryForList(
+                "DELETE FROM meeting_participants WHERE meeting_id = ? AND user_id = ? AND status_code IN (?, ?) " +
+                        "RETURNING status_code",
+                Short.class, meetingId, userId, REGISTERED, WAITLISTED);
+        if (removed.isEmpty()) {
+            return false;
+        }
+
+        long seats = removed.stream().filter(code -> code == REGISTERED).count();
+        if (seats > 0) {
+            jdbcTemplate.update("UPDATE meetings SET seat_count = seat_count - ? WHERE meeting_id = ?", seats, meetingId);
+            eventPublisher.publishEvent(new MeetingWaitlistChangedEvent(meetingId));
+            eventPublisher.publishEvent(new MeetingParticipationChangedEvent(meetingId, userId));
+        }
+        return true;
+    }
+
+    /**
+     * @return 대기 순번 (1부터), 대기 중이 아니면 null
+     */
+    public Integer getWaitlistPosition(Long meetingId, Long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT CASE WHEN me.participant_id IS NULL THEN NULL ELSE " +
+                        "(SELECT COUNT(*) FROM meeting_participants w WHERE w.meeting_id = ? AND w.status_code = ? " +
+                        "AND w.participant_id <= me.participant_id) END " +
+                        "FROM (SELECT MIN(participant_id) AS participant_id FROM meeting_participants " +
+                        "WHERE meeting_id = ? AND user_id = ? AND status_code = ?) me",
+                Integer.class, meetingId, WAITLISTED, meetingId, userId, WAITLISTED);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWaitlistChanged(MeetingWaitlistChangedEvent event) {
+        fillOpenSeats(event.getMeetingId());
+    }
+
+    /**
+     * 빈 좌석을 대기 순서대로 채웁니다. 승급 한 건마다 별도 트랜잭션입니다.
+     *
+     * @param meetingId 모임 ID
+     * @return 승급된 사용자 ID 목록
+     */
+    public List<Long> fillOpenSeats(Long meetingId) {
+        List<Long> promoted = new ArrayList<>();
+        Long userId;
+        while ((userId = requiresNew.execute(status -> promoteNext(meetingId))) != null) {
+            promoted.add(userId);
+        }
+
+        if (!promoted.isEmpty()) {
+            log.debug("Promoted {} waitlisted users of meeting {}", promoted.size(), meetingId);
+            Long groupId = jdbcTemplate.queryForObject(
+                    "SELECT group_id FROM meetings WHERE meeting_id = ?", Long.class, meetingId);
+            eventPublisher.publishEvent(new MeetingChangedEvent(groupId, meetingId));
+            promoted.forEach(promotedUserId -> eventPublisher.publishEvent(new MeetingParticipationChangedEvent(meetingId, promotedUserId)));
+        }
+        return promoted;
+    }
+
+    // 좌석 하나를 확보한 뒤 가장 먼저 대기한 사용자를 승급. 대기자가 없으면 좌석을 되돌림
+    private Long promoteNext(Long meetingId) {
+        if (!reserveSeat(meetingId)) {
+            return null;
+        }
+
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "UPDATE meeting_participants SET status_code = ? WHERE participant_id = (" +
+                        "SELECT participant_id FROM meeting_participants WHERE meeting_id = ? AND status_code = ? " +
+                        "ORDER BY participant_id LIMIT 1 FOR UPDATE SKIP LOCKED) AND status_code = ? RETURNING user_id",
+                Long.class, REGISTERED, meetingId, WAITLISTED, WAITLISTED);
+        if (userIds.isEmpty()) {
+            jdbcTemplate.update("UPDATE meetings SET seat_count = seat_count - 1 WHERE meeting_id = ?", meetingId);
+            return null;
+        }
+        return userIds.get(0);
+    }
+
+    // 정원 조건을 건 UPDATE 한 문장으로 좌석 확보
+    private boolean reserveSeat(Long meetingId) {
+        return jdbcTemplate.update(
+                "UPDATE meetings SET seat_count = seat_count + 1 WHERE meeting_id = ? " +
+                        "AND (max_participants IS NULL OR seat_count < max_participants)",
+                meetingId) == 1;
+    }
+}
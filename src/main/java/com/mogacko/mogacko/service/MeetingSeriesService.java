@@ -0,0 +1,323 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.dto.MeetingDto;
+import com.mogacko.mogacko.dto.MeetingScheduleDto;
+import com.mogacko.mogacko.dto.MeetingSeriesCreateRequest;
+import com.mogacko.mogacko.dto.MeetingSeriesDto;
+import com.mogacko.mogacko.dto.MyMeetingDto;
+import com.mogacko.mogacko.entity.MeetingSeries;
+import com.mogacko.mogacko.entity.ParticipantStatus;
+import com.mogacko.mogacko.entity.StudyGroup;
+import com.mogacko.mogacko.entity.User;
+import com.mogacko.mogacko.entity.UserProfile;
+import com.mogacko.mogacko.event.MeetingChangedEvent;
+import com.mogacko.mogacko.event.MeetingParticipationChangedEvent;
+import com.mogacko.mogacko.event.MeetingScheduledEvent;
+import com.mogacko.mogacko.event.MeetingSeriesCreatedEvent;
+import com.mogacko.mogacko.exception.BadRequestException;
+import com.mogacko.mogacko.repository.MeetingSeriesRepository;
+import com.mogacko.mogacko.repository.StudyGroupRepository;
+import com.mogacko.mogacko.repository.UserProfileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 매주/격주 반복 모임을 관리합니다.
+ * 반복 모임 생성은 meeting_series 한 행만 저장하고, 회차(meetings 행)는 가까운 기간(meeting.series.horizon-days)에 들어온 것만
+ * 백그라운드 작업이 일괄 INSERT로 만듭니다. 그보다 먼 회차는 모임 목록/일정 조회 시 반복 규칙으로 계산해 함께 보여줍니다.
+ */
+@Slf4j
+@Service
+public class MeetingSeriesService {
+
+    // 1년치 매주 모임
+    private static final int MAX_OCCURRENCES = 53;
+
+    private final MeetingSeriesRepository seriesRepository;
+    private final StudyGroupRepository groupRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final MembershipService membershipService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int horizonDays;
+
+    public MeetingSeriesService(MeetingSeriesRepository seriesRepository,
+                                StudyGroupRepository groupRepository,
+                                UserProfileRepository userProfileRepository,
+                                MembershipService membershipService,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${meeting.series.horizon-days:14}") int horizonDays) {
+        this.seriesRepository = seriesRepository;
+        this.groupRepository = groupRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.membershipService = membershipService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 반복 모임 생성 커밋 후에도 실행되므로 항상 새 트랜잭션
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.horizonDays = horizonDays;
+    }
+
+    /**
+     * 반복 모임을 생성합니다. 회차는 커밋 후 horizon 안에 들어온 것부터 만들어집니다.
+     *
+     * @return 생성된 반복 모임 (그룹이 없거나 그룹 멤버가 아니면 null)
+     * @throws BadRequestException 반복 규칙이 잘못된 경우
+     */
+    @Transactional
+    public MeetingSeriesDto createSeries(User user, Long groupId, MeetingSeriesCreateRequest request) {
+        Optional<StudyGroup> groupOpt = groupRepository.findById(groupId);
+        if (groupOpt.isEmpty() || !membershipService.isActiveMember(groupId, user.getUserId())) {
+            return null;
+        }
+
+        int occurrenceCount = countOccurrences(request);
+        MeetingSeries series = seriesRepository.save(MeetingSeries.builder()
+                .group(groupOpt.get())
+                .title(request.getTitle())
+                .location(request.getLocation())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
+                .maxParticipants(request.getMaxParticipants())
+                .description(request.getDescription())
+                .createdBy(user)
+                .firstMeetingDate(request.getFirstMeetingDate())
+                .intervalWeeks(request.getIntervalWeeks())
+                .occurrenceCount(occurrenceCount)
+                .materializedCount(0)
+                .nextOccurrenceDate(request.getFirstMeetingDate())
+                .build());
+
+        eventPublisher.publishEvent(new MeetingSeriesCreatedEvent(series.getSeriesId()));
+        // 아직 만들어지지 않은 회차도 일정에 보이도록 캐시 무효화
+        eventPublisher.publishEvent(new MeetingChangedEvent(groupId, null));
+        return mapToSeriesDto(series);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeriesCreated(MeetingSeriesCreatedEvent event) {
+        materialize(event.getSeriesId(), horizonEnd());
+    }
+
+    // horizon 안에 들어온 회차를 반복 모임별로 생성
+    @Scheduled(cron = "${meeting.series.materialize-cron:0 0 * * * *}")
+    public void materializeDueOccurrences() {
+        LocalDateTime horizonEnd = horizonEnd();
+        int created = 0;
+        for (Long seriesId : seriesRepository.findIdsDueBefore(horizonEnd)) {
+            created += materialize(seriesId, horizonEnd);
+        }
+        if (created > 0) {
+            log.info("Materialized {} meeting occurrences", created);
+        }
+    }
+
+    /**
+     * 그룹의 예정된 모임에 포함할 아직 만들어지지 않은 회차를 시간 순으로 계산합니다.
+     *
+     * @param seriesList 회차가 남은 반복 모임
+     * @param limit 최대 회차 수
+     */
+    public List<MeetingDto> expandOccurrences(List<MeetingSeries> seriesList, int limit) {
+        Map<Long, String> creatorNames = new HashMap<>();
+        List<MeetingDto> occurrences = new ArrayList<>();
+        for (MeetingSeries series : seriesList) {
+            Long creatorId = series.getCreatedBy().getUserId();
+            String creatorName = creatorNames.computeIfAbsent(creatorId, id -> userProfileRepository.findByUserUserId(id)
+                    .map(UserProfile::getName)
+                    .orElse(""));
+            for (int i = series.getMaterializedCount(); i < series.getOccurrenceCount() && i - series.getMaterializedCount() < limit; i++) {
+                occurrences.add(MeetingDto.builder()
+                        .groupId(series.getGroup().getGroupId())
+                        .seriesId(series.getSeriesId())
+                        .title(series.getTitle())
+                        .location(series.getLocation())
+                        .latitude(series.getLatitude())
+                        .longitude(series.getLongitude())
+                        .meetingDate(series.occurrenceDate(i))
+                        .maxParticipants(series.getMaxParticipants())
+                        .description(series.getDescription())
+                        .createdBy(creatorId)
+                        .creatorName(creatorName)
+                        .participantCount(1) // 회차가 만들어지면 생성자가 참가자로 등록됨
+                        .createdAt(series.getCreatedAt())
+                        .build());
+            }
+        }
+        occurrences.sort(Comparator.comparing(MeetingDto::getMeetingDate));
+        return occurrences.size() > limit ? occurrences.subList(0, limit) : occurrences;
+    }
+
+    /**
+     * @return 반복 모임들의 아직 만들어지지 않은 회차 수
+     */
+    public long countPendingOccurrences(Collection<MeetingSeries> seriesList) {
+        return seriesList.stream()
+                .mapToLong(series -> series.getOccurrenceCount() - series.getMaterializedCount())
+                .sum();
+    }
+
+    /**
+     * 사용자 일정에 포함할 아직 만들어지지 않은 회차를 계산합니다.
+     *
+     * @param userId 사용자 ID
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (제외)
+     */
+    @Transactional(readOnly = true)
+    public List<MyMeetingDto> expandAgendaOccurrences(Long userId, LocalDateTime from, LocalDateTime to) {
+        List<MyMeetingDto> occurrences = new ArrayList<>();
+        for (MeetingSeries series : seriesRepository.findPendingForMember(userId, to)) {
+            for (int i = series.getMaterializedCount(); i < series.getOccurrenceCount(); i++) {
+                LocalDateTime meetingDate = series.occurrenceDate(i);
+                if (!meetingDate.isBefore(to)) {
+                    break;
+                }
+                if (meetingDate.isBefore(from)) {
+                    continue;
+                }
+                occurrences.add(MyMeetingDto.builder()
+                        .groupId(series.getGroup().getGroupId())
+                        .groupTitle(series.getGroup().getTitle())
+                        .seriesId(series.getSeriesId())
+                        .title(series.getTitle())
+                        .location(series.getLocation())
+                        .meetingDate(meetingDate)
+                        .maxParticipants(series.getMaxParticipants())
+                        .participantCount(1)
+                        .registered(series.getCreatedBy().getUserId().equals(userId))
+                        .build());
+            }
+        }
+        return occurrences;
+    }
+
+    // 반복 모임 하나의 horizon 안 회차를 별도 트랜잭션에서 일괄 생성. 생성한 회차 수를 반환
+    private int materialize(Long seriesId, LocalDateTime horizonEnd) {
+        Integer created = transactionTemplate.execute(status -> seriesRepository.findByIdForUpdate(seriesId)
+                .map(series -> materializeLocked(series, horizonEnd))
+                .orElse(0));
+        return created != null ? created : 0;
+    }
+
+    private int materializeLocked(MeetingSeries series, LocalDateTime horizonEnd) {
+        List<LocalDateTime> dates = new ArrayList<>();
+        int index = series.getMaterializedCount();
+        while (index < series.getOccurrenceCount() && series.occurrenceDate(index).isBefore(horizonEnd)) {
+            dates.add(series.occurrenceDate(index));
+            index++;
+        }
+        if (dates.isEmpty()) {
+            return 0;
+        }
+
+        Long groupId = series.getGroup().getGroupId();
+        Long creatorId = series.getCreatedBy().getUserId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 회차 일괄 생성 (생성자가 참가자로 등록되므로 seat_count = 1)
+        List<Object> meetingArgs = new ArrayList<>(dates.size() * 13);
+        for (LocalDateTime date : dates) {
+            Collections.addAll(meetingArgs, groupId, series.getSeriesId(), series.getTitle(), series.getLocation(),
+                    series.getLatitude(), series.getLongitude(), Timestamp.valueOf(date), series.getMaxParticipants(),
+                    series.getDescription(), creatorId, 1, now, now);
+        }
+        List<MeetingScheduleDto> created = jdbcTemplate.query(
+                "INSERT INTO meetings (group_id, series_id, title, location, latitude, longitude, meeting_date, " +
+                        "max_participants, description, created_by, seat_count, created_at, updated_at) VALUES " +
+                        String.join(", ", Collections.nCopies(dates.size(), "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) +
+                        " RETURNING meeting_id, meeting_date",
+                (rs, rowNum) -> new MeetingScheduleDto(rs.getLong(1), groupId, rs.getTimestamp(2).toLocalDateTime()),
+                meetingArgs.toArray());
+
+        // 생성자 참가 등록 일괄 INSERT
+        List<Object> participantArgs = new ArrayList<>(created.size() * 4);
+        for (MeetingScheduleDto meeting : created) {
+            Collections.addAll(participantArgs, meeting.getMeetingId(), creatorId, ParticipantStatus.REGISTERED.getCode(), now);
+        }
+        jdbcTemplate.update(
+                "INSERT INTO meeting_participants (meeting_id, user_id, status_code, created_at) VALUES " +
+                        String.join(", ", Collections.nCopies(created.size(), "(?, ?, ?, ?)")),
+                participantArgs.toArray());
+
+        series.setMaterializedCount(index);
+        series.setNextOccurrenceDate(index < series.getOccurrenceCount() ? series.occurrenceDate(index) : null);
+
+        // 커밋 후 타이머 등록, 일정 캐시 무효화, 생성자 일정 겹침 반영
+        for (MeetingScheduleDto meeting : created) {
+            eventPublisher.publishEvent(new MeetingScheduledEvent(meeting.getMeetingId(), groupId, meeting.getMeetingDate()));
+            eventPublisher.publishEvent(new MeetingParticipationChangedEvent(meeting.getMeetingId(), creatorId));
+        }
+        eventPublisher.publishEvent(new MeetingChangedEvent(groupId, created.get(0).getMeetingId()));
+        return created.size();
+    }
+
+    private int countOccurrences(MeetingSeriesCreateRequest request) {
+        if (request.getFirstMeetingDate() == null || request.getUntilDate() == null || request.getIntervalWeeks() == null) {
+            throw new BadRequestException("첫 모임 일시, 반복 간격, 종료일은 필수입니다.");
+        }
+        if (request.getIntervalWeeks() != 1 && request.getIntervalWeeks() != 2) {
+            throw new BadRequestException("반복 간격은 1(매주) 또는 2(격주)만 가능합니다.");
+        }
+        if (!request.getFirstMeetingDate().isAfter(LocalDateTime.now())) {
+            throw new BadRequestException("첫 모임 일시는 현재 이후여야 합니다.");
+        }
+        if (request.getUntilDate().isBefore(request.getFirstMeetingDate().toLocalDate())) {
+            throw new BadRequestException("종료일은 첫 모임 일시 이후여야 합니다.");
+        }
+
+        long days = ChronoUnit.DAYS.between(request.getFirstMeetingDate().toLocalDate(), request.getUntilDate());
+        long count = days / (7L * request.getIntervalWeeks()) + 1;
+        if (count > MAX_OCCURRENCES) {
+            throw new BadRequestException("반복 모임은 최대 " + MAX_OCCURRENCES + "회까지 만들 수 있습니다.");
+        }
+        return (int) count;
+    }
+
+    private LocalDateTime horizonEnd() {
+        return LocalDateTime.now().plusDays(horizonDays);
+    }
+
+    private MeetingSeriesDto mapToSeriesDto(MeetingSeries series) {
+        return MeetingSeriesDto.builder()
+                .seriesId(series.getSeriesId())
+                .groupId(series.getGroup().getGroupId())
+                .title(series.getTitle())
+                .location(series.getLocation())
+                .firstMeetingDate(series.getFirstMeetingDate())
+                .lastMeetingDate(series.occurrenceDate(series.getOccurrenceCount() - 1))
+                .intervalWeeks(series.getIntervalWeeks())
+                .occurrenceCount(series.getOccurrenceCount())
+                .maxParticipants(series.getMaxParticipants())
+                .description(series.getDescription())
+                .createdBy(series.getCreatedBy().getUserId())
+                .createdAt(series.getCreatedAt())
+                .build();
+    }
+}
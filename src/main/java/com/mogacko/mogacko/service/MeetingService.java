@@ -3,14 +3,31 @@ package com.mogacko.mogacko.service;
 
 import com.mogacko.mogacko.dto.*;
 import com.mogacko.mogacko.entity.*;
+import com.mogacko.mogacko.event.MeetingChangedEvent;
+import com.mogacko.mogacko.event.MeetingParticipationChangedEvent;
+import com.mogacko.mogacko.event.MeetingScheduledEvent;
+import com.mogacko.mogacko.exception.BadRequestException;
 import com.mogacko.mogacko.repository.*;
+import com.mogacko.mogacko.security.CheckInTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -18,28 +35,80 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MeetingService {
 
+    // 모임 목록에서 조회할 수 있는 최대 범위 ((page + 1) * size)
+    public static final int MAX_MEETING_PAGE_WINDOW = 1000;
+    // 출석체크 가능 시간: 모임 시각 전후
+    public static final Duration CHECK_IN_WINDOW = Duration.ofHours(2);
+    // 출석체크 가능 거리 (미터)
+    private static final double CHECK_IN_RADIUS_METERS = 100;
+    // 오프라인 출석 기록: 출석체크 종료 후 업로드 기한, 한 번에 올릴 수 있는 기록 수, 허용하는 기기 시계 오차
+    private static final Duration OFFLINE_UPLOAD_DEADLINE = Duration.ofDays(1);
+    private static final int MAX_OFFLINE_CLAIMS = 500;
+    private static final Duration OFFLINE_CLOCK_SKEW = Duration.ofMinutes(5);
+
     private final MeetingRepository meetingRepository;
     private final MeetingParticipantRepository participantRepository;
     private final StudyGroupRepository groupRepository;
-    private final GroupMemberRepository memberRepository;
+    private final MembershipService membershipService;
     private final UserProfileRepository userProfileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeetingSeatAllocator seatAllocator;
+    private final MeetingSeriesRepository seriesRepository;
+    private final MeetingSeriesService seriesService;
+    private final MeetingConflictService conflictService;
+    private final CheckInTokenProvider checkInTokenProvider;
+    private final CheckInBatcher checkInBatcher;
+    private final UserStatisticsService statisticsService;
+
+    /**
+     * 스터디 그룹의 예정된 모임 또는 지난 모임을 페이지 단위로 조회합니다.
+     * 작성자 이름과 참가자 수는 목록 쿼리에서 함께 조회합니다.
+     * 예정된 모임에는 반복 모임의 아직 만들어지지 않은 회차도 시간 순으로 함께 포함됩니다 (meetingId가 null).
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param past true면 지난 모임(최근 순), false면 예정된 모임(가까운 순)
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 모임 목록 (그룹이 없으면 빈 페이지)
+     * @throws BadRequestException 페이지 번호가 음수이거나 (page + 1) * size가 MAX_MEETING_PAGE_WINDOW를 넘는 경우
+     */
+    @Transactional(readOnly = true)
+    public Page<MeetingDto> getMeetings(Long groupId, boolean past, int page, int size) {
+        // 예정된 모임은 요청한 페이지 끝까지 조회해 가상 회차와 섞으므로 조회 범위를 제한함
+        if (page < 0 || (long) (page + 1) * size > MAX_MEETING_PAGE_WINDOW) {
+            throw new BadRequestException("모임 목록은 앞에서부터 " + MAX_MEETING_PAGE_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
 
-    // 모임 목록 조회
-    public List<MeetingDto> getMeetings(Long groupId) {
-        Optional<StudyGroup> groupOpt = groupRepository.findById(groupId);
-        if (groupOpt.isEmpty()) {
-            return List.of();
+        Pageable pageable = PageRequest.of(page, size);
+        if (!groupRepository.existsById(groupId)) {
+            return Page.empty(pageable);
         }
 
-        StudyGroup group = groupOpt.get();
-        List<Meeting> meetings = meetingRepository.findByGroupOrderByMeetingDateDesc(group);
+        LocalDateTime now = LocalDateTime.now();
+        if (past) {
+            return meetingRepository.findPastMeetings(groupId, now, pageable);
+        }
 
-        return meetings.stream()
-                .map(this::mapToMeetingDto)
-                .collect(Collectors.toList());
+        List<MeetingSeries> pendingSeries = seriesRepository.findPendingByGroupId(groupId);
+        if (pendingSeries.isEmpty()) {
+            return meetingRepository.findUpcomingMeetings(groupId, now, pageable);
+        }
+
+        // 가상 회차와 섞어 정렬해야 하므로 요청한 페이지 끝까지 조회한 뒤 잘라냄
+        int window = (page + 1) * size;
+        Page<MeetingDto> stored = meetingRepository.findUpcomingMeetings(groupId, now, PageRequest.of(0, window));
+        List<MeetingDto> merged = new ArrayList<>(stored.getContent());
+        merged.addAll(seriesService.expandOccurrences(pendingSeries, window));
+        merged.sort(Comparator.comparing(MeetingDto::getMeetingDate));
+
+        int fromIndex = Math.min(page * size, merged.size());
+        int toIndex = Math.min(fromIndex + size, merged.size());
+        long total = stored.getTotalElements() + seriesService.countPendingOccurrences(pendingSeries);
+        return new PageImpl<>(merged.subList(fromIndex, toIndex), pageable, total);
     }
 
     // 모임 상세 조회
+    @Transactional(readOnly = true)
     public MeetingDto getMeetingDetails(Long groupId, Long meetingId) {
         Optional<Meeting> meetingOpt = meetingRepository.findById(meetingId);
 
@@ -61,8 +130,7 @@ public class MeetingService {
         StudyGroup group = groupOpt.get();
 
         // 멤버 권한 확인
-        Optional<GroupMember> memberOpt = memberRepository.findByGroupAndUser(group, user);
-        if (memberOpt.isEmpty() || !"ACTIVE".equals(memberOpt.get().getStatus())) {
+        if (!membershipService.isActiveMember(groupId, user.getUserId())) {
             return null;
         }
 
@@ -74,6 +142,7 @@ public class MeetingService {
                 .longitude(request.getLongitude())
                 .meetingDate(request.getMeetingDate())
                 .maxParticipants(request.getMaxParticipants())
+                .seatCount(1)
                 .description(request.getDescription())
                 .createdBy(user)
                 .build();
@@ -84,51 +153,76 @@ public class MeetingService {
         MeetingParticipant participant = MeetingParticipant.builder()
                 .meeting(savedMeeting)
                 .user(user)
-                .status("REGISTERED")
+                .status(ParticipantStatus.REGISTERED)
                 .build();
 
         participantRepository.save(participant);
+        eventPublisher.publishEvent(new MeetingChangedEvent(groupId, savedMeeting.getMeetingId()));
+        eventPublisher.publishEvent(new MeetingParticipationChangedEvent(savedMeeting.getMeetingId(), user.getUserId()));
+        eventPublisher.publishEvent(new MeetingScheduledEvent(savedMeeting.getMeetingId(), groupId, savedMeeting.getMeetingDate()));
 
         return mapToMeetingDto(savedMeeting);
     }
 
-    // 모임 참가
+    /**
+     * 모임에 참가 신청합니다. 정원이 찼으면 대기자로 등록되며, 자리가 나면 대기 순서대로 자동 승급됩니다.
+     * 시간이 겹치는 내 다른 참가 확정 모임이 있으면 함께 반환합니다 (참가는 막지 않음).
+     *
+     * @return 참가 상태, 대기 순번, 겹치는 모임 (모임이 없거나 그룹 멤버가 아니면 null)
+     */
     @Transactional
-    public boolean joinMeeting(User user, Long groupId, Long meetingId) {
+    public MeetingJoinResponse joinMeeting(User user, Long groupId, Long meetingId) {
         Optional<Meeting> meetingOpt = meetingRepository.findById(meetingId);
 
         if (meetingOpt.isEmpty() || !meetingOpt.get().getGroup().getGroupId().equals(groupId)) {
-            return false;
+            return null;
         }
 
         Meeting meeting = meetingOpt.get();
 
         // 그룹 멤버인지 확인
-        Optional<GroupMember> memberOpt = memberRepository.findByGroupAndUser(meeting.getGroup(), user);
-        if (memberOpt.isEmpty() || !"ACTIVE".equals(memberOpt.get().getStatus())) {
-            return false;
+        if (!membershipService.isActiveMember(groupId, user.getUserId())) {
+            return null;
         }
 
-        // 이미 참가했는지 확인
-        Optional<MeetingParticipant> existingOpt = participantRepository.findByMeetingAndUser(meeting, user);
-        if (existingOpt.isPresent()) {
-            return true;
-        }
+        // 이미 참가(대기)했으면 현재 상태 반환
+        ParticipantStatus status = participantRepository.findByMeetingAndUser(meeting, user)
+                .map(MeetingParticipant::getStatus)
+                .orElseGet(() -> seatAllocator.join(meetingId, user.getUserId()));
+
+        eventPublisher.publishEvent(new MeetingChangedEvent(groupId, meetingId));
+        return MeetingJoinResponse.builder()
+                .status(status)
+                .waitlistPosition(status == ParticipantStatus.WAITLISTED
+                        ? seatAllocator.getWaitlistPosition(meetingId, user.getUserId())
+                        : null)
+                .conflicts(conflictService.findConflicts(user.getUserId(), meetingId, meeting.getMeetingDate()))
+                .build();
+    }
 
-        // 최대 인원 확인
-        int currentParticipants = participantRepository.countParticipants(meeting);
-        if (meeting.getMaxParticipants() != null && currentParticipants >= meeting.getMaxParticipants()) {
+    /**
+     * 모임 참가 신청 또는 대기를 취소합니다. 참가 확정자가 취소하면 커밋 후 첫 번째 대기자가 승급됩니다.
+     * 모임이 시작된 뒤에는 취소할 수 없습니다.
+     *
+     * @return 취소되었으면 true
+     */
+    @Transactional
+    public boolean leaveMeeting(User user, Long groupId, Long meetingId) {
+        Optional<Meeting> meetingOpt = meetingRepository.findById(meetingId);
+
+        if (meetingOpt.isEmpty() || !meetingOpt.get().getGroup().getGroupId().equals(groupId)) {
             return false;
         }
 
-        MeetingParticipant participant = MeetingParticipant.builder()
-                .meeting(meeting)
-                .user(user)
-                .status("REGISTERED")
-                .build();
+        if (!meetingOpt.get().getMeetingDate().isAfter(LocalDateTime.now())) {
+            return false;
+        }
 
-        participantRepository.save(participant);
-        return true;
+        boolean left = seatAllocator.leave(meetingId, user.getUserId());
+        if (left) {
+            eventPublisher.publishEvent(new MeetingChangedEvent(groupId, meetingId));
+        }
+        return left;
     }
 
     // 출석 체크
@@ -154,10 +248,17 @@ public class MeetingService {
                     .build();
         }
 
+        if (participantOpt.get().getStatus() == ParticipantStatus.WAITLISTED) {
+            return CheckInResponse.builder()
+                    .success(false)
+                    .message("대기 중인 참가자는 출석체크할 수 없습니다.")
+                    .build();
+        }
+
         // 현재 시간이 모임 시간대인지 확인 (±2시간)
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime meetingStart = meeting.getMeetingDate().minusHours(2);
-        LocalDateTime meetingEnd = meeting.getMeetingDate().plusHours(2);
+        LocalDateTime meetingStart = meeting.getMeetingDate().minus(CHECK_IN_WINDOW);
+        LocalDateTime meetingEnd = meeting.getMeetingDate().plus(CHECK_IN_WINDOW);
 
         if (now.isBefore(meetingStart) || now.isAfter(meetingEnd)) {
             return CheckInResponse.builder()
@@ -174,7 +275,7 @@ public class MeetingService {
                 request.getLongitude().doubleValue()
         );
 
-        if (distance > 100) {
+        if (distance > CHECK_IN_RADIUS_METERS) {
             return CheckInResponse.builder()
                     .success(false)
                     .message("모임 장소에서 너무 멀리 떨어져 있습니다.")
@@ -183,7 +284,7 @@ public class MeetingService {
 
         // 출석 체크
         MeetingParticipant participant = participantOpt.get();
-        participant.setStatus("ATTENDED");
+        participant.setStatus(ParticipantStatus.ATTENDED);
         participant.setCheckInTime(now);
         participantRepository.save(participant);
 
@@ -193,6 +294,218 @@ public class MeetingService {
                 .build();
     }
 
+    /**
+     * 모임 생성자가 QR 코드로 띄울 출석 토큰을 발급합니다. 출석체크 가능 시간에만 발급됩니다.
+     *
+     * @return 출석 토큰 (모임이 없거나 생성자가 아니면 null)
+     * @throws BadRequestException 출석체크 가능 시간이 아닌 경우
+     */
+    @Transactional(readOnly = true)
+    public CheckInTokenDto issueCheckInToken(User user, Long groupId, Long meetingId) {
+        Optional<Meeting> meetingOpt = meetingRepository.findById(meetingId);
+        if (meetingOpt.isEmpty() || !meetingOpt.get().getGroup().getGroupId().equals(groupId)
+                || !meetingOpt.get().getCreatedBy().getUserId().equals(user.getUserId())) {
+            return null;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime meetingDate = meetingOpt.get().getMeetingDate();
+        if (now.isBefore(meetingDate.minus(CHECK_IN_WINDOW)) || now.isAfter(meetingDate.plus(CHECK_IN_WINDOW))) {
+            throw new BadRequestException("출석체크 가능 시간이 아닙니다.");
+        }
+
+        long epochSeconds = System.currentTimeMillis() / 1000;
+        long stepSeconds = checkInTokenProvider.getStepSeconds();
+        return CheckInTokenDto.builder()
+                .token(checkInTokenProvider.issue(groupId, meetingId, epochSeconds))
+                .expiresAt(now.plusSeconds(checkInTokenProvider.getValiditySeconds() - epochSeconds % stepSeconds))
+                .refreshSeconds(stepSeconds)
+                .build();
+    }
+
+    /**
+     * QR 출석 토큰으로 출석체크합니다. GPS 대신 토큰의 서명과 시간 단계만 확인하므로 모임/참가자를 따로 조회하지 않고,
+     * 참가 확정자인지는 출석 UPDATE 조건으로 확인합니다. 출석 기록은 같은 시점의 다른 요청과 모아 한 번에 반영됩니다.
+     * 제한 시간 안에 반영되지 않으면 pending으로 응답하며, 같은 요청을 다시 보내도 안전합니다.
+     */
+    public CheckInResponse checkInWithToken(User user, Long groupId, Long meetingId, String token) {
+        if (!checkInTokenProvider.verify(token, groupId, meetingId, System.currentTimeMillis() / 1000)) {
+            return CheckInResponse.builder()
+                    .success(false)
+                    .message("출석 코드가 올바르지 않거나 만료되었습니다.")
+                    .build();
+        }
+
+        CheckInBatcher.Outcome outcome = checkInBatcher.checkIn(meetingId, user.getUserId(), LocalDateTime.now());
+        if (outcome == CheckInBatcher.Outcome.PENDING) {
+            return CheckInResponse.builder()
+                    .success(false)
+                    .pending(true)
+                    .message("출석 기록을 처리하고 있습니다. 잠시 후 다시 시도해 주세요.")
+                    .build();
+        }
+        if (outcome == CheckInBatcher.Outcome.REJECTED) {
+            // 토큰이 아직 유효한 사이 출석이 확정되어 결석 처리된 경우
+            boolean finalized = participantRepository.findStatus(meetingId, user.getUserId())
+                    .filter(status -> status == ParticipantStatus.ABSENT)
+                    .isPresent();
+            return CheckInResponse.builder()
+                    .success(false)
+                    .message(finalized ? "출석이 이미 확정되었습니다." : "참가 확정된 모임이 아닙니다.")
+                    .build();
+        }
+
+        return CheckInResponse.builder()
+                .success(true)
+                .message("출석체크가 완료되었습니다.")
+                .build();
+    }
+
+    /**
+     * 참가 확정자에게 연결이 끊긴 동안 출석 기록에 서명할 키를 발급합니다. 출석체크 가능 시간 전에만 발급되므로 미리 받아 두어야 합니다.
+     * 모임 생성자에게는 연결 없이도 기기에서 QR 토큰을 바꿔 띄울 수 있도록 모임의 QR 키도 함께 발급합니다.
+     *
+     * @return 서명 키 (모임이 없거나 참가 확정자가 아니면 null)
+     * @throws BadRequestException 출석체크 가능 시간이 이미 시작된 경우
+     */
+    @Transactional(readOnly = true)
+    public OfflineCheckInKeyDto issueOfflineCheckInKey(User user, Long groupId, Long meetingId) {
+        Optional<Meeting> meetingOpt = meetingRepository.findById(meetingId);
+        if (meetingOpt.isEmpty() || !meetingOpt.get().getGroup().getGroupId().equals(groupId)) {
+            return null;
+        }
+
+        Meeting meeting = meetingOpt.get();
+        Optional<ParticipantStatus> status = participantRepository.findByMeetingAndUser(meeting, user)
+                .map(MeetingParticipant::getStatus);
+        if (status.isEmpty() || (status.get() != ParticipantStatus.REGISTERED && status.get() != ParticipantStatus.ATTENDED)) {
+            return null;
+        }
+
+        // 모임 장소에서 연결이 끊긴 뒤에 받는 키가 아니므로, 출석체크가 시작된 뒤에는 QR 출석을 쓰도록 함
+        if (!LocalDateTime.now().isBefore(meeting.getMeetingDate().minus(CHECK_IN_WINDOW))) {
+            throw new BadRequestException("오프라인 출석 키는 출석체크 가능 시간 전에만 발급됩니다.");
+        }
+
+        boolean organizer = meeting.getCreatedBy().getUserId().equals(user.getUserId());
+        return OfflineCheckInKeyDto.builder()
+                .meetingId(meetingId)
+                .key(checkInTokenProvider.issueOfflineKey(meetingId, user.getUserId()))
+                .checkInFrom(meeting.getMeetingDate().minus(CHECK_IN_WINDOW))
+                .checkInUntil(meeting.getMeetingDate().plus(CHECK_IN_WINDOW))
+                .qrKey(organizer ? checkInTokenProvider.issueQrKey(groupId, meetingId) : null)
+                .qrStepSeconds(organizer ? checkInTokenProvider.getStepSeconds() : null)
+                .build();
+    }
+
+    /**
+     * 연결이 끊긴 동안 기기에 모은 출석 기록을 한 번에 반영합니다. 다른 참가자의 기록을 대신 올릴 수도 있습니다.
+     * 기록마다 서명, 출석 시각에 스캔한 QR 토큰, 출석체크 가능 시간(기기 시각 기준), 모임 장소와의 거리를 확인하고, 같은 (모임, 사용자)의 기록은 가장 이른 것 하나만 씁니다.
+     * 통과한 기록은 UPDATE 한 문장으로 반영하며, 이미 출석이 확정되어 결석 처리된 참가자는 출석으로 바꾸고 통계를 보정합니다.
+     *
+     * @return 기록별 처리 결과 (요청 순서와 같음)
+     * @throws BadRequestException 기록이 없거나 너무 많은 경우
+     */
+    @Transactional
+    public List<OfflineCheckInResult> applyOfflineCheckIns(Long groupId, List<OfflineCheckInClaim> claims) {
+        if (claims == null || claims.isEmpty()) {
+            throw new BadRequestException("출석 기록이 없습니다.");
+        }
+        if (claims.size() > MAX_OFFLINE_CLAIMS) {
+            throw new BadRequestException("출석 기록은 한 번에 " + MAX_OFFLINE_CLAIMS + "개까지 올릴 수 있습니다.");
+        }
+
+        Map<Long, Meeting> meetings = meetingRepository.findAllById(claims.stream()
+                        .map(OfflineCheckInClaim::getMeetingId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .filter(meeting -> meeting.getGroup().getGroupId().equals(groupId))
+                .collect(Collectors.toMap(Meeting::getMeetingId, meeting -> meeting));
+
+        // 검증을 통과한 기록: (모임, 사용자) -> 가장 이른 기록의 순번
+        LocalDateTime now = LocalDateTime.now();
+        String[] rejections = new String[claims.size()];
+        Map<CheckInBatcher.CheckInKey, Integer> accepted = new LinkedHashMap<>();
+        for (int i = 0; i < claims.size(); i++) {
+            OfflineCheckInClaim claim = claims.get(i);
+            rejections[i] = validateOfflineClaim(claim, meetings.get(claim.getMeetingId()), now);
+            if (rejections[i] == null) {
+                accepted.merge(new CheckInBatcher.CheckInKey(claim.getMeetingId(), claim.getUserId()), i,
+                        (a, b) -> claims.get(b).getCheckedAt().isBefore(claims.get(a).getCheckedAt()) ? b : a);
+            }
+        }
+
+        Map<CheckInBatcher.CheckInKey, LocalDateTime> checkIns = new LinkedHashMap<>();
+        accepted.forEach((key, index) -> checkIns.put(key, claims.get(index).getCheckedAt()));
+        Map<CheckInBatcher.CheckInKey, ParticipantStatus> attended = checkInBatcher.checkInAll(checkIns);
+
+        // 출석 확정 후 결석에서 출석으로 바뀐 만큼 통계 보정
+        Map<Long, Long> lateAttendance = attended.entrySet().stream()
+                .filter(entry -> entry.getValue() == ParticipantStatus.ABSENT)
+                .collect(Collectors.groupingBy(entry -> entry.getKey().userId(), Collectors.counting()));
+        statisticsService.applyAttendanceDeltas(lateAttendance.entrySet().stream()
+                .map(entry -> new UserStatisticsService.AttendanceDelta(entry.getKey(), 0, entry.getValue().intValue()))
+                .toList());
+
+        List<OfflineCheckInResult> results = new ArrayList<>(claims.size());
+        for (int i = 0; i < claims.size(); i++) {
+            OfflineCheckInClaim claim = claims.get(i);
+            String message = rejections[i];
+            if (message == null && !attended.containsKey(new CheckInBatcher.CheckInKey(claim.getMeetingId(), claim.getUserId()))) {
+                message = "참가 확정된 모임이 아닙니다.";
+            }
+            results.add(OfflineCheckInResult.builder()
+                    .meetingId(claim.getMeetingId())
+                    .userId(claim.getUserId())
+                    .success(message == null)
+                    .message(message != null ? message : "출석체크가 완료되었습니다.")
+                    .build());
+        }
+        return results;
+    }
+
+    // 오프라인 출석 기록 검증. 통과하면 null, 아니면 실패 사유
+    private String validateOfflineClaim(OfflineCheckInClaim claim, Meeting meeting, LocalDateTime now) {
+        if (meeting == null) {
+            return "모임을 찾을 수 없습니다.";
+        }
+        if (!checkInTokenProvider.verifyOfflineClaim(claim.getMeetingId(), claim.getUserId(),
+                claim.getLatitude(), claim.getLongitude(), claim.getCheckedAt(), claim.getToken(), claim.getSignature())) {
+            return "서명이 올바르지 않습니다.";
+        }
+        // 출석 시각에 모임 장소의 QR 코드를 스캔했는지 확인
+        if (!checkInTokenProvider.verifyIssuedNear(claim.getToken(), meeting.getGroup().getGroupId(), claim.getMeetingId(),
+                claim.getCheckedAt().atZone(ZoneId.systemDefault()).toEpochSecond(), OFFLINE_CLOCK_SKEW.toSeconds())) {
+            return "출석 코드가 올바르지 않거나 출석 시각과 맞지 않습니다.";
+        }
+
+        LocalDateTime checkInEnd = meeting.getMeetingDate().plus(CHECK_IN_WINDOW);
+        if (claim.getCheckedAt().isAfter(now.plus(OFFLINE_CLOCK_SKEW))) {
+            return "출석 시각이 올바르지 않습니다.";
+        }
+        if (claim.getCheckedAt().isBefore(meeting.getMeetingDate().minus(CHECK_IN_WINDOW)) || claim.getCheckedAt().isAfter(checkInEnd)) {
+            return "출석체크 가능 시간이 아닙니다.";
+        }
+        if (now.isAfter(checkInEnd.plus(OFFLINE_UPLOAD_DEADLINE))) {
+            return "출석 기록 업로드 기한이 지났습니다.";
+        }
+
+        if (meeting.getLatitude() == null || meeting.getLongitude() == null) {
+            return "모임 장소의 위치 정보가 없습니다.";
+        }
+        double distance = calculateDistance(
+                meeting.getLatitude().doubleValue(),
+                meeting.getLongitude().doubleValue(),
+                claim.getLatitude().doubleValue(),
+                claim.getLongitude().doubleValue()
+        );
+        if (distance > CHECK_IN_RADIUS_METERS) {
+            return "모임 장소에서 너무 멀리 떨어져 있습니다.";
+        }
+        return null;
+    }
+
     // 거리 계산 (Haversine formula)
     private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
         final int R = 6371; // 지구 반경 (km)
@@ -229,6 +542,7 @@ public class MeetingService {
                 .creatorName(creatorName)
                 .participantCount(participantCount)
                 .createdAt(meeting.getCreatedAt())
+                .seriesId(meeting.getSeries() != null ? meeting.getSeries().getSeriesId() : null)
                 .build();
     }
 }
\ No newline at end of file
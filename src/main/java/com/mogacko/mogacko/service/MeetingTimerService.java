@@ -0,0 +1,137 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.dto.MeetingScheduleDto;
+import com.mogacko.mogacko.event.MeetingScheduledEvent;
+import com.mogacko.mogacko.event.MeetingTimerEvent;
+import com.mogacko.mogacko.repository.MeetingRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 모임 시각을 기준으로 리마인더(24시간 전, 1시간 전)와 출석체크 시작/종료 타이머를 관리합니다.
+ * 시작 시 출석체크가 아직 끝나지 않은 모임을 한 번 적재하고, 이후에는 모임 생성 이벤트로만 타이머를 추가하므로 DB를 주기적으로 조회하지 않습니다.
+ * 타이머가 만료되면 등록된 알림 채널로 전달하고 같은 이벤트를 애플리케이션 이벤트로 발행합니다 (모임 후 처리는 CHECK_IN_CLOSED를 구독).
+ * 타이머는 인스턴스 메모리에 있으므로 여러 인스턴스로 실행하면 인스턴스마다 이벤트가 발생합니다.
+ */
+@Slf4j
+@Service
+public class MeetingTimerService {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final MeetingTimerEvent.Type LAST_TIMER = MeetingTimerEvent.Type.CHECK_IN_CLOSED;
+
+    private final MeetingRepository meetingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final List<MeetingNotificationSink> notificationSinks;
+    private final TimingWheel timingWheel;
+
+    // meetingId -> 대기 중인 타이머 (다시 등록할 때 이전 타이머 취소용)
+    private final Map<Long, List<TimingWheel.Timeout>> timeouts = new ConcurrentHashMap<>();
+
+    public MeetingTimerService(MeetingRepository meetingRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               List<MeetingNotificationSink> notificationSinks,
+                               @Qualifier("timerExecutor") Executor timerExecutor,
+                               @Value("${meeting.timer.tick-ms:1000}") long tickMillis,
+                               @Value("${meeting.timer.wheel-size:64}") int wheelSize) {
+        this.meetingRepository = meetingRepository;
+        this.eventPublisher = eventPublisher;
+        this.notificationSinks = notificationSinks;
+        this.timingWheel = new TimingWheel("meeting-timing-wheel", tickMillis, wheelSize, timerExecutor);
+    }
+
+    // 출석체크 종료 전인 모임을 meetingId 순으로 나눠 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPendingMeetings() {
+        LocalDateTime from = LocalDateTime.now().minus(MeetingService.CHECK_IN_WINDOW);
+
+        long lastMeetingId = 0;
+        int loaded = 0;
+        List<MeetingScheduleDto> batch;
+        do {
+            batch = meetingRepository.findSchedulesFrom(from, lastMeetingId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (MeetingScheduleDto meeting : batch) {
+                register(meeting.getMeetingId(), meeting.getGroupId(), meeting.getMeetingDate());
+                lastMeetingId = meeting.getMeetingId();
+            }
+            loaded += batch.size();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        log.info("Meeting timers loaded: {} meetings, {} timers", loaded, timingWheel.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingScheduled(MeetingScheduledEvent event) {
+        register(event.getMeetingId(), event.getGroupId(), event.getMeetingDate());
+    }
+
+    /**
+     * @return 대기 중인 타이머 수
+     */
+    public int getPendingTimerCount() {
+        return timingWheel.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.close();
+    }
+
+    // 아직 지나지 않은 시점의 타이머만 등록. 같은 모임이 다시 등록되면 이전 타이머는 취소
+    private void register(Long meetingId, Long groupId, LocalDateTime meetingDate) {
+        long now = System.currentTimeMillis();
+        List<TimingWheel.Timeout> scheduled = new ArrayList<>(MeetingTimerEvent.Type.values().length);
+        for (MeetingTimerEvent.Type type : MeetingTimerEvent.Type.values()) {
+            long firesAt = toEpochMillis(type.firesAt(meetingDate));
+            if (firesAt < now) {
+                continue;
+            }
+            MeetingTimerEvent event = new MeetingTimerEvent(meetingId, groupId, meetingDate, type);
+            scheduled.add(timingWheel.schedule(firesAt, () -> fire(event)));
+        }
+
+        List<TimingWheel.Timeout> previous = scheduled.isEmpty()
+                ? timeouts.remove(meetingId)
+                : timeouts.put(meetingId, scheduled);
+        if (previous != null) {
+            previous.forEach(TimingWheel.Timeout::cancel);
+        }
+    }
+
+    private void fire(MeetingTimerEvent event) {
+        if (event.getType() == LAST_TIMER) {
+            timeouts.remove(event.getMeetingId());
+        }
+
+        for (MeetingNotificationSink sink : notificationSinks) {
+            try {
+                sink.send(event);
+            } catch (RuntimeException e) {
+                log.warn("Meeting notification failed: sink={}, meetingId={}, type={}",
+                        sink.getClass().getSimpleName(), event.getMeetingId(), event.getType(), e);
+            }
+        }
+        eventPublisher.publishEvent(event);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,152 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.dto.MemberStatusDto;
+import com.mogacko.mogacko.entity.GroupMemberStatus;
+import com.mogacko.mogacko.event.GroupMembershipChangedEvent;
+import com.mogacko.mogacko.repository.GroupMemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 그룹 멤버십 확인을 담당합니다.
+ * 그룹 단위로 전체 멤버의 상태를 한 번에 적재해 캐시하므로, 같은 그룹에 대한 이후의 권한 확인은 쿼리 없이 처리됩니다.
+ * 승인/거절/추방/탈퇴 등으로 멤버십이 바뀌면 커밋 이후 해당 그룹의 캐시를 무효화합니다.
+ */
+@Slf4j
+@Service
+public class MembershipService {
+
+    private final GroupMemberRepository memberRepository;
+    private final long ttlMillis;
+
+    // groupId -> 그룹 멤버 상태
+    private final Map<Long, GroupMembers> cache = new ConcurrentHashMap<>();
+    // 적재 중 무효화가 일어났으면 그 결과를 캐시하지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public MembershipService(GroupMemberRepository memberRepository,
+                             @Value("${membership.cache-ttl-ms:60000}") long ttlMillis) {
+        this.memberRepository = memberRepository;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 사용자가 그룹의 활성(ACTIVE) 멤버인지 확인합니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param userId 사용자 ID
+     * @return 활성 멤버이면 true
+     */
+    public boolean isActiveMember(Long groupId, Long userId) {
+        return getStatus(groupId, userId) == GroupMemberStatus.ACTIVE;
+    }
+
+    /**
+     * 그룹에서 사용자의 멤버 상태를 조회합니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param userId 사용자 ID
+     * @return 멤버 상태 (멤버가 아니면 null)
+     */
+    public GroupMemberStatus getStatus(Long groupId, Long userId) {
+        GroupMembers members = cache.get(groupId);
+        if (members != null && !members.isExpired()) {
+            hits.increment();
+            return members.statuses.get(userId);
+        }
+
+        misses.increment();
+        return load(groupId).statuses.get(userId);
+    }
+
+    /**
+     * 그룹의 활성(ACTIVE) 멤버 ID 목록을 조회합니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @return 활성 멤버 사용자 ID 목록
+     */
+    public List<Long> getActiveMemberIds(Long groupId) {
+        GroupMembers members = cache.get(groupId);
+        if (members == null || members.isExpired()) {
+            members = load(groupId);
+        }
+
+        return members.statuses.entrySet().stream()
+                .filter(entry -> entry.getValue() == GroupMemberStatus.ACTIVE)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(GroupMembershipChangedEvent event) {
+        evict(event.getGroupId());
+    }
+
+    public void evict(Long groupId) {
+        generation.incrementAndGet();
+        cache.remove(groupId);
+    }
+
+    /**
+     * 캐시 적중률 통계
+     */
+    public CacheStats getCacheStats() {
+        return new CacheStats(hits.sum(), misses.sum(), cache.size());
+    }
+
+    @Scheduled(fixedRate = 300000)
+    public void evictExpiredAndReport() {
+        cache.values().removeIf(GroupMembers::isExpired);
+
+        CacheStats stats = getCacheStats();
+        if (stats.requests() > 0) {
+            log.info("Membership cache: hitRatio={}, hits={}, misses={}, groups={}",
+                    String.format("%.3f", stats.hitRatio()), stats.hits(), stats.misses(), stats.cachedGroups());
+        }
+    }
+
+    private GroupMembers load(Long groupId) {
+        long loadGeneration = generation.get();
+
+        Map<Long, GroupMemberStatus> statuses = new ConcurrentHashMap<>();
+        for (MemberStatusDto member : memberRepository.findMemberStatuses(groupId)) {
+            statuses.put(member.getUserId(), member.getStatus());
+        }
+        GroupMembers members = new GroupMembers(statuses, System.currentTimeMillis() + ttlMillis);
+
+        // 적재하는 동안 무효화가 있었다면 오래된 상태일 수 있으므로 캐시하지 않음
+        if (generation.get() == loadGeneration) {
+            cache.put(groupId, members);
+        }
+        return members;
+    }
+
+    public record CacheStats(long hits, long misses, int cachedGroups) {
+        public long requests() {
+            return hits + misses;
+        }
+
+        public double hitRatio() {
+            return requests() == 0 ? 0.0 : (double) hits / requests();
+        }
+    }
+
+    private record GroupMembers(Map<Long, GroupMemberStatus> statuses, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.mogacko.mogacko.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 서로 독립적인 읽기 조회를 readExecutor에서 동시에 실행합니다.
+ * 각 조회는 별도의 readOnly 트랜잭션(replica 라우팅 대상)에서 실행되고 개별 제한 시간을 가지므로,
+ * 여러 조회를 합친 응답 시간은 조회 시간의 합이 아니라 가장 느린 조회 시간에 가까워집니다.
+ * 조회 결과로 엔티티를 반환하면 트랜잭션 밖에서 지연 로딩이 불가능하므로 필요한 값은 조회 안에서 꺼내야 합니다.
+ * 조회는 요청 스레드의 SecurityContext를 그대로 넘겨받아 실행되므로, 방금 쓰기를 한 사용자의 조회는 작업 스레드에서도 primary로 라우팅됩니다.
+ */
+@Slf4j
+@Component
+public class ParallelReader {
+
+    private final Executor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long defaultTimeoutMillis;
+
+    public ParallelReader(@Qualifier("readExecutor") Executor executor,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${async.read.timeout-ms:3000}") long defaultTimeoutMillis) {
+        // replica 라우팅이 현재 사용자로 read-your-writes 여부를 판단하므로 요청 스레드의 인증 정보를 작업마다 전달
+        this.executor = new DelegatingSecurityContextExecutor(executor);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+    }
+
+    /**
+     * 조회를 비동기로 실행합니다. 실패하거나 제한 시간을 넘기면 future가 예외로 완료됩니다.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        return submit(query, defaultTimeoutMillis);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> query, long timeoutMillis) {
+        return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), executor)
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 선택적인 조회를 비동기로 실행합니다. 실패하거나 제한 시간을 넘기면 기본값으로 완료됩니다.
+     *
+     * @param name 로그에 남길 조회 이름
+     * @param query 조회
+     * @param fallback 실패 시 사용할 값
+     */
+    public <T> CompletableFuture<T> submitOrDefault(String name, Supplier<T> query, T fallback) {
+        return submitOrDefault(name, query, fallback, defaultTimeoutMillis);
+    }
+
+    public <T> CompletableFuture<T> submitOrDefault(String name, Supplier<T> query, T fallback, long timeoutMillis) {
+        return submit(query, timeoutMillis)
+                .exceptionally(e -> {
+                    log.warn("Parallel read '{}' failed: {}", name, e.toString());
+                    return fallback;
+                });
+    }
+}
@@ -0,0 +1,150 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.dto.InterestDto;
+import com.mogacko.mogacko.dto.UserProfileWithStatsDto;
+import com.mogacko.mogacko.entity.UserInterest;
+import com.mogacko.mogacko.entity.UserProfile;
+import com.mogacko.mogacko.entity.UserStatistics;
+import com.mogacko.mogacko.event.UserProfileChangedEvent;
+import com.mogacko.mogacko.repository.UserInterestRepository;
+import com.mogacko.mogacko.repository.UserProfileRepository;
+import com.mogacko.mogacko.repository.UserStatisticsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * 다른 사용자에게 보이는 공개 프로필(이름, 이미지, 관심사, 통계)을 조회합니다.
+ * 여러 사용자를 요청해도 프로필/관심사/통계를 각각 IN 쿼리 한 번씩으로 읽으며, 결과는 사용자 단위로 짧게 캐시합니다.
+ * 개인정보(이메일, 성별, 전화번호, 생년월일)는 포함하지 않습니다.
+ */
+@Service
+public class PublicProfileService {
+
+    private final UserProfileRepository userProfileRepository;
+    private final UserInterestRepository userInterestRepository;
+    private final UserStatisticsRepository statisticsRepository;
+    private final InterestCatalog interestCatalog;
+    private final ParallelReader parallelReader;
+
+    // userId -> 공개 프로필
+    private final TtlCache<Long, UserProfileWithStatsDto> cache;
+
+    public PublicProfileService(UserProfileRepository userProfileRepository,
+                                UserInterestRepository userInterestRepository,
+                                UserStatisticsRepository statisticsRepository,
+                                InterestCatalog interestCatalog,
+                                ParallelReader parallelReader,
+                                @Value("${profile.cache-ttl-ms:60000}") long cacheTtlMillis) {
+        this.userProfileRepository = userProfileRepository;
+        this.userInterestRepository = userInterestRepository;
+        this.statisticsRepository = statisticsRepository;
+        this.interestCatalog = interestCatalog;
+        this.parallelReader = parallelReader;
+        this.cache = new TtlCache<>(cacheTtlMillis);
+    }
+
+    /**
+     * 사용자 한 명의 공개 프로필을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 공개 프로필 (사용자 또는 프로필이 없으면 null)
+     */
+    public UserProfileWithStatsDto getProfile(Long userId) {
+        return cache.getAll(List.of(userId), this::loadProfiles).get(userId);
+    }
+
+    /**
+     * 여러 사용자의 공개 프로필을 한 번에 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 요청 순서대로 정렬된 공개 프로필 목록 (없는 사용자는 제외, 중복 ID는 한 번만 포함)
+     */
+    public List<UserProfileWithStatsDto> getProfiles(Collection<Long> userIds) {
+        LinkedHashSet<Long> distinctIds = new LinkedHashSet<>(userIds);
+        Map<Long, UserProfileWithStatsDto> profiles = cache.getAll(distinctIds, this::loadProfiles);
+
+        List<UserProfileWithStatsDto> result = new ArrayList<>(profiles.size());
+        for (Long userId : distinctIds) {
+            UserProfileWithStatsDto profile = profiles.get(userId);
+            if (profile != null) {
+                result.add(profile);
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        cache.evict(event.getUserId());
+    }
+
+    @Scheduled(fixedRate = 60000)
+    public void evictExpired() {
+        cache.evictExpired();
+    }
+
+    // 캐시에 없는 사용자만 모아 프로필/관심사/통계를 병렬로 한 번씩 조회
+    private Map<Long, UserProfileWithStatsDto> loadProfiles(Collection<Long> userIds) {
+        CompletableFuture<List<UserProfileWithStatsDto.UserProfileWithStatsDtoBuilder>> profilesFuture = parallelReader.submit(
+                () -> userProfileRepository.findWithUserByUserIdIn(userIds).stream()
+                        .map(this::toBuilder)
+                        .collect(Collectors.toList()));
+        CompletableFuture<Map<Long, List<InterestDto>>> interestsFuture = parallelReader.submitOrDefault("profile.interests",
+                () -> userInterestRepository.findByUserUserIdIn(userIds).stream()
+                        .collect(Collectors.groupingBy(userInterest -> userInterest.getUser().getUserId(),
+                                Collectors.mapping(this::toInterestDto, Collectors.toList()))),
+                Map.of());
+        CompletableFuture<Map<Long, UserStatistics>> statisticsFuture = parallelReader.submitOrDefault("profile.statistics",
+                () -> statisticsRepository.findByUserUserIdIn(userIds).stream()
+                        .collect(Collectors.toMap(stats -> stats.getUser().getUserId(), stats -> stats, (a, b) -> a)),
+                Map.of());
+
+        Map<Long, List<InterestDto>> interests = interestsFuture.join();
+        Map<Long, UserStatistics> statistics = statisticsFuture.join();
+
+        Map<Long, UserProfileWithStatsDto> profiles = new HashMap<>();
+        for (UserProfileWithStatsDto.UserProfileWithStatsDtoBuilder builder : profilesFuture.join()) {
+            UserProfileWithStatsDto profile = builder.build();
+            Long userId = profile.getUserId();
+            profile.setInterests(interests.getOrDefault(userId, List.of()));
+
+            // 통계 행이 없거나 조회하지 못하면 통계 필드는 비워 둠 (UserService.getUserProfileWithStats와 같음)
+            UserStatistics stats = statistics.get(userId);
+            if (stats != null) {
+                profile.setGroupParticipationCount(stats.getGroupParticipationCount());
+                profile.setAttendanceRate(stats.getAttendanceRate());
+                profile.setTotalMeetings(stats.getTotalMeetings());
+                profile.setStatsLastUpdated(stats.getLastUpdated());
+            }
+
+            profiles.put(userId, profile);
+        }
+        return profiles;
+    }
+
+    private UserProfileWithStatsDto.UserProfileWithStatsDtoBuilder toBuilder(UserProfile profile) {
+        return UserProfileWithStatsDto.builder()
+                .userId(profile.getUser().getUserId())
+                .name(profile.getName())
+                .profileImage(profile.getUser().getProfileImage())
+                .isOwnProfile(false);
+    }
+
+    // 관심사 이름은 카탈로그에서 조회하므로 interests 테이블을 읽지 않음
+    private InterestDto toInterestDto(UserInterest userInterest) {
+        Long interestId = userInterest.getInterest().getInterestId();
+        return new InterestDto(interestId, interestCatalog.getName(interestId));
+    }
+}
@@ -2,9 +2,12 @@ package com.mogacko.mogacko.service;
 
 import com.mogacko.mogacko.dto.*;
 import com.mogacko.mogacko.entity.*;
+import com.mogacko.mogacko.event.GroupMembershipChangedEvent;
+import com.mogacko.mogacko.exception.BadRequestException;
 import com.mogacko.mogacko.exception.ResourceNotFoundException;
 import com.mogacko.mogacko.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -13,20 +16,31 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class StudyGroupService {
 
+    // 채팅 보관 기간 상한 (10년)
+    public static final int MAX_CHAT_RETENTION_DAYS = 3650;
+
     private final StudyGroupRepository studyGroupRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final UserProfileRepository userProfileRepository;
     private final InterestRepository interestRepository;
+    private final InterestCatalog interestCatalog;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional(readOnly = true)
     public Page<StudyGroupDto> getAllGroups(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<StudyGroup> groupPage = studyGroupRepository.findActiveGroups(pageable);
@@ -37,6 +51,7 @@ public class StudyGroupService {
         });
     }
 
+    @Transactional(readOnly = true)
     public Page<StudyGroupDto> getGroupsByInterest(String interestName, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<StudyGroup> groupPage = studyGroupRepository.findActiveGroupsByInterestName(interestName, pageable);
@@ -47,6 +62,7 @@ public class StudyGroupService {
         });
     }
 
+    @Transactional(readOnly = true)
     public Page<StudyGroupDto> searchGroups(String keyword, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<StudyGroup> groupPage = studyGroupRepository.searchByKeyword(keyword, pageable);
@@ -102,13 +118,14 @@ public class StudyGroupService {
         GroupMember member = memberOpt.get();
 
         // 6. 이미 탈퇴한 멤버인지 확인
-        if (!"ACTIVE".equals(member.getStatus())) {
+        if (member.getStatus() != GroupMemberStatus.ACTIVE) {
             return KickMemberResult.MEMBER_NOT_FOUND;
         }
 
         // 7. 멤버 상태를 KICKED로 변경
-        member.setStatus("KICKED");
+        member.setStatus(GroupMemberStatus.KICKED);
         groupMemberRepository.save(member);
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(groupId, userId));
 
         return KickMemberResult.SUCCESS;
     }
@@ -117,39 +134,42 @@ public class StudyGroupService {
      * 사용자가 그룹장(생성자)인 스터디 그룹 목록을 조회합니다.
      *
      * @param user 현재 사용자
+     * @param page 페이지 번호
+     * @param size 페이지 크기
      * @return 사용자가 그룹장인 스터디 그룹 목록
      */
-    public List<StudyGroupDto> getMyOwnedGroups(User user) {
-        List<StudyGroup> ownedGroups = studyGroupRepository.findByCreator(user);
-
-        return ownedGroups.stream()
-                .filter(StudyGroup::getIsActive) // 활성 그룹만 조회
-                .map(group -> {
-                    int currentMembers = groupMemberRepository.countActiveMembers(group);
-                    return mapToGroupDto(group, currentMembers);
-                })
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<StudyGroupDto> getMyOwnedGroups(User user, int page, int size) {
+        return studyGroupRepository.findOwnedGroupSummaries(user.getUserId(), PageRequest.of(page, size));
     }
 
     /**
      * 사용자가 참여자로 있는 스터디 그룹 목록을 조회합니다.
      *
      * @param user 현재 사용자
+     * @param page 페이지 번호
+     * @param size 페이지 크기
      * @return 사용자가 참여한 스터디 그룹 목록
      */
-    public List<StudyGroupDto> getMyJoinedGroups(User user) {
-        List<StudyGroup> joinedGroups = groupMemberRepository.findUserGroups(user);
-
-        return joinedGroups.stream()
-                .filter(group -> !group.getCreator().getUserId().equals(user.getUserId())) // 그룹장인 경우 제외
-                .filter(StudyGroup::getIsActive) // 활성 그룹만 조회
-                .map(group -> {
-                    int currentMembers = groupMemberRepository.countActiveMembers(group);
-                    return mapToGroupDto(group, currentMembers);
-                })
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<StudyGroupDto> getMyJoinedGroups(User user, int page, int size) {
+        return studyGroupRepository.findJoinedGroupSummaries(user.getUserId(), PageRequest.of(page, size));
+    }
+
+    /**
+     * 그룹 본문을 조회하지 않고 updatedAt과 활성 멤버 수만으로 ETag를 계산합니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @return ETag (그룹이 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public String getGroupETag(Long groupId) {
+        return studyGroupRepository.findVersionById(groupId)
+                .map(ResourceVersion::toETag)
+                .orElse(null);
     }
 
+    @Transactional(readOnly = true)
     public StudyGroupDto getGroupDetails(Long groupId) {
         Optional<StudyGroup> groupOpt = studyGroupRepository.findById(groupId);
 
@@ -164,7 +184,8 @@ public class StudyGroupService {
 
     @Transactional
     public StudyGroupDto createGroup(User user, GroupCreateRequest request) {
-        Interest requestInterest = interestRepository.findByInterestName(request.getInterest()).orElseThrow(()->new ResourceNotFoundException("찾을 수 없는 관심사 입니다."));
+        Interest requestInterest = resolveInterest(request.getInterest());
+        validateChatRetentionDays(request.getChatRetentionDays());
 
         // 스터디 그룹 생성
         StudyGroup newGroup = StudyGroup.builder()
@@ -175,6 +196,7 @@ public class StudyGroupService {
                 .locationName(request.getLocationName())
                 .maxMembers(request.getMaxMembers())
                 .requirements(request.getRequirements())
+                .chatRetentionDays(request.getChatRetentionDays())
                 .isActive(true)
                 .build();
 
@@ -185,10 +207,11 @@ public class StudyGroupService {
                 .group(savedGroup)
                 .user(user)
                 .joinDate(LocalDate.now())
-                .status("ACTIVE")
+                .status(GroupMemberStatus.ACTIVE)
                 .build();
 
         groupMemberRepository.save(creatorMember);
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(savedGroup.getGroupId(), user.getUserId()));
 
         return mapToGroupDto(savedGroup, 1); // 생성자 1명으로 시작
     }
@@ -208,8 +231,8 @@ public class StudyGroupService {
             return null;
         }
 
-        Interest requestInterest = interestRepository.findByInterestName(request.getInterest()).orElseThrow(()->new ResourceNotFoundException("찾을 수 없는 관심사 입니다."));
-
+        Interest requestInterest = resolveInterest(request.getInterest());
+        validateChatRetentionDays(request.getChatRetentionDays());
 
         // 그룹 정보 업데이트
         group.setTitle(request.getTitle());
@@ -218,6 +241,10 @@ public class StudyGroupService {
         group.setLocationName(request.getLocationName());
         group.setMaxMembers(request.getMaxMembers());
         group.setRequirements(request.getRequirements());
+        // 보관 기간은 요청에 포함된 경우에만 변경
+        if (request.getChatRetentionDays() != null) {
+            group.setChatRetentionDays(request.getChatRetentionDays());
+        }
 
         StudyGroup updatedGroup = studyGroupRepository.save(group);
         int currentMembers = groupMemberRepository.countActiveMembers(updatedGroup);
@@ -247,19 +274,70 @@ public class StudyGroupService {
         return true;
     }
 
-    public List<GroupMemberDto> getGroupMembers(Long groupId) {
-        Optional<StudyGroup> groupOpt = studyGroupRepository.findById(groupId);
-
-        if (groupOpt.isEmpty()) {
+    /**
+     * 스터디 그룹의 멤버 목록을 상태별로 keyset 페이지 조회합니다.
+     * 정렬 키는 (가입일, membershipId)이며, 이전 응답의 nextCursor를 넘기면 그 다음부터 이어서 조회합니다.
+     * 가입일이 없는 멤버는 오래된 가입 순에서는 맨 뒤, 최근 가입 순에서는 맨 앞에 옵니다.
+     *
+     * @param groupId 스터디 그룹 ID
+     * @param status 조회할 멤버 상태
+     * @param newestFirst true면 최근 가입 순, false면 오래된 가입 순
+     * @param cursor 이전 응답의 nextCursor (없으면 처음부터)
+     * @param size 페이지 크기
+     * @return 멤버 목록과 다음 커서 (그룹이 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public GroupMemberPageDto getGroupMembers(Long groupId, GroupMemberStatus status, boolean newestFirst, String cursor, int size) {
+        if (!studyGroupRepository.existsById(groupId)) {
             return null;
         }
 
-        StudyGroup group = groupOpt.get();
-        List<GroupMember> members = groupMemberRepository.findByGroup(group);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<GroupMemberDto> members;
+        if (cursor == null) {
+            members = newestFirst
+                    ? groupMemberRepository.findMemberPageDesc(groupId, status, limit)
+                    : groupMemberRepository.findMemberPageAsc(groupId, status, limit);
+        } else {
+            int separator = cursor.indexOf('_');
+            LocalDate joinDate;
+            Long membershipId;
+            try {
+                // 가입일이 없는 멤버를 가리키는 커서는 날짜 부분이 비어 있음 (이전에 발급된 "null_<id>"도 허용)
+                String datePart = cursor.substring(0, separator);
+                joinDate = datePart.isEmpty() || datePart.equals("null") ? null : LocalDate.parse(datePart);
+                membershipId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new BadRequestException("잘못된 커서입니다.");
+            }
+            if (joinDate == null) {
+                members = newestFirst
+                        ? groupMemberRepository.findMemberPageDescBeforeUndated(groupId, status, membershipId, limit)
+                        : groupMemberRepository.findMemberPageAscAfterUndated(groupId, status, membershipId, limit);
+            } else {
+                members = newestFirst
+                        ? groupMemberRepository.findMemberPageDescBefore(groupId, status, joinDate, membershipId, limit)
+                        : groupMemberRepository.findMemberPageAscAfter(groupId, status, joinDate, membershipId, limit);
+            }
+        }
 
-        return members.stream()
-                .map(this::mapToMemberDto)
-                .collect(Collectors.toList());
+        boolean hasMore = members.size() > size;
+        if (hasMore) {
+            members = members.subList(0, size);
+        }
+
+        GroupMemberDto last = hasMore ? members.get(members.size() - 1) : null;
+        return GroupMemberPageDto.builder()
+                .members(members)
+                .nextCursor(last != null ? toMemberCursor(last) : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // "{가입일}_{membershipId}", 가입일이 없으면 "_{membershipId}"
+    private String toMemberCursor(GroupMemberDto member) {
+        return (member.getJoinDate() != null ? member.getJoinDate().toString() : "") + "_" + member.getMembershipId();
     }
 
     /**
@@ -269,6 +347,7 @@ public class StudyGroupService {
      * @param groupId 스터디 그룹 ID
      * @return 가입 대기 멤버 목록 결과
      */
+    @Transactional(readOnly = true)
     public PendingMembersResult getPendingMembers(User currentUser, Long groupId) {
         // 1. 그룹 존재 여부 확인
         Optional<StudyGroup> groupOpt = studyGroupRepository.findById(groupId);
@@ -284,7 +363,7 @@ public class StudyGroupService {
         }
 
         // 3. 가입 대기 상태의 멤버 조회
-        List<GroupMember> pendingMembers = groupMemberRepository.findByGroupAndStatus(group, "PENDING");
+        List<GroupMember> pendingMembers = groupMemberRepository.findByGroupAndStatus(group, GroupMemberStatus.PENDING);
 
         // 4. DTO로 변환
         List<GroupMemberDto> pendingMemberDtos = pendingMembers.stream()
@@ -311,22 +390,22 @@ public class StudyGroupService {
             GroupMember existingMember = existingMemberOpt.get();
 
             // 이미 활성 멤버면 무시
-            if ("ACTIVE".equals(existingMember.getStatus())) {
+            if (existingMember.getStatus() == GroupMemberStatus.ACTIVE) {
                 return false;
             }
 
             // 이미 활성 멤버면 무시
-            if ("KICKED".equals(existingMember.getStatus())) {
+            if (existingMember.getStatus() == GroupMemberStatus.KICKED) {
                 return false;
             }
 
             // 이미 대기 중이면 무시
-            if ("PENDING".equals(existingMember.getStatus())) {
+            if (existingMember.getStatus() == GroupMemberStatus.PENDING) {
                 return false;
             }
 
             // 탈퇴했거나 추방당했던 멤버면 대기 상태로 변경
-            existingMember.setStatus("PENDING");
+            existingMember.setStatus(GroupMemberStatus.PENDING);
             existingMember.setJoinDate(LocalDate.now());
             groupMemberRepository.save(existingMember);
         } else {
@@ -343,12 +422,13 @@ public class StudyGroupService {
                     .group(group)
                     .user(user)
                     .joinDate(LocalDate.now())
-                    .status("PENDING")
+                    .status(GroupMemberStatus.PENDING)
                     .build();
 
             groupMemberRepository.save(newMember);
         }
 
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(groupId, user.getUserId()));
         return true;
     }
 
@@ -363,7 +443,7 @@ public class StudyGroupService {
     @Transactional
     public MembershipActionResult approveMember(User currentUser, Long groupId, Long userId) {
         // 1. 그룹 존재 여부 확인
-        Optional<StudyGroup> groupOpt = studyGroupRepository.findById(groupId);
+        Optional<StudyGroup> groupOpt = studyGroupRepository.findByIdForUpdate(groupId);
         if (groupOpt.isEmpty()) {
             return MembershipActionResult.GROUP_NOT_FOUND;
         }
@@ -385,7 +465,7 @@ public class StudyGroupService {
 
         // 4. 가입 신청 상태인지 확인
         Optional<GroupMember> memberOpt = groupMemberRepository.findByGroupAndUser(group, targetUser);
-        if (memberOpt.isEmpty() || !"PENDING".equals(memberOpt.get().getStatus())) {
+        if (memberOpt.isEmpty() || memberOpt.get().getStatus() != GroupMemberStatus.PENDING) {
             return MembershipActionResult.MEMBER_NOT_PENDING;
         }
 
@@ -400,9 +480,10 @@ public class StudyGroupService {
         }
 
         // 7. 멤버 상태를 ACTIVE로 변경
-        member.setStatus("ACTIVE");
+        member.setStatus(GroupMemberStatus.ACTIVE);
         member.setJoinDate(LocalDate.now()); // 승인 날짜로 갱신
         groupMemberRepository.save(member);
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(groupId, userId));
 
         return MembershipActionResult.SUCCESS;
     }
@@ -440,7 +521,7 @@ public class StudyGroupService {
 
         // 4. 가입 신청 상태인지 확인
         Optional<GroupMember> memberOpt = groupMemberRepository.findByGroupAndUser(group, targetUser);
-        if (memberOpt.isEmpty() || !"PENDING".equals(memberOpt.get().getStatus())) {
+        if (memberOpt.isEmpty() || memberOpt.get().getStatus() != GroupMemberStatus.PENDING) {
             return MembershipActionResult.MEMBER_NOT_PENDING;
         }
 
@@ -448,13 +529,193 @@ public class StudyGroupService {
 
         // 5. 가입 신청 삭제 (또는 상태를 REJECTED로 변경)
         groupMemberRepository.delete(member);
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(groupId, userId));
         // 또는 거절 이력을 남기고 싶다면:
-        // member.setStatus("REJECTED");
+        // member.setStatus(GroupMemberStatus.REJECTED);
         // groupMemberRepository.save(member);
 
         return MembershipActionResult.SUCCESS;
     }
 
+    /**
+     * 여러 사용자의 가입 신청을 한 트랜잭션에서 승인합니다.
+     * 정원은 한 번만 확인하며, 남은 자리를 요청 순서대로 배정하고 넘치는 신청은 MAX_MEMBERS_EXCEEDED로 처리합니다.
+     *
+     * @param currentUser 현재 사용자 (그룹 생성자여야 함)
+     * @param groupId 스터디 그룹 ID
+     * @param userIds 승인할 사용자 ID 목록
+     * @return 사용자별 처리 결과
+     */
+    @Transactional
+    public BulkMemberActionResult bulkApproveMembers(User currentUser, Long groupId, List<Long> userIds) {
+        Optional<StudyGroup> groupOpt = studyGroupRepository.findByIdForUpdate(groupId);
+        if (groupOpt.isEmpty()) {
+            return BulkMemberActionResult.error(MembershipActionResult.GROUP_NOT_FOUND);
+        }
+
+        StudyGroup group = groupOpt.get();
+        if (!group.getCreator().getUserId().equals(currentUser.getUserId())) {
+            return BulkMemberActionResult.error(MembershipActionResult.NOT_GROUP_OWNER);
+        }
+
+        List<MemberTarget> targets = findTargets(groupId, userIds);
+        int remaining = group.getMaxMembers() != null
+                ? group.getMaxMembers() - groupMemberRepository.countActiveMembers(group)
+                : Integer.MAX_VALUE;
+
+        List<Long> approvedIds = new ArrayList<>();
+        List<MemberActionResultDto> results = new ArrayList<>(targets.size());
+        for (MemberTarget target : targets) {
+            MembershipActionResult result;
+            if (target.lookup() == TargetLookup.USER_NOT_FOUND) {
+                result = MembershipActionResult.USER_NOT_FOUND;
+            } else if (!target.hasStatus(GroupMemberStatus.PENDING)) {
+                result = MembershipActionResult.MEMBER_NOT_PENDING;
+            } else if (remaining <= 0) {
+                result = MembershipActionResult.MAX_MEMBERS_EXCEEDED;
+            } else {
+                approvedIds.add(target.userId());
+                remaining--;
+                result = MembershipActionResult.SUCCESS;
+            }
+            results.add(new MemberActionResultDto(target.userId(), result.name()));
+        }
+
+        if (!approvedIds.isEmpty()) {
+            groupMemberRepository.approvePendingMembers(groupId, approvedIds, LocalDate.now());
+            approvedIds.forEach(userId -> eventPublisher.publishEvent(new GroupMembershipChangedEvent(groupId, userId)));
+        }
+
+        return BulkMemberActionResult.success(results);
+    }
+
+    /**
+     * 여러 사용자의 가입 신청을 한 트랜잭션에서 거절합니다.
+     *
+     * @param currentUser 현재 사용자 (그룹 생성자여야 함)
+     * @param groupId 스터디 그룹 ID
+     * @param userIds 거절할 사용자 ID 목록
+     * @return 사용자별 처리 결과
+     */
+    @Transactional
+    public BulkMemberActionResult bulkRejectMembers(User currentUser, Long groupId, List<Long> userIds) {
+        Optional<StudyGroup> groupOpt = studyGroupRepository.findById(groupId);
+        if (groupOpt.isEmpty()) {
+            return BulkMemberActionResult.error(MembershipActionResult.GROUP_NOT_FOUND);
+        }
+
+        StudyGroup group = groupOpt.get();
+        if (!group.getCreator().getUserId().equals(currentUser.getUserId())) {
+            return BulkMemberActionResult.error(MembershipActionResult.NOT_GROUP_OWNER);
+        }
+
+        List<MemberTarget> targets = findTargets(groupId, userIds);
+
+        List<Long> rejectedIds = new ArrayList<>();
+        List<MemberActionResultDto> results = new ArrayList<>(targets.size());
+        for (MemberTarget target : targets) {
+            MembershipActionResult result;
+            if (target.lookup() == TargetLookup.USER_NOT_FOUND) {
+                result = MembershipActionResult.USER_NOT_FOUND;
+            } else if (!target.hasStatus(GroupMemberStatus.PENDING)) {
+                result = MembershipActionResult.MEMBER_NOT_PENDING;
+            } else {
+                rejectedIds.add(target.userId());
+                result = MembershipActionResult.SUCCESS;
+            }
+            results.add(new MemberActionResultDto(target.userId(), result.name()));
+        }
+
+        if (!rejectedIds.isEmpty()) {
+            groupMemberRepository.deletePendingMembers(groupId, rejectedIds);
+            rejectedIds.forEach(userId -> eventPublisher.publishEvent(new GroupMembershipChangedEvent(groupId, userId)));
+        }
+
+        return BulkMemberActionResult.success(results);
+    }
+
+    /**
+     * 여러 멤버를 한 트랜잭션에서 추방합니다.
+     * 사용자별 결과는 KickMemberResult 값으로 반환됩니다.
+     *
+     * @param currentUser 현재 사용자 (그룹 생성자여야 함)
+     * @param groupId 스터디 그룹 ID
+     * @param userIds 추방할 사용자 ID 목록
+     * @return 사용자별 처리 결과
+     */
+    @Transactional
+    public BulkMemberActionResult bulkKickMembers(User currentUser, Long groupId, List<Long> userIds) {
+        Optional<StudyGroup> groupOpt = studyGroupRepository.findById(groupId);
+        if (groupOpt.isEmpty()) {
+            return BulkMemberActionResult.error(MembershipActionResult.GROUP_NOT_FOUND);
+        }
+
+        StudyGroup group = groupOpt.get();
+        Long ownerId = group.getCreator().getUserId();
+        if (!ownerId.equals(currentUser.getUserId())) {
+            return BulkMemberActionResult.error(MembershipActionResult.NOT_GROUP_OWNER);
+        }
+
+        List<MemberTarget> targets = findTargets(groupId, userIds);
+
+        List<Long> kickedIds = new ArrayList<>();
+        List<MemberActionResultDto> results = new ArrayList<>(targets.size());
+        for (MemberTarget target : targets) {
+            KickMemberResult result;
+            if (target.lookup() == TargetLookup.USER_NOT_FOUND) {
+                result = KickMemberResult.USER_NOT_FOUND;
+            } else if (ownerId.equals(target.userId())) {
+                result = KickMemberResult.CANNOT_KICK_OWNER;
+            } else if (!target.hasStatus(GroupMemberStatus.ACTIVE)) {
+                result = KickMemberResult.MEMBER_NOT_FOUND;
+            } else {
+                kickedIds.add(target.userId());
+                result = KickMemberResult.SUCCESS;
+            }
+            results.add(new MemberActionResultDto(target.userId(), result.name()));
+        }
+
+        if (!kickedIds.isEmpty()) {
+            groupMemberRepository.kickActiveMembers(groupId, kickedIds);
+            kickedIds.forEach(userId -> eventPublisher.publishEvent(new GroupMembershipChangedEvent(groupId, userId)));
+        }
+
+        return BulkMemberActionResult.success(results);
+    }
+
+    /**
+     * 요청 순서를 유지한 채(중복 제거) 대상 사용자들의 조회 결과를 두 번의 쿼리로 구합니다.
+     */
+    private List<MemberTarget> findTargets(Long groupId, List<Long> userIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(userIds);
+        Set<Long> existingIds = new HashSet<>(userRepository.findExistingUserIds(distinctIds));
+        Map<Long, GroupMemberStatus> statuses = groupMemberRepository.findMemberStatusesByUserIds(groupId, distinctIds).stream()
+                .collect(Collectors.toMap(MemberStatusDto::getUserId, MemberStatusDto::getStatus));
+
+        List<MemberTarget> targets = new ArrayList<>(distinctIds.size());
+        for (Long userId : distinctIds) {
+            GroupMemberStatus status = statuses.get(userId);
+            TargetLookup lookup = !existingIds.contains(userId) ? TargetLookup.USER_NOT_FOUND
+                    : status == null ? TargetLookup.NOT_MEMBER
+                    : TargetLookup.MEMBER;
+            targets.add(new MemberTarget(userId, lookup, status));
+        }
+        return targets;
+    }
+
+    // 일괄 처리 대상 사용자의 조회 결과
+    private enum TargetLookup {
+        USER_NOT_FOUND, // 존재하지 않는 사용자
+        NOT_MEMBER,     // 그룹 멤버십이 없는 사용자
+        MEMBER          // 멤버십이 있는 사용자 (status에 상태)
+    }
+
+    private record MemberTarget(Long userId, TargetLookup lookup, GroupMemberStatus status) {
+        boolean hasStatus(GroupMemberStatus expected) {
+            return lookup == TargetLookup.MEMBER && status == expected;
+        }
+    }
+
     @Transactional
     public boolean leaveGroup(User user, Long groupId) {
         Optional<StudyGroup> groupOpt = studyGroupRepository.findById(groupId);
@@ -478,12 +739,29 @@ public class StudyGroupService {
         }
 
         GroupMember member = memberOpt.get();
-        member.setStatus("INACTIVE");
+        member.setStatus(GroupMemberStatus.INACTIVE);
         groupMemberRepository.save(member);
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(groupId, user.getUserId()));
 
         return true;
     }
 
+    // 카탈로그에서 ID를 찾고 프록시 참조만 만들어 interests 조회를 생략
+    /**
+     * @throws BadRequestException 보관 기간이 1일 ~ MAX_CHAT_RETENTION_DAYS일 범위를 벗어난 경우
+     */
+    private void validateChatRetentionDays(Integer chatRetentionDays) {
+        if (chatRetentionDays != null && (chatRetentionDays < 1 || chatRetentionDays > MAX_CHAT_RETENTION_DAYS)) {
+            throw new BadRequestException("채팅 보관 기간은 1일 이상 " + MAX_CHAT_RETENTION_DAYS + "일 이하여야 합니다.");
+        }
+    }
+
+    private Interest resolveInterest(String interestName) {
+        Long interestId = interestCatalog.findIdByName(interestName)
+                .orElseThrow(() -> new ResourceNotFoundException("찾을 수 없는 관심사 입니다."));
+        return interestRepository.getReferenceById(interestId);
+    }
+
     private StudyGroupDto mapToGroupDto(StudyGroup group, int currentMembers) {
         // 생성자 이름 조회
         String creatorName = "";
@@ -497,13 +775,14 @@ public class StudyGroupService {
                 .creatorId(group.getCreator().getUserId())
                 .creatorName(creatorName)
                 .title(group.getTitle())
-                .interestName(group.getInterest().getInterestName())
+                .interestName(interestCatalog.getName(group.getInterest().getInterestId()))
                 .description(group.getDescription())
                 .locationName(group.getLocationName())
                 .maxMembers(group.getMaxMembers())
                 .currentMembers(currentMembers)
                 .requirements(group.getRequirements())
                 .isActive(group.getIsActive())
+                .chatRetentionDays(group.getChatRetentionDays())
                 .createdAt(group.getCreatedAt())
                 .updatedAt(group.getUpdatedAt())
                 .build();
@@ -528,7 +807,7 @@ public class StudyGroupService {
                 .userName(userName)
                 .profileImage(profileImage)
                 .joinDate(member.getJoinDate())
-                .status(member.getStatus())
+                .status(member.getStatus() != null ? member.getStatus().name() : null)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,272 @@
+package com.mogacko.mogacko.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 기반의 메모리 타이머.
+ * 레벨마다 wheelSize개의 버킷이 있고, 상위 레벨의 한 칸은 바로 아래 레벨 전체 구간과 같습니다 (tick x wheelSize).
+ * 타이머 등록은 만료 시각으로 버킷을 계산해 리스트에 붙이기만 하므로 O(1)이며, 상위 레벨 버킷은 만료가 다가오면 하위 레벨로 다시 분배됩니다.
+ * 타이머가 들어 있는 버킷만 DelayQueue에 올라가므로 빈 틱을 돌지 않고, 드라이버 스레드는 다음 버킷이 만료될 때까지 대기합니다.
+ */
+@Slf4j
+class TimingWheel implements AutoCloseable {
+
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+
+    private final Executor taskExecutor;
+    private final DelayQueue<Bucket> queue = new DelayQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    // 등록은 읽기 잠금, 시계 진행(버킷 재분배)은 쓰기 잠금
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Level wheel;
+    private final Thread driver;
+    private volatile boolean running = true;
+
+    TimingWheel(String name, long tickMillis, int wheelSize, Executor taskExecutor) {
+        if (tickMillis < 1 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis must be >= 1 and wheelSize >= 2");
+        }
+        this.taskExecutor = taskExecutor;
+        this.wheel = new Level(tickMillis, wheelSize, System.currentTimeMillis());
+        this.driver = new Thread(this::drive, name);
+        this.driver.setDaemon(true);
+        this.driver.start();
+    }
+
+    /**
+     * 지정한 시각에 작업을 실행하도록 등록합니다. 이미 지난 시각이면 즉시 실행합니다.
+     *
+     * @param expirationMillis 실행 시각 (epoch millis)
+     * @param task 실행할 작업 (taskExecutor에서 실행)
+     * @return 취소용 핸들
+     */
+    Timeout schedule(long expirationMillis, Runnable task) {
+        Timeout timeout = new Timeout(expirationMillis, task);
+        lock.readLock().lock();
+        try {
+            add(timeout);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return timeout;
+    }
+
+    /**
+     * @return 대기 중인 타이머 수
+     */
+    int size() {
+        return size.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        driver.interrupt();
+    }
+
+    private void add(Timeout timeout) {
+        if (!wheel.add(timeout) && !timeout.isCancelled()) {
+            // 이미 만료된 타이머
+            try {
+                taskExecutor.execute(timeout.task);
+            } catch (RuntimeException e) {
+                log.warn("Timer task rejected", e);
+            }
+        }
+    }
+
+    private void drive() {
+        while (running) {
+            try {
+                advanceClock();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Timing wheel driver failed", e);
+            }
+        }
+    }
+
+    // 만료된 버킷을 꺼내 시계를 그 시각으로 옮기고, 버킷의 타이머를 다시 등록해 실행하거나 하위 레벨로 내림
+    private void advanceClock() throws InterruptedException {
+        Bucket bucket = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (bucket == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            while (bucket != null) {
+                wheel.advanceClock(bucket.getExpiration());
+                bucket.flush(this::add);
+                bucket = queue.poll();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 등록된 타이머 핸들
+     */
+    static final class Timeout {
+        private final long expirationMillis;
+        private final Runnable task;
+        private volatile boolean cancelled;
+        private volatile Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(long expirationMillis, Runnable task) {
+            this.expirationMillis = expirationMillis;
+            this.task = task;
+        }
+
+        long getExpirationMillis() {
+            return expirationMillis;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        // 버킷 리스트에서 바로 떼어내므로 O(1)
+        void cancel() {
+            cancelled = true;
+            Bucket current = bucket;
+            if (current != null) {
+                current.remove(this);
+            }
+        }
+    }
+
+    // 휠 한 레벨. 범위를 넘는 타이머는 필요할 때 만들어지는 상위 레벨로 넘깁니다.
+    private final class Level {
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long interval;
+        private final Bucket[] buckets;
+        private long currentTime;
+        private volatile Level overflow;
+
+        Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.interval = tickMillis * wheelSize;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket();
+            }
+            this.currentTime = startMillis - (startMillis % tickMillis);
+        }
+
+        boolean add(Timeout timeout) {
+            long expiration = timeout.expirationMillis;
+            if (timeout.isCancelled() || expiration < currentTime + tickMillis) {
+                return false;
+            }
+            if (expiration < currentTime + interval) {
+                long virtualId = expiration / tickMillis;
+                Bucket bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(timeout);
+                // 버킷이 새 회차로 재사용될 때만 큐에 다시 올림
+                if (bucket.setExpiration(virtualId * tickMillis)) {
+                    queue.offer(bucket);
+                }
+                return true;
+            }
+            return overflow().add(timeout);
+        }
+
+        void advanceClock(long timeMillis) {
+            if (timeMillis >= currentTime + tickMillis) {
+                currentTime = timeMillis - (timeMillis % tickMillis);
+                Level upper = overflow;
+                if (upper != null) {
+                    upper.advanceClock(currentTime);
+                }
+            }
+        }
+
+        private Level overflow() {
+            if (overflow == null) {
+                synchronized (this) {
+                    if (overflow == null) {
+                        overflow = new Level(interval, wheelSize, currentTime);
+                    }
+                }
+            }
+            return overflow;
+        }
+    }
+
+    // 같은 구간에 만료되는 타이머의 이중 연결 리스트
+    private final class Bucket implements Delayed {
+        private final Timeout root = new Timeout(-1, null);
+        private final AtomicLong expiration = new AtomicLong(-1);
+
+        Bucket() {
+            root.prev = root;
+            root.next = root;
+        }
+
+        synchronized void add(Timeout timeout) {
+            timeout.bucket = this;
+            Timeout tail = root.prev;
+            timeout.next = root;
+            timeout.prev = tail;
+            tail.next = timeout;
+            root.prev = timeout;
+            size.incrementAndGet();
+        }
+
+        synchronized void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            timeout.next.prev = timeout.prev;
+            timeout.prev.next = timeout.next;
+            timeout.next = null;
+            timeout.prev = null;
+            timeout.bucket = null;
+            size.decrementAndGet();
+        }
+
+        synchronized void flush(Consumer<Timeout> consumer) {
+            Timeout head = root.next;
+            while (head != root) {
+                remove(head);
+                consumer.accept(head);
+                head = root.next;
+            }
+            expiration.set(-1);
+        }
+
+        boolean setExpiration(long expirationMillis) {
+            return expiration.getAndSet(expirationMillis) != expirationMillis;
+        }
+
+        long getExpiration() {
+            return expiration.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(getExpiration() - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getExpiration(), ((Bucket) other).getExpiration());
+        }
+    }
+}
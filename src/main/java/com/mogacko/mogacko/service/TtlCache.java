@@ -0,0 +1,116 @@
+package com.mogacko.mogacko.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * TTL 기반의 단순 메모리 캐시.
+ * 대시보드 섹션, 공개 프로필 등 짧은 시간 동안 재사용할 조회 결과를 보관합니다.
+ * 적재 도중 같은 키가 무효화되면 적재 결과는 무효화 이전 데이터일 수 있으므로 반환만 하고 저장하지 않습니다.
+ */
+class TtlCache<K, V> {
+    private final long ttlMillis;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    // 무효화할 때마다 증가하는 순번. 적재를 시작한 시점의 순번과 비교함
+    private final AtomicLong evictionClock = new AtomicLong();
+    // 키별 마지막 무효화 (진행 중인 적재를 가리는 용도이므로 TTL이 지나면 정리)
+    private final Map<K, Eviction> evictions = new ConcurrentHashMap<>();
+    // evictIf로 마지막으로 일괄 무효화한 순번
+    private volatile long lastBulkEviction;
+
+    TtlCache(long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    V get(K key, Supplier<V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && !entry.isExpired()) {
+            return entry.value;
+        }
+
+        long loadStartedAt = evictionClock.get();
+        V value = loader.get();
+        if (value != null) {
+            store(key, value, System.currentTimeMillis() + ttlMillis, loadStartedAt);
+        }
+        return value;
+    }
+
+    // 적재하지 않고 캐시에 있는 값만 조회
+    V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && !entry.isExpired() ? entry.value : null;
+    }
+
+    // 캐시에 없는 키만 모아 한 번에 적재
+    Map<K, V> getAll(Collection<K> keys, Function<Collection<K>, Map<K, V>> loader) {
+        Map<K, V> result = new HashMap<>();
+        List<K> missing = new ArrayList<>();
+        for (K key : keys) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && !entry.isExpired()) {
+                result.put(key, entry.value);
+            } else {
+                missing.add(key);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long loadStartedAt = evictionClock.get();
+            Map<K, V> loaded = loader.apply(missing);
+            long expiresAt = System.currentTimeMillis() + ttlMillis;
+            loaded.forEach((key, value) -> {
+                store(key, value, expiresAt, loadStartedAt);
+                result.put(key, value);
+            });
+        }
+        return result;
+    }
+
+    // 무효화 기록을 남긴 뒤 항목을 지우므로, 저장과 엇갈려도 오래된 값이 남지 않음
+    void evict(K key) {
+        evictions.put(key, new Eviction(evictionClock.incrementAndGet(), System.currentTimeMillis()));
+        entries.remove(key);
+    }
+
+    void evictIf(Predicate<K> predicate) {
+        lastBulkEviction = evictionClock.incrementAndGet();
+        entries.keySet().removeIf(predicate);
+    }
+
+    void evictExpired() {
+        entries.values().removeIf(Entry::isExpired);
+        long threshold = System.currentTimeMillis() - ttlMillis;
+        evictions.values().removeIf(eviction -> eviction.evictedAt() < threshold);
+    }
+
+    // 적재를 시작한 뒤 이 키가 무효화되었으면 저장하지 않음
+    private void store(K key, V value, long expiresAt, long loadStartedAt) {
+        entries.compute(key, (k, current) -> isEvictedSince(k, loadStartedAt) ? current : new Entry<>(value, expiresAt));
+    }
+
+    private boolean isEvictedSince(K key, long loadStartedAt) {
+        if (lastBulkEviction > loadStartedAt) {
+            return true;
+        }
+        Eviction eviction = evictions.get(key);
+        return eviction != null && eviction.sequence() > loadStartedAt;
+    }
+
+    private record Eviction(long sequence, long evictedAt) {
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
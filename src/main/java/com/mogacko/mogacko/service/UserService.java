@@ -6,17 +6,28 @@ import com.mogacko.mogacko.entity.Interest;
 import com.mogacko.mogacko.entity.User;
 import com.mogacko.mogacko.entity.UserInterest;
 import com.mogacko.mogacko.entity.UserProfile;
+import com.mogacko.mogacko.event.UserProfileChangedEvent;
 import com.mogacko.mogacko.repository.InterestRepository;
 import com.mogacko.mogacko.repository.UserInterestRepository;
 import com.mogacko.mogacko.repository.UserProfileRepository;
 import com.mogacko.mogacko.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,10 +36,16 @@ public class UserService {
 
     private final UserProfileRepository userProfileRepository;
     private final InterestRepository interestRepository;
+    private final InterestCatalog interestCatalog;
     private final UserRepository userRepository;
     private final UserInterestRepository userInterestRepository;
     private final UserStatisticsService statisticsService;
+    private final ParallelReader parallelReader;
+    private final JdbcTemplate jdbcTemplate;
+    private final PublicProfileService publicProfileService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional(readOnly = true)
     public UserProfileDto getUserProfile(User user) {
         Optional<UserProfile> profileOpt = userProfileRepository.findByUser(user);
 
@@ -56,8 +73,25 @@ public class UserService {
      * @return 프로필 및 통계 정보
      */
     public UserProfileWithStatsDto getUserProfileWithStats(Long userId, boolean isOwnProfile) {
+        // 다른 사용자의 프로필은 개인정보가 없는 공유 캐시에서 조회
+        if (!isOwnProfile) {
+            return publicProfileService.getProfile(userId);
+        }
+
+        // 사용자/프로필/관심사/통계는 서로 독립적이므로 동시에 조회 (각각 별도의 readOnly 트랜잭션)
+        CompletableFuture<Optional<User>> userFuture = parallelReader.submit(() -> userRepository.findById(userId));
+        CompletableFuture<Optional<UserProfile>> profileFuture = parallelReader.submit(() -> userProfileRepository.findByUserUserId(userId));
+        CompletableFuture<List<InterestDto>> interestsFuture = parallelReader.submitOrDefault("profile.interests",
+                () -> userInterestRepository.findUserInterestsByUserId(userId).stream()
+                        .map(interest -> new InterestDto(interest.getInterestId(), interest.getInterestName()))
+                        .collect(Collectors.toList()),
+                List.of());
+        // 통계 정보 조회 (읽기 경로이므로 통계 행을 새로 만들지 않음)
+        CompletableFuture<UserStatisticsDto> statisticsFuture = parallelReader.submitOrDefault("profile.statistics",
+                () -> statisticsService.findUserStatistics(userId), null);
+
         // 사용자 조회
-        Optional<User> userOpt = userRepository.findById(userId);
+        Optional<User> userOpt = userFuture.join();
         if (userOpt.isEmpty()) {
             return null;
         }
@@ -65,21 +99,14 @@ public class UserService {
         User user = userOpt.get();
 
         // 프로필 조회
-        Optional<UserProfile> profileOpt = userProfileRepository.findByUser(user);
+        Optional<UserProfile> profileOpt = profileFuture.join();
         if (profileOpt.isEmpty()) {
             return null;
         }
 
         UserProfile profile = profileOpt.get();
-
-        // 관심사 조회
-        List<Interest> userInterests = userInterestRepository.findUserInterests(user);
-        List<InterestDto> interestDtos = userInterests.stream()
-                .map(interest -> new InterestDto(interest.getInterestId(), interest.getInterestName()))
-                .collect(Collectors.toList());
-
-        // 통계 정보 조회
-        UserStatisticsDto statistics = statisticsService.getUserStatistics(user);
+        List<InterestDto> interestDtos = interestsFuture.join();
+        UserStatisticsDto statistics = statisticsFuture.join();
 
         // DTO 구성
         UserProfileWithStatsDto.UserProfileWithStatsDtoBuilder builder = UserProfileWithStatsDto.builder()
@@ -97,7 +124,7 @@ public class UserService {
                     .birthDate(profile.getBirthDate());
         }
 
-        // 통계 정보 추가
+        // 통계 정보 추가 (통계 행이 없거나 조회하지 못하면 비워 둠)
         if (statistics != null) {
             builder.groupParticipationCount(statistics.getGroupParticipationCount())
                     .attendanceRate(statistics.getAttendanceRate())
@@ -108,12 +135,23 @@ public class UserService {
         return builder.build();
     }
 
+    /**
+     * 여러 사용자의 공개 프로필과 통계 정보를 한 번에 조회합니다.
+     *
+     * @param userIds 조회할 사용자 ID 목록
+     * @return 공개 프로필 목록 (요청 순서, 없는 사용자는 제외)
+     */
+    public List<UserProfileWithStatsDto> getPublicProfiles(List<Long> userIds) {
+        return publicProfileService.getProfiles(userIds);
+    }
+
     /**
      * 특정 사용자 ID로 프로필 정보를 조회합니다.
      *
      * @param userId 조회할 사용자 ID
      * @return 사용자 프로필 정보
      */
+    @Transactional(readOnly = true)
     public UserProfileDto getUserProfileById(Long userId) {
         // 사용자 조회
         Optional<User> userOpt = userRepository.findById(userId);
@@ -178,41 +216,70 @@ public class UserService {
         }
 
         // 관심사 업데이트
+        List<Long> interestIds;
         if (request.getInterestIds() != null && !request.getInterestIds().isEmpty()) {
-            // 기존 관심사 삭제
-            List<UserInterest> existingInterests = userInterestRepository.findByUser(user);
-            userInterestRepository.deleteAll(existingInterests);
-
-            // 새 관심사 추가
-            for (Long interestId : request.getInterestIds()) {
-                interestRepository.findById(interestId).ifPresent(interest -> {
-                    UserInterest userInterest = UserInterest.builder()
-                            .user(user)
-                            .interest(interest)
-                            .build();
-                    userInterestRepository.save(userInterest);
-                });
-            }
+            interestIds = replaceInterests(user.getUserId(), request.getInterestIds());
+        } else {
+            interestIds = userInterestRepository.findInterestIdsByUserId(user.getUserId());
         }
 
-        UserProfileDto dto = mapToProfileDto(profile);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getUserId()));
 
-        // 업데이트된 관심사 추가
-        List<Interest> updatedInterests = userInterestRepository.findUserInterests(user);
-        dto.setInterests(updatedInterests.stream()
-                .map(interest -> new InterestDto(interest.getInterestId(), interest.getInterestName()))
+        UserProfileDto dto = mapToProfileDto(profile);
+        dto.setInterests(interestIds.stream()
+                .map(interestId -> new InterestDto(interestId, interestCatalog.getName(interestId)))
                 .collect(Collectors.toList()));
 
         return dto;
     }
 
-    public List<InterestDto> getAllInterests() {
-        List<Interest> interests = interestRepository.findByIsActiveTrue();
-        return interests.stream()
-                .map(interest -> new InterestDto(interest.getInterestId(), interest.getInterestName()))
+    /**
+     * 사용자의 관심사를 요청한 목록으로 교체합니다.
+     * 현재 관심사와의 차이만 계산해 삭제 한 번, 다중 행 INSERT 한 번으로 반영합니다.
+     * 카탈로그에 없는 ID는 무시합니다.
+     *
+     * @return 교체 후 관심사 ID 목록 (요청 순서)
+     */
+    private List<Long> replaceInterests(Long userId, List<Long> requestedIds) {
+        Set<Long> target = requestedIds.stream()
+                .filter(interestCatalog::contains)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<Long> current = new HashSet<>(userInterestRepository.findInterestIdsByUserId(userId));
+
+        List<Long> toDelete = current.stream()
+                .filter(interestId -> !target.contains(interestId))
+                .collect(Collectors.toList());
+        List<Long> toInsert = target.stream()
+                .filter(interestId -> !current.contains(interestId))
                 .collect(Collectors.toList());
+
+        if (!toDelete.isEmpty()) {
+            userInterestRepository.deleteByUserIdAndInterestIds(userId, toDelete);
+        }
+        if (!toInsert.isEmpty()) {
+            String values = String.join(", ", Collections.nCopies(toInsert.size(), "(?, ?, ?)"));
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object> args = new ArrayList<>(toInsert.size() * 3);
+            for (Long interestId : toInsert) {
+                args.add(userId);
+                args.add(interestId);
+                args.add(now);
+            }
+            jdbcTemplate.update("INSERT INTO user_interests (user_id, interest_id, created_at) VALUES " + values, args.toArray());
+        }
+
+        return new ArrayList<>(target);
+    }
+
+    public List<InterestDto> getAllInterests() {
+        return interestCatalog.getActiveInterests();
+    }
+
+    public String getInterestsETag() {
+        return interestCatalog.getETag();
     }
 
+    @Transactional(readOnly = true)
     public List<InterestDto> getUserInterests(User user) {
         List<Interest> userInterests = userInterestRepository.findUserInterests(user);
         return userInterests.stream()
@@ -222,12 +289,11 @@ public class UserService {
 
     @Transactional
     public boolean addInterest(User user, Long interestId) {
-        Optional<Interest> interestOpt = interestRepository.findById(interestId);
-        if (interestOpt.isEmpty()) {
+        if (!interestCatalog.contains(interestId)) {
             return false;
         }
 
-        Interest interest = interestOpt.get();
+        Interest interest = interestRepository.getReferenceById(interestId);
 
         // 이미 추가된 관심사인지 확인
         Optional<UserInterest> existingOpt = userInterestRepository.findByUserAndInterest(user, interest);
@@ -242,17 +308,17 @@ public class UserService {
                 .build();
 
         userInterestRepository.save(userInterest);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getUserId()));
         return true;
     }
 
     @Transactional
     public boolean removeInterest(User user, Long interestId) {
-        Optional<Interest> interestOpt = interestRepository.findById(interestId);
-        if (interestOpt.isEmpty()) {
+        if (!interestCatalog.contains(interestId)) {
             return false;
         }
 
-        Interest interest = interestOpt.get();
+        Interest interest = interestRepository.getReferenceById(interestId);
 
         // 관심사 제거
         Optional<UserInterest> userInterestOpt = userInterestRepository.findByUserAndInterest(user, interest);
@@ -261,6 +327,7 @@ public class UserService {
         }
 
         userInterestRepository.delete(userInterestOpt.get());
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getUserId()));
         return true;
     }
 
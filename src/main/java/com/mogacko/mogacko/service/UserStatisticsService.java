@@ -1,17 +1,26 @@
 package com.mogacko.mogacko.service;
 
 import com.mogacko.mogacko.dto.UserStatisticsDto;
+import com.mogacko.mogacko.entity.ParticipantStatus;
 import com.mogacko.mogacko.entity.User;
 import com.mogacko.mogacko.entity.UserStatistics;
 import com.mogacko.mogacko.repository.GroupMemberRepository;
 import com.mogacko.mogacko.repository.MeetingParticipantRepository;
 import com.mogacko.mogacko.repository.UserStatisticsRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +29,7 @@ public class UserStatisticsService {
     private final UserStatisticsRepository statisticsRepository;
     private final GroupMemberRepository memberRepository;
     private final MeetingParticipantRepository meetingParticipantRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     public UserStatisticsDto getUserStatistics(User user) {
         Optional<UserStatistics> statsOpt = statisticsRepository.findByUser(user);
@@ -33,6 +43,27 @@ public class UserStatisticsService {
         return createUserStatistics(user);
     }
 
+    /**
+     * 통계를 조회만 합니다. 통계가 없어도 새로 저장하지 않고 기본값을 반환하므로
+     * readOnly 트랜잭션(replica)에서도 안전하게 호출할 수 있습니다.
+     */
+    @Transactional(readOnly = true)
+    public UserStatisticsDto findUserStatistics(User user) {
+        return findUserStatistics(user.getUserId());
+    }
+
+    @Transactional(readOnly = true)
+    public UserStatisticsDto findUserStatistics(Long userId) {
+        return statisticsRepository.findByUserUserId(userId)
+                .map(this::mapToUserStatisticsDto)
+                .orElseGet(() -> UserStatisticsDto.builder()
+                        .userId(userId)
+                        .groupParticipationCount(0)
+                        .attendanceRate(0.0)
+                        .totalMeetings(0)
+                        .build());
+    }
+
     @Transactional
     public UserStatisticsDto createUserStatistics(User user) {
         UserStatistics statistics = UserStatistics.builder()
@@ -63,11 +94,12 @@ public class UserStatisticsService {
         int groupParticipationCount = memberRepository.countActiveGroupsByUser(user);
         stats.setGroupParticipationCount(groupParticipationCount);
 
-        // 전체 참가한 모임 수 계산
-        int totalParticipatedMeetings = meetingParticipantRepository.countByUser(user);
+        // 출석이 확정된 모임 중 참가한 모임 수 계산
+        int totalParticipatedMeetings = meetingParticipantRepository.countFinalizedByUser(user);
 
         // 출석한 모임 수 계산
-        int attendedMeetings = meetingParticipantRepository.countAttendedByUser(user);
+        int attendedMeetings = meetingParticipantRepository.countFinalizedAttendedByUser(user);
+        stats.setAttendedMeetings(attendedMeetings);
 
         // 출석율 계산
         double attendanceRate = totalParticipatedMeetings > 0 ?
@@ -84,6 +116,68 @@ public class UserStatisticsService {
         return mapToUserStatisticsDto(savedStats);
     }
 
+    /**
+     * 출석이 확정된 모임의 사용자별 증감분을 통계에 한 번에 반영합니다.
+     * 출석 수가 없는 행(이전 방식으로 집계된 통계)은 증감분 대신 확정된 모임 기준으로 다시 집계하며,
+     * 통계 행이 없는 사용자는 건너뜁니다 (통계 갱신 시 전체 집계).
+     *
+     * @param deltas 사용자별 증감분
+     */
+    @Transactional
+    public void applyAttendanceDeltas(Collection<AttendanceDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> args = new ArrayList<>(deltas.size() * 3 + 1);
+        args.add(now);
+        for (AttendanceDelta delta : deltas) {
+            args.add(delta.userId());
+            args.add(delta.meetings());
+            args.add(delta.attended());
+        }
+        String values = String.join(", ", Collections.nCopies(deltas.size(), "(?, ?, ?)"));
+        Set<Long> updated = new HashSet<>(jdbcTemplate.queryForList(
+                "UPDATE user_statistics s SET " +
+                        "total_meetings = COALESCE(s.total_meetings, 0) + d.meetings, " +
+                        "attended_meetings = s.attended_meetings + d.attended, " +
+                        "attendance_rate = CASE WHEN COALESCE(s.total_meetings, 0) + d.meetings > 0 " +
+                        "THEN (s.attended_meetings + d.attended) * 100.0 / (COALESCE(s.total_meetings, 0) + d.meetings) ELSE 0 END, " +
+                        "last_updated = ? " +
+                        "FROM (VALUES " + values + ") AS d(user_id, meetings, attended) " +
+                        "WHERE s.user_id = d.user_id AND s.attended_meetings IS NOT NULL RETURNING s.user_id",
+                Long.class, args.toArray()));
+
+        List<Long> recount = deltas.stream()
+                .map(AttendanceDelta::userId)
+                .filter(userId -> !updated.contains(userId))
+                .toList();
+        if (!recount.isEmpty()) {
+            recountAttendance(recount, now);
+        }
+    }
+
+    // 확정된 모임 기준으로 출석 통계를 다시 집계 (한 번의 UPDATE)
+    private void recountAttendance(List<Long> userIds, Timestamp now) {
+        List<Object> args = new ArrayList<>(userIds.size() + 1);
+        args.add(now);
+        args.addAll(userIds);
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        jdbcTemplate.update(
+                "UPDATE user_statistics s SET total_meetings = a.total, attended_meetings = a.attended, " +
+                        "attendance_rate = CASE WHEN a.total > 0 THEN a.attended * 100.0 / a.total ELSE 0 END, " +
+                        "last_updated = ? " +
+                        "FROM (SELECT mp.user_id, COUNT(*) AS total, " +
+                        "COUNT(*) FILTER (WHERE mp.status_code = " + ParticipantStatus.ATTENDED.getCode() + ") AS attended " +
+                        "FROM meeting_participants mp JOIN meetings m ON m.meeting_id = mp.meeting_id " +
+                        "WHERE m.attendance_finalized_at IS NOT NULL AND mp.status_code <> " + ParticipantStatus.WAITLISTED.getCode() +
+                        " AND mp.user_id IN (" + placeholders + ") " +
+                        "GROUP BY mp.user_id) a " +
+                        "WHERE s.user_id = a.user_id",
+                args.toArray());
+    }
+
     private UserStatisticsDto mapToUserStatisticsDto(UserStatistics stats) {
         return UserStatisticsDto.builder()
                 .statId(stats.getStatId())
@@ -94,4 +188,14 @@ public class UserStatisticsService {
                 .lastUpdated(stats.getLastUpdated())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 사용자 한 명의 출석 통계 증감분
+     *
+     * @param userId 사용자 ID
+     * @param meetings 새로 확정된 참가 모임 수
+     * @param attended 그중 출석한 모임 수
+     */
+    public record AttendanceDelta(Long userId, int meetings, int attended) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.mogacko.mogacko.config.datasource;
+
+import com.mogacko.mogacko.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 트랜잭션 속성과 현재 사용자로 primary/replica를 고르는 규칙을 확인합니다.
+ * 트랜잭션은 TransactionSynchronizationManager의 상태로 흉내 내고, 커밋은 등록된 콜백의 afterCommit을 호출해 재현합니다.
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private static final long WRITER_ID = 1;
+    private static final long OTHER_USER_ID = 2;
+
+    private ReplicaLagMonitor lagMonitor;
+    private ReplicationRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        lagMonitor = mock(ReplicaLagMonitor.class);
+        when(lagMonitor.isReplicaAvailable()).thenReturn(true);
+        routingDataSource = new ReplicationRoutingDataSource(lagMonitor, new ReadYourWritesTracker(60_000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        endTransaction();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        loginAs(WRITER_ID);
+        beginTransaction(true);
+
+        assertEquals(DataSourceType.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readWriteTransactionGoesToPrimary() {
+        loginAs(WRITER_ID);
+        beginTransaction(false);
+
+        assertEquals(DataSourceType.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void recentWriteBySameUserForcesPrimaryForReads() {
+        loginAs(WRITER_ID);
+        beginTransaction(false);
+        routingDataSource.determineCurrentLookupKey();
+        commit();
+
+        beginTransaction(true);
+        assertEquals(DataSourceType.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        endTransaction();
+
+        // 다른 사용자의 읽기는 계속 replica로
+        loginAs(OTHER_USER_ID);
+        beginTransaction(true);
+        assertEquals(DataSourceType.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void rolledBackWriteDoesNotForcePrimary() {
+        loginAs(WRITER_ID);
+        beginTransaction(false);
+        routingDataSource.determineCurrentLookupKey();
+        endTransaction();
+
+        beginTransaction(true);
+        assertEquals(DataSourceType.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void writeStopsForcingPrimaryAfterStickyWindow() throws InterruptedException {
+        routingDataSource = new ReplicationRoutingDataSource(lagMonitor, new ReadYourWritesTracker(50));
+        loginAs(WRITER_ID);
+        beginTransaction(false);
+        routingDataSource.determineCurrentLookupKey();
+        commit();
+
+        Thread.sleep(100);
+
+        beginTransaction(true);
+        assertEquals(DataSourceType.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void laggingReplicaSendsReadsToPrimary() {
+        when(lagMonitor.isReplicaAvailable()).thenReturn(false);
+        beginTransaction(true);
+
+        assertEquals(DataSourceType.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    private void loginAs(long userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken(User.builder().userId(userId).build(), null));
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    // 등록된 콜백의 afterCommit을 호출한 뒤 트랜잭션 종료
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        endTransaction();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+}
@@ -0,0 +1,97 @@
+package com.mogacko.mogacko.config.migration;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이전 버전(status만 씀)과 새 버전(status_code만 씀) 인스턴스가 함께 떠 있는 동안 두 컬럼이 맞춰지는지 확인합니다.
+ */
+class StatusCodeMigrationTest {
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+        // 마이그레이션 전 스키마: 문자열 status에 ddl-auto가 추가한 status_code
+        jdbcTemplate.execute("CREATE TABLE group_members (membership_id BIGSERIAL PRIMARY KEY, group_id BIGINT, user_id BIGINT, " +
+                "status VARCHAR(20), status_code SMALLINT)");
+        jdbcTemplate.execute("CREATE TABLE meeting_participants (participant_id BIGSERIAL PRIMARY KEY, meeting_id BIGINT, user_id BIGINT, " +
+                "status VARCHAR(20), status_code SMALLINT)");
+        jdbcTemplate.update("INSERT INTO group_members (group_id, user_id, status) VALUES (1, 1, 'ACTIVE'), (1, 2, 'PENDING')");
+
+        new StatusCodeMigration(jdbcTemplate, 1, 0, true).run(null);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void backfillsExistingRows() {
+        assertEquals(1, codeOf("group_members", "user_id = 1"));
+        assertEquals(2, codeOf("group_members", "user_id = 2"));
+    }
+
+    @Test
+    void legacyWritesFillStatusCode() {
+        jdbcTemplate.update("INSERT INTO meeting_participants (meeting_id, user_id, status) VALUES (1, 10, 'REGISTERED')");
+        assertEquals(1, codeOf("meeting_participants", "user_id = 10"));
+
+        jdbcTemplate.update("UPDATE meeting_participants SET status = 'ABSENT' WHERE user_id = 10");
+        assertEquals(3, codeOf("meeting_participants", "user_id = 10"));
+    }
+
+    @Test
+    void newWritesFillLegacyStatus() {
+        jdbcTemplate.update("INSERT INTO meeting_participants (meeting_id, user_id, status_code) VALUES (1, 20, 1)");
+        assertEquals("REGISTERED", statusOf("meeting_participants", "user_id = 20"));
+
+        jdbcTemplate.update("UPDATE meeting_participants SET status_code = 2 WHERE user_id = 20");
+        assertEquals("ATTENDED", statusOf("meeting_participants", "user_id = 20"));
+    }
+
+    @Test
+    void scheduledBackfillPicksUpRowsWrittenWithoutTrigger() {
+        jdbcTemplate.execute("ALTER TABLE group_members DISABLE TRIGGER trg_group_members_status_code");
+        jdbcTemplate.update("INSERT INTO group_members (group_id, user_id, status) VALUES (2, 30, 'KICKED')");
+        jdbcTemplate.execute("ALTER TABLE group_members ENABLE TRIGGER trg_group_members_status_code");
+        assertNull(codeOf("group_members", "user_id = 30"));
+
+        new StatusCodeMigration(jdbcTemplate, 1, 0, true).backfill();
+
+        assertEquals(4, codeOf("group_members", "user_id = 30"));
+    }
+
+    @Test
+    void scheduledBackfillStopsAfterPassWithNothingToMigrate() {
+        StatusCodeMigration migration = new StatusCodeMigration(jdbcTemplate, 1, 0, true);
+        migration.backfill();
+
+        jdbcTemplate.execute("ALTER TABLE group_members DISABLE TRIGGER trg_group_members_status_code");
+        jdbcTemplate.update("INSERT INTO group_members (group_id, user_id, status) VALUES (2, 40, 'INACTIVE')");
+        jdbcTemplate.execute("ALTER TABLE group_members ENABLE TRIGGER trg_group_members_status_code");
+
+        migration.backfill();
+
+        assertNull(codeOf("group_members", "user_id = 40"));
+    }
+
+    private static Integer codeOf(String table, String where) {
+        return jdbcTemplate.queryForObject("SELECT status_code FROM " + table + " WHERE " + where, Integer.class);
+    }
+
+    private static String statusOf(String table, String where) {
+        return jdbcTemplate.queryForObject("SELECT status FROM " + table + " WHERE " + where, String.class);
+    }
+}
@@ -0,0 +1,108 @@
+package com.mogacko.mogacko.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckInTokenProviderTest {
+
+    private static final long NOW = 1_700_000_010L;
+
+    private CheckInTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "test-secret-key-for-check-in-tokens-0123456789");
+        provider = new CheckInTokenProvider(jwtTokenProvider, 30);
+    }
+
+    @Test
+    void tokenIsValidForCurrentAndNextStepOnly() {
+        String token = provider.issue(1L, 10L, NOW);
+
+        assertTrue(provider.verify(token, 1L, 10L, NOW));
+        assertTrue(provider.verify(token, 1L, 10L, NOW + 30));
+        assertFalse(provider.verify(token, 1L, 10L, NOW + 60));
+        assertFalse(provider.verify(token, 1L, 10L, NOW - 30));
+    }
+
+    @Test
+    void tokenIsBoundToGroupAndMeeting() {
+        String token = provider.issue(1L, 10L, NOW);
+
+        assertFalse(provider.verify(token, 1L, 11L, NOW));
+        assertFalse(provider.verify(token, 2L, 10L, NOW));
+    }
+
+    @Test
+    void tamperedOrMalformedTokensAreRejected() {
+        String token = provider.issue(1L, 10L, NOW);
+        String step = token.substring(0, token.indexOf('.'));
+
+        assertFalse(provider.verify(step + ".AAAAAAAAAAAAAAAAAAAAAA", 1L, 10L, NOW));
+        assertFalse(provider.verify((Long.parseLong(step) + 1) + token.substring(step.length()), 1L, 10L, NOW + 30));
+        assertFalse(provider.verify("garbage", 1L, 10L, NOW));
+        assertFalse(provider.verify(null, 1L, 10L, NOW));
+    }
+
+    @Test
+    void tokenBuiltOnDeviceFromQrKeyIsAccepted() throws Exception {
+        // 연결이 끊긴 모임 생성자 기기가 QR 키로 토큰을 만드는 방식
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(Base64.getUrlDecoder().decode(provider.issueQrKey(1L, 10L)), "HmacSHA256"));
+        long step = NOW / provider.getStepSeconds();
+        String token = step + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(
+                Arrays.copyOf(mac.doFinal(String.valueOf(step).getBytes(StandardCharsets.UTF_8)), 16));
+
+        assertEquals(provider.issue(1L, 10L, NOW), token);
+        assertTrue(provider.verify(token, 1L, 10L, NOW));
+        assertNotEquals(provider.issueQrKey(1L, 10L), provider.issueQrKey(1L, 11L));
+    }
+
+    @Test
+    void offlineClaimSignedWithIssuedKeyIsAccepted() throws Exception {
+        LocalDateTime checkedAt = LocalDateTime.of(2025, 5, 1, 19, 3, 27);
+        BigDecimal latitude = new BigDecimal("37.5665000");
+        BigDecimal longitude = new BigDecimal("126.9780000");
+        String token = provider.issue(1L, 10L, NOW);
+
+        // 클라이언트가 발급받은 키로 서명하는 방식
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(Base64.getUrlDecoder().decode(provider.issueOfflineKey(10L, 7L)), "HmacSHA256"));
+        String signature = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                mac.doFinal(("10:7:37.5665000:126.9780000:2025-05-01T19:03:27:" + token).getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(provider.verifyOfflineClaim(10L, 7L, latitude, longitude, checkedAt, token, signature));
+        assertFalse(provider.verifyOfflineClaim(10L, 8L, latitude, longitude, checkedAt, token, signature));
+        assertFalse(provider.verifyOfflineClaim(10L, 7L, new BigDecimal("37.5666000"), longitude, checkedAt, token, signature));
+        assertFalse(provider.verifyOfflineClaim(10L, 7L, latitude, longitude, checkedAt.plusMinutes(1), token, signature));
+        assertFalse(provider.verifyOfflineClaim(10L, 7L, latitude, longitude, checkedAt, provider.issue(1L, 10L, NOW + 30), signature));
+        assertFalse(provider.verifyOfflineClaim(10L, 7L, latitude, longitude, checkedAt, null, signature));
+        assertFalse(provider.verifyOfflineClaim(10L, 7L, latitude, longitude, checkedAt, token, null));
+    }
+
+    @Test
+    void offlineTokenMustBeIssuedNearCheckedAt() {
+        String token = provider.issue(1L, 10L, NOW);
+
+        // 기기 시각이 허용 오차(300초) 안에서 어긋난 경우
+        assertTrue(provider.verifyIssuedNear(token, 1L, 10L, NOW, 300));
+        assertTrue(provider.verifyIssuedNear(token, 1L, 10L, NOW + 300, 300));
+        assertTrue(provider.verifyIssuedNear(token, 1L, 10L, NOW - 300, 300));
+        // 다른 시각에 받은 토큰을 재사용한 경우
+        assertFalse(provider.verifyIssuedNear(token, 1L, 10L, NOW + 3600, 300));
+        assertFalse(provider.verifyIssuedNear(token, 1L, 10L, NOW - 3600, 300));
+        assertFalse(provider.verifyIssuedNear(token, 1L, 11L, NOW, 300));
+    }
+}
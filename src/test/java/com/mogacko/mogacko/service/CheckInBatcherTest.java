@@ -0,0 +1,178 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.entity.ParticipantStatus;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 출석이 한꺼번에 몰릴 때 요청이 배치로 묶여 반영되고, 참가 확정자만 출석 처리되는지 실제 PostgreSQL에서 확인합니다.
+ */
+class CheckInBatcherTest {
+
+    private static final short REGISTERED = ParticipantStatus.REGISTERED.getCode();
+    private static final short WAITLISTED = ParticipantStatus.WAITLISTED.getCode();
+    private static final short ATTENDED = ParticipantStatus.ATTENDED.getCode();
+    private static final short ABSENT = ParticipantStatus.ABSENT.getCode();
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE meeting_participants (participant_id BIGSERIAL PRIMARY KEY, " +
+                "meeting_id BIGINT NOT NULL, user_id BIGINT NOT NULL, status_code SMALLINT, check_in_time TIMESTAMP)");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void burstOfCheckInsIsWrittenInFewBatches() throws Exception {
+        long meetingId = 1;
+        for (long userId = 0; userId < 200; userId++) {
+            insertParticipant(meetingId, userId, REGISTERED);
+        }
+        for (long userId = 200; userId < 210; userId++) {
+            insertParticipant(meetingId, userId, WAITLISTED);
+        }
+
+        AtomicInteger statements = new AtomicInteger();
+        JdbcTemplate countingTemplate = new JdbcTemplate(dataSource) {
+            @Override
+            public void query(String sql, RowCallbackHandler rch, Object... args) {
+                statements.incrementAndGet();
+                super.query(sql, rch, args);
+            }
+        };
+        CheckInBatcher batcher = new CheckInBatcher(countingTemplate, new DataSourceTransactionManager(dataSource), 500, 10000);
+
+        // 참가 확정자 200명과 대기자 10명이 동시에, 일부는 두 번씩 출석
+        int requests = 250;
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CheckInBatcher.Outcome>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                long userId = i < 210 ? i : i - 210;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return batcher.checkIn(meetingId, userId, LocalDateTime.now());
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < requests; i++) {
+                boolean registered = i < 200 || i >= 210;
+                assertEquals(registered ? CheckInBatcher.Outcome.ATTENDED : CheckInBatcher.Outcome.REJECTED,
+                        results.get(i).get(), "request " + i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(200, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM meeting_participants WHERE meeting_id = ? AND status_code = ? AND check_in_time IS NOT NULL",
+                Integer.class, meetingId, ATTENDED));
+        assertEquals(10, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM meeting_participants WHERE meeting_id = ? AND status_code = ?",
+                Integer.class, meetingId, WAITLISTED));
+        assertTrue(statements.get() < requests / 2, "statements: " + statements.get());
+    }
+
+    @Test
+    void checkInAllReturnsPreviousStatusAndKeepsEarlierCheckInTime() {
+        long meetingId = 2;
+        LocalDateTime earlier = LocalDateTime.of(2025, 5, 1, 19, 0);
+        LocalDateTime later = earlier.plusMinutes(10);
+        insertParticipant(meetingId, 1, REGISTERED);
+        insertParticipant(meetingId, 2, ABSENT);
+        insertParticipant(meetingId, 3, WAITLISTED);
+        insertParticipant(meetingId, 4, ATTENDED);
+        jdbcTemplate.update("UPDATE meeting_participants SET check_in_time = ? WHERE meeting_id = ? AND user_id = 4",
+                earlier, meetingId);
+
+        Map<CheckInBatcher.CheckInKey, LocalDateTime> checkIns = new LinkedHashMap<>();
+        for (long userId = 1; userId <= 5; userId++) {
+            checkIns.put(new CheckInBatcher.CheckInKey(meetingId, userId), later);
+        }
+        CheckInBatcher batcher = new CheckInBatcher(jdbcTemplate, new DataSourceTransactionManager(dataSource), 500, 10000);
+
+        assertEquals(Map.of(
+                new CheckInBatcher.CheckInKey(meetingId, 1), ParticipantStatus.REGISTERED,
+                new CheckInBatcher.CheckInKey(meetingId, 2), ParticipantStatus.ABSENT,
+                new CheckInBatcher.CheckInKey(meetingId, 4), ParticipantStatus.ATTENDED), batcher.checkInAll(checkIns));
+        assertEquals(earlier, jdbcTemplate.queryForObject(
+                "SELECT check_in_time FROM meeting_participants WHERE meeting_id = ? AND user_id = 4",
+                LocalDateTime.class, meetingId));
+        assertEquals(WAITLISTED, jdbcTemplate.queryForObject(
+                "SELECT status_code FROM meeting_participants WHERE meeting_id = ? AND user_id = 3",
+                Short.class, meetingId));
+    }
+
+    @Test
+    void requestNotWrittenInTimeIsPendingAndWrittenLater() throws Exception {
+        long meetingId = 3;
+        insertParticipant(meetingId, 1, REGISTERED);
+        insertParticipant(meetingId, 2, REGISTERED);
+        CheckInBatcher batcher = new CheckInBatcher(jdbcTemplate, new DataSourceTransactionManager(dataSource), 500, 100);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        // 다른 트랜잭션이 사용자 1의 행을 잠가 첫 배치의 UPDATE를 붙잡아 둠
+        try (Connection lock = dataSource.getConnection()) {
+            lock.setAutoCommit(false);
+            try (Statement statement = lock.createStatement()) {
+                statement.execute("SELECT 1 FROM meeting_participants WHERE meeting_id = " + meetingId +
+                        " AND user_id = 1 FOR UPDATE");
+            }
+
+            Future<CheckInBatcher.Outcome> writer = executor.submit(() -> batcher.checkIn(meetingId, 1L, LocalDateTime.now()));
+            // 첫 요청의 스레드가 쓰기를 맡은 뒤 들어온 요청은 다음 배치를 기다리다 제한 시간을 넘김
+            Thread.sleep(200);
+            assertEquals(CheckInBatcher.Outcome.PENDING, batcher.checkIn(meetingId, 2L, LocalDateTime.now()));
+
+            lock.rollback();
+            assertEquals(CheckInBatcher.Outcome.ATTENDED, writer.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 응답 뒤에 반영되었고, 다시 요청해도 성공
+        assertEquals(ATTENDED, jdbcTemplate.queryForObject(
+                "SELECT status_code FROM meeting_participants WHERE meeting_id = ? AND user_id = 2",
+                Short.class, meetingId));
+        assertEquals(CheckInBatcher.Outcome.ATTENDED, batcher.checkIn(meetingId, 2L, LocalDateTime.now()));
+    }
+
+    private void insertParticipant(long meetingId, long userId, short statusCode) {
+        jdbcTemplate.update("INSERT INTO meeting_participants (meeting_id, user_id, status_code) VALUES (?, ?, ?)",
+                meetingId, userId, statusCode);
+    }
+}
@@ -0,0 +1,201 @@
+package com.mogacko.mogacko.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mogacko.mogacko.entity.User;
+import com.mogacko.mogacko.exception.ServiceUnavailableException;
+import com.mogacko.mogacko.repository.GroupChatArchiveRepository;
+import com.mogacko.mogacko.repository.GroupChatRepository;
+import com.mogacko.mogacko.repository.MeetingParticipantRepository;
+import com.mogacko.mogacko.repository.StudyGroupRepository;
+import com.mogacko.mogacko.repository.UserProfileRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내보내기가 실제 PostgreSQL에서 서버 측 커서로 읽어 곧바로 쓰는지 확인합니다.
+ * 대용량 테스트는 heavy 태그로 기본 test 태스크에서 빠지며, 힙을 작게 둔 heavyTest 태스크에서 실행됩니다.
+ * 그 힙(build.gradle의 maxHeapSize)보다 훨씬 큰 이력을 내보내므로, 행을 한꺼번에 읽으면 OutOfMemoryError로 실패합니다.
+ */
+class GroupExportServiceTest {
+
+    private static final long OWNER_ID = 1;
+    private static final long MEMBER_ID = 2;
+    private static final long BIG_GROUP_ID = 1;
+    private static final long SMALL_GROUP_ID = 2;
+    // 행마다 약 1KB, 합계 약 1GB
+    private static final int CHAT_ROWS = 1_000_000;
+    private static final int MESSAGE_LENGTH = 1000;
+
+    private static EmbeddedPostgres postgres;
+    private static LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private static JdbcTemplate jdbcTemplate;
+    private static GroupExportService exportService;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(postgres.getPostgresDatabase());
+        entityManagerFactoryBean.setPackagesToScan("com.mogacko.mogacko.entity");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // 애플리케이션과 같은 테이블/컬럼 이름을 쓰도록 Spring Boot의 이름 전략을 지정
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+
+        JpaRepositoryFactory repositoryFactory =
+                new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        GroupChatRepository chatRepository = repositoryFactory.getRepository(GroupChatRepository.class);
+        StudyGroupRepository groupRepository = repositoryFactory.getRepository(StudyGroupRepository.class);
+        ChatArchiveService chatArchiveService = new ChatArchiveService(chatRepository,
+                repositoryFactory.getRepository(GroupChatArchiveRepository.class), groupRepository,
+                objectMapper, transactionManager, 3);
+        exportService = new GroupExportService(groupRepository, chatRepository,
+                repositoryFactory.getRepository(MeetingParticipantRepository.class),
+                repositoryFactory.getRepository(UserProfileRepository.class),
+                chatArchiveService, objectMapper, transactionManager, 1, 60_000);
+
+        jdbcTemplate.update("INSERT INTO users (user_id, email, role) VALUES (?, 'owner@test.com', 'USER'), (?, 'member@test.com', 'USER')",
+                OWNER_ID, MEMBER_ID);
+        jdbcTemplate.update("INSERT INTO user_profiles (user_id, name, onboarding_completed) VALUES (?, '방장', true), (?, '멤버', true)",
+                OWNER_ID, MEMBER_ID);
+        jdbcTemplate.update("INSERT INTO interests (interest_id, interest_name) VALUES (1, '코딩')");
+        jdbcTemplate.update("INSERT INTO study_groups (group_id, creator_id, title, interest_id) VALUES (?, ?, 'big', 1), (?, ?, 'small', 1)",
+                BIG_GROUP_ID, OWNER_ID, SMALL_GROUP_ID, OWNER_ID);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        entityManagerFactoryBean.destroy();
+        postgres.close();
+    }
+
+    @Test
+    @Tag("heavy")
+    void exportsHistoryLargerThanHeap() throws IOException {
+        jdbcTemplate.update("INSERT INTO group_chats (group_id, sender_id, message, sent_at) " +
+                        "SELECT ?, ?, repeat('x', ?), TIMESTAMP '2025-01-01' + i * INTERVAL '1 second' FROM generate_series(1, ?) AS i",
+                BIG_GROUP_ID, MEMBER_ID, MESSAGE_LENGTH, CHAT_ROWS);
+        jdbcTemplate.update("INSERT INTO meetings (meeting_id, group_id, title, location, meeting_date, created_by) " +
+                "SELECT i, ?, '모임 ' || i, '강남', TIMESTAMP '2025-01-01' + i * INTERVAL '1 day', ? FROM generate_series(1, 100) AS i",
+                BIG_GROUP_ID, OWNER_ID);
+        // 모임마다 서로 다른 참가자 1000명
+        jdbcTemplate.update("INSERT INTO users (user_id, email, role) " +
+                "SELECT u, 'attendee' || u || '@test.com', 'USER' FROM generate_series(1001, 2000) AS u");
+        jdbcTemplate.update("INSERT INTO meeting_participants (meeting_id, user_id, status_code) " +
+                "SELECT m, u, 2 FROM generate_series(1, 100) AS m, generate_series(1001, 2000) AS u");
+
+        LineCountingOutputStream chats = new LineCountingOutputStream();
+        exportService.exportChats(owner(), BIG_GROUP_ID, GroupExportService.ExportFormat.NDJSON).writeTo(chats);
+        assertEquals(CHAT_ROWS, chats.lines);
+        assertTrue(chats.bytes > (long) CHAT_ROWS * MESSAGE_LENGTH);
+
+        LineCountingOutputStream attendance = new LineCountingOutputStream();
+        exportService.exportAttendance(owner(), BIG_GROUP_ID, GroupExportService.ExportFormat.CSV).writeTo(attendance);
+        assertEquals(1 + 100 * 1000, attendance.lines);
+    }
+
+    @Test
+    void archivedChatsComeFirstAndCsvFieldsAreEscaped() throws IOException {
+        jdbcTemplate.update("INSERT INTO group_chats (chat_id, group_id, sender_id, message, sent_at) VALUES " +
+                        "(9000001, ?, ?, '안녕, \"모두\"', TIMESTAMP '2025-05-01 10:00:00'), " +
+                        "(9000002, ?, ?, '=HYPERLINK(\"x\")', TIMESTAMP '2025-05-01 10:01:00')",
+                SMALL_GROUP_ID, MEMBER_ID, SMALL_GROUP_ID, OWNER_ID);
+        jdbcTemplate.update("INSERT INTO group_chat_archives (group_id, period, first_chat_id, last_chat_id, message_count, payload) " +
+                        "VALUES (?, '2025-01', 1, 2, 2, ?)",
+                SMALL_GROUP_ID, gzip("[{\"chatId\":8000002,\"senderId\":1,\"message\":\"둘째\",\"sentAt\":\"2025-01-01T09:01:00\"}," +
+                        "{\"chatId\":8000001,\"senderId\":2,\"message\":\"첫째\\nline\",\"sentAt\":\"2025-01-01T09:00:00\"}]"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportChats(owner(), SMALL_GROUP_ID, GroupExportService.ExportFormat.CSV).writeTo(out);
+
+        assertEquals("\uFEFFchatId,senderId,senderName,message,sentAt\r\n" +
+                        "8000001,2,멤버,\"첫째\nline\",2025-01-01T09:00\r\n" +
+                        "8000002,1,방장,둘째,2025-01-01T09:01\r\n" +
+                        "9000001,2,멤버,\"안녕, \"\"모두\"\"\",2025-05-01T10:00\r\n" +
+                        "9000002,1,방장,\"'=HYPERLINK(\"\"x\"\")\",2025-05-01T10:01\r\n",
+                out.toString(StandardCharsets.UTF_8));
+        assertNull(exportService.exportChats(User.builder().userId(MEMBER_ID).build(), SMALL_GROUP_ID,
+                GroupExportService.ExportFormat.CSV));
+    }
+
+    @Test
+    void exportsBeyondConcurrencyLimitAreRejectedUntilOneFinishes() throws IOException {
+        // 동시 내보내기는 1개까지
+        StreamingResponseBody first = exportService.exportAttendance(owner(), SMALL_GROUP_ID, GroupExportService.ExportFormat.CSV);
+
+        assertThrows(ServiceUnavailableException.class,
+                () -> exportService.exportChats(owner(), SMALL_GROUP_ID, GroupExportService.ExportFormat.CSV));
+
+        first.writeTo(new ByteArrayOutputStream());
+        StreamingResponseBody next = exportService.exportChats(owner(), SMALL_GROUP_ID, GroupExportService.ExportFormat.CSV);
+        assertNotNull(next);
+        next.writeTo(new ByteArrayOutputStream());
+    }
+
+    private static User owner() {
+        return User.builder().userId(OWNER_ID).build();
+    }
+
+    private static byte[] gzip(String json) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    // 내용을 버리고 줄 수와 크기만 셈
+    private static class LineCountingOutputStream extends OutputStream {
+        private long lines;
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
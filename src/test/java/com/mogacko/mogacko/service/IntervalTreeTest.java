@@ -0,0 +1,72 @@
+package com.mogacko.mogacko.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 구간 트리의 겹침 조회 결과를 전체 비교(brute force)와 대조합니다.
+ */
+class IntervalTreeTest {
+
+    @Test
+    void halfOpenIntervalsTouchingAtBoundaryDoNotOverlap() {
+        IntervalTree<Long> tree = new IntervalTree<>();
+        tree.put(1, 10, 20, 1L);
+
+        assertFalse(tree.overlapsAny(20, 30));
+        assertFalse(tree.overlapsAny(0, 10));
+        assertTrue(tree.overlapsAny(19, 21));
+        assertEquals(List.of(1L), tree.overlapping(5, 11));
+    }
+
+    @Test
+    void putWithSameIdReplacesInterval() {
+        IntervalTree<Long> tree = new IntervalTree<>();
+        tree.put(1, 10, 20, 1L);
+        tree.put(1, 100, 120, 1L);
+
+        assertEquals(1, tree.size());
+        assertFalse(tree.overlapsAny(10, 20));
+        assertTrue(tree.overlapsAny(110, 111));
+    }
+
+    @Test
+    void randomOperationsMatchBruteForce() {
+        Random random = new Random(42);
+        IntervalTree<Long> tree = new IntervalTree<>();
+        Map<Long, long[]> expected = new HashMap<>();
+
+        for (int op = 0; op < 20000; op++) {
+            long id = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(id) != null, tree.remove(id));
+            } else {
+                long start = random.nextInt(10000);
+                long[] interval = {start, start + 1 + random.nextInt(300)};
+                tree.put(id, interval[0], interval[1], id);
+                expected.put(id, interval);
+            }
+
+            long queryStart = random.nextInt(10000);
+            long queryEnd = queryStart + 1 + random.nextInt(300);
+            List<Long> overlapping = new ArrayList<>();
+            expected.entrySet().stream()
+                    .filter(entry -> entry.getValue()[0] < queryEnd && queryStart < entry.getValue()[1])
+                    .sorted(Comparator.<Map.Entry<Long, long[]>>comparingLong(entry -> entry.getValue()[0])
+                            .thenComparing(Map.Entry::getKey))
+                    .forEach(entry -> overlapping.add(entry.getKey()));
+
+            assertEquals(overlapping, tree.overlapping(queryStart, queryEnd));
+            assertEquals(!overlapping.isEmpty(), tree.overlapsAny(queryStart, queryEnd));
+            assertEquals(expected.size(), tree.size());
+        }
+    }
+}
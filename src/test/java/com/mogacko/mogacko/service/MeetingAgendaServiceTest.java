@@ -0,0 +1,101 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.dto.MyMeetingDto;
+import com.mogacko.mogacko.dto.MyMeetingPageDto;
+import com.mogacko.mogacko.exception.BadRequestException;
+import com.mogacko.mogacko.repository.MeetingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 일정이 최대 건수에서 잘리면 hasMore로 알리고, 최대 기간을 넘는 요청은 잘라내지 않고 거절하는지 확인합니다.
+ * 저장된 모임과 반복 모임 회차는 목으로 돌려주며, 저장소는 요청받은 건수까지만 돌려주는 것처럼 흉내 냅니다.
+ */
+class MeetingAgendaServiceTest {
+
+    private static final long USER_ID = 1;
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 5, 1, 0, 0);
+
+    private MeetingRepository meetingRepository;
+    private MeetingSeriesService seriesService;
+    private MeetingAgendaService agendaService;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository = mock(MeetingRepository.class);
+        seriesService = mock(MeetingSeriesService.class);
+        agendaService = new MeetingAgendaService(meetingRepository, mock(MembershipService.class), seriesService, 60_000);
+        when(seriesService.expandAgendaOccurrences(anyLong(), any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void agendaAtLimitIsNotMarkedTruncated() {
+        storedMeetings(MeetingAgendaService.MAX_AGENDA_MEETINGS);
+
+        MyMeetingPageDto page = agendaService.getAgenda(USER_ID, FROM, FROM.plusDays(30));
+
+        assertEquals(MeetingAgendaService.MAX_AGENDA_MEETINGS, page.getMeetings().size());
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void agendaOverLimitIsTruncatedAndMarked() {
+        storedMeetings(MeetingAgendaService.MAX_AGENDA_MEETINGS + 50);
+
+        MyMeetingPageDto page = agendaService.getAgenda(USER_ID, FROM, FROM.plusDays(30));
+
+        assertEquals(MeetingAgendaService.MAX_AGENDA_MEETINGS, page.getMeetings().size());
+        assertTrue(page.isHasMore());
+    }
+
+    @Test
+    void seriesOccurrencesCanPushAgendaOverLimit() {
+        storedMeetings(MeetingAgendaService.MAX_AGENDA_MEETINGS);
+        when(seriesService.expandAgendaOccurrences(anyLong(), any(), any()))
+                .thenReturn(List.of(meeting(null, FROM.plusSeconds(30))));
+
+        MyMeetingPageDto page = agendaService.getAgenda(USER_ID, FROM, FROM.plusDays(30));
+
+        assertTrue(page.isHasMore());
+        assertNull(page.getMeetings().get(1).getMeetingId());
+        assertEquals(MeetingAgendaService.MAX_AGENDA_MEETINGS, page.getMeetings().size());
+    }
+
+    @Test
+    void invalidOrTooWideRangesAreRejected() {
+        assertThrows(BadRequestException.class, () -> agendaService.getAgenda(USER_ID, FROM, FROM));
+        assertThrows(BadRequestException.class, () -> agendaService.getAgenda(USER_ID, FROM, FROM.minusDays(1)));
+        assertThrows(BadRequestException.class, () -> agendaService.getAgenda(USER_ID, FROM,
+                FROM.plusDays(MeetingAgendaService.MAX_AGENDA_DAYS).plusMinutes(1)));
+        assertDoesNotThrow(() -> agendaService.getAgenda(USER_ID, FROM, FROM.plusDays(MeetingAgendaService.MAX_AGENDA_DAYS)));
+        verify(meetingRepository, times(1)).findAgenda(anyLong(), any(), any(), any());
+    }
+
+    // 저장소에 count건이 있고, 요청받은 건수까지만 돌려줌
+    private void storedMeetings(int count) {
+        when(meetingRepository.findAgenda(anyLong(), any(), any(), any())).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(3);
+            return IntStream.range(0, Math.min(count, pageable.getPageSize()))
+                    .mapToObj(i -> meeting((long) i + 1, FROM.plusMinutes(i)))
+                    .toList();
+        });
+    }
+
+    private static MyMeetingDto meeting(Long meetingId, LocalDateTime meetingDate) {
+        return MyMeetingDto.builder()
+                .meetingId(meetingId)
+                .groupId(1L)
+                .meetingDate(meetingDate)
+                .build();
+    }
+}
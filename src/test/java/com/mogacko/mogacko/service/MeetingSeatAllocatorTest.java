@@ -0,0 +1,221 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.entity.ParticipantStatus;
+import com.mogacko.mogacko.event.MeetingWaitlistChangedEvent;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 좌석 확보/승급 SQL을 실제 PostgreSQL에서 동시에 실행해 정원 초과, 중복 승급, 빈 좌석이 남는 경우가 없는지 확인합니다.
+ */
+class MeetingSeatAllocatorTest {
+
+    private static final int THREADS = 16;
+    private static final short REGISTERED = ParticipantStatus.REGISTERED.getCode();
+    private static final short WAITLISTED = ParticipantStatus.WAITLISTED.getCode();
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+
+    // 트랜잭션 안에서 발행된 이벤트 (커밋 후 처리하기 위해 스레드별로 모음)
+    private final ThreadLocal<List<Object>> publishedEvents = ThreadLocal.withInitial(ArrayList::new);
+    private MeetingSeatAllocator allocator;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        jdbcTemplate.execute("CREATE TABLE meetings (meeting_id BIGSERIAL PRIMARY KEY, group_id BIGINT NOT NULL, " +
+                "max_participants INT, seat_count INT)");
+        jdbcTemplate.execute("CREATE TABLE meeting_participants (participant_id BIGSERIAL PRIMARY KEY, " +
+                "meeting_id BIGINT NOT NULL, user_id BIGINT NOT NULL, status_code SMALLINT, created_at TIMESTAMP)");
+        // 애플리케이션 시작 시와 같이 (meeting_id, user_id) 유니크 인덱스를 생성
+        new MeetingSeatAllocator(jdbcTemplate, transactionTemplate.getTransactionManager(), event -> { })
+                .backfillSeatCounts();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        allocator = new MeetingSeatAllocator(jdbcTemplate, transactionTemplate.getTransactionManager(),
+                event -> publishedEvents.get().add(event));
+    }
+
+    @Test
+    void concurrentJoinsNeverExceedCapacity() throws Exception {
+        long meetingId = createMeeting(10);
+
+        runConcurrently(100, i -> inTransaction(() -> allocator.join(meetingId, (long) i)));
+
+        assertEquals(10, countByStatus(meetingId, REGISTERED));
+        assertEquals(90, countByStatus(meetingId, WAITLISTED));
+        assertSeatCountConsistent(meetingId, 10);
+    }
+
+    @Test
+    void concurrentLeavesPromoteEachWaitlistedUserOnceInOrder() throws Exception {
+        long meetingId = createMeeting(10);
+        for (long userId = 0; userId < 50; userId++) {
+            long id = userId;
+            inTransaction(() -> allocator.join(meetingId, id));
+        }
+        List<Long> waitlist = jdbcTemplate.queryForList(
+                "SELECT user_id FROM meeting_participants WHERE meeting_id = ? AND status_code = ? ORDER BY participant_id",
+                Long.class, meetingId, WAITLISTED);
+        assertEquals(40, waitlist.size());
+
+        // 참가 확정자 10명이 동시에 취소
+        runConcurrently(10, i -> inTransaction(() -> allocator.leave(meetingId, (long) i)));
+
+        List<Long> registered = jdbcTemplate.queryForList(
+                "SELECT user_id FROM meeting_participants WHERE meeting_id = ? AND status_code = ?",
+                Long.class, meetingId, REGISTERED);
+        assertEquals(new HashSet<>(waitlist.subList(0, 10)), new HashSet<>(registered));
+        assertEquals(30, countByStatus(meetingId, WAITLISTED));
+        assertSeatCountConsistent(meetingId, 10);
+    }
+
+    @Test
+    void churnOfJoinsAndLeavesLeavesNoFreeSeatWithWaitlist() throws Exception {
+        int capacity = 5;
+        int usersPerThread = 3;
+        long meetingId = createMeeting(capacity);
+
+        // 스레드마다 서로 다른 사용자를 맡아 참가/취소를 반복
+        runConcurrently(THREADS, thread -> {
+            boolean[] joined = new boolean[usersPerThread];
+            for (int op = 0; op < 100; op++) {
+                int slot = ThreadLocalRandom.current().nextInt(usersPerThread);
+                long userId = (long) thread * usersPerThread + slot;
+                if (joined[slot]) {
+                    assertTrue(inTransaction(() -> allocator.leave(meetingId, userId)));
+                } else {
+                    inTransaction(() -> allocator.join(meetingId, userId));
+                }
+                joined[slot] = !joined[slot];
+            }
+        });
+
+        Integer duplicates = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT user_id FROM meeting_participants WHERE meeting_id = ? " +
+                        "GROUP BY user_id HAVING COUNT(*) > 1) d", Integer.class, meetingId);
+        assertEquals(0, duplicates);
+
+        int seats = countByStatus(meetingId, REGISTERED);
+        assertTrue(seats <= capacity);
+        if (countByStatus(meetingId, WAITLISTED) > 0) {
+            assertEquals(capacity, seats);
+        }
+        assertSeatCountConsistent(meetingId, seats);
+    }
+
+    @Test
+    void concurrentJoinsOfSameUserRegisterOnceAndKeepSeatCount() throws Exception {
+        long meetingId = createMeeting(2);
+
+        List<ParticipantStatus> statuses = Collections.synchronizedList(new ArrayList<>());
+        runConcurrently(THREADS, i -> statuses.add(inTransaction(() -> allocator.join(meetingId, 1L))));
+
+        assertEquals(1, countByStatus(meetingId, REGISTERED));
+        assertTrue(statuses.stream().allMatch(status -> status == ParticipantStatus.REGISTERED));
+        assertSeatCountConsistent(meetingId, 1);
+    }
+
+    @Test
+    void concurrentJoinsOfSameUserOnFullMeetingWaitlistOnce() throws Exception {
+        long meetingId = createMeeting(1);
+        inTransaction(() -> allocator.join(meetingId, 0L));
+
+        runConcurrently(THREADS, i -> inTransaction(() -> allocator.join(meetingId, 1L)));
+
+        assertEquals(1, countByStatus(meetingId, REGISTERED));
+        assertEquals(1, countByStatus(meetingId, WAITLISTED));
+        assertSeatCountConsistent(meetingId, 1);
+    }
+
+    private long createMeeting(int maxParticipants) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO meetings (group_id, max_participants, seat_count) VALUES (1, ?, 0) RETURNING meeting_id",
+                Long.class, maxParticipants);
+    }
+
+    // 트랜잭션 커밋 후 대기자 변경 이벤트를 처리 (@TransactionalEventListener(AFTER_COMMIT)과 같은 순서)
+    private <T> T inTransaction(Supplier<T> action) {
+        publishedEvents.get().clear();
+        T result = transactionTemplate.execute(status -> action.get());
+        for (Object event : List.copyOf(publishedEvents.get())) {
+            if (event instanceof MeetingWaitlistChangedEvent waitlistChanged) {
+                allocator.fillOpenSeats(waitlistChanged.getMeetingId());
+            }
+        }
+        return result;
+    }
+
+    private int countByStatus(long meetingId, short statusCode) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM meeting_participants WHERE meeting_id = ? AND status_code = ?",
+                Integer.class, meetingId, statusCode);
+    }
+
+    private void assertSeatCountConsistent(long meetingId, int expected) {
+        Integer seatCount = jdbcTemplate.queryForObject(
+                "SELECT seat_count FROM meetings WHERE meeting_id = ?", Integer.class, meetingId);
+        assertEquals(expected, seatCount);
+    }
+
+    private void runConcurrently(int tasks, IndexedTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>(tasks);
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+}
@@ -0,0 +1,137 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.dto.MeetingSeriesCreateRequest;
+import com.mogacko.mogacko.dto.MeetingSeriesDto;
+import com.mogacko.mogacko.entity.User;
+import com.mogacko.mogacko.repository.MeetingSeriesRepository;
+import com.mogacko.mogacko.repository.StudyGroupRepository;
+import com.mogacko.mogacko.repository.UserProfileRepository;
+import com.mogacko.mogacko.repository.UserRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 반복 모임 생성이 커밋된 뒤 실행되는 회차 생성이 실제로 DB에 반영되는지 확인합니다.
+ * 커밋 후 리스너는 이미 끝난 트랜잭션 안에서 호출되므로, 회차 생성이 새 트랜잭션으로 실행되지 않으면 아무것도 저장되지 않습니다.
+ */
+class MeetingSeriesServiceTest {
+
+    private static EmbeddedPostgres postgres;
+    private static AnnotationConfigApplicationContext context;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        context = new AnnotationConfigApplicationContext(TestConfig.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        jdbcTemplate.update("INSERT INTO users (user_id, email, role) VALUES (1, 'owner@test.com', 'USER')");
+        jdbcTemplate.update("INSERT INTO interests (interest_id, interest_name) VALUES (1, '코딩')");
+        jdbcTemplate.update("INSERT INTO study_groups (group_id, creator_id, title, interest_id) VALUES (1, 1, 'group', 1)");
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Test
+    void occurrencesInsideHorizonAreSavedAfterSeriesCommits() {
+        User owner = context.getBean(UserRepository.class).findById(1L).orElseThrow();
+        // 매주 4회 중 horizon(14일) 안에 드는 앞의 2회만 생성되어야 함
+        LocalDateTime firstMeetingDate = LocalDateTime.now().plusDays(1).withNano(0);
+        MeetingSeriesCreateRequest request = new MeetingSeriesCreateRequest("주간 모각코", "강남", null, null,
+                firstMeetingDate, 1, firstMeetingDate.toLocalDate().plusWeeks(3), 10, null);
+
+        MeetingSeriesDto series = context.getBean(MeetingSeriesService.class).createSeries(owner, 1L, request);
+
+        assertEquals(4, series.getOccurrenceCount());
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM meetings WHERE series_id = ?", Integer.class, series.getSeriesId()));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM meeting_participants mp JOIN meetings m ON m.meeting_id = mp.meeting_id " +
+                        "WHERE m.series_id = ? AND mp.user_id = 1", Integer.class, series.getSeriesId()));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT materialized_count FROM meeting_series WHERE series_id = ?", Integer.class, series.getSeriesId()));
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaRepositories(basePackageClasses = MeetingSeriesRepository.class)
+    static class TestConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return postgres.getPostgresDatabase();
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan("com.mogacko.mogacko.entity");
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            // 애플리케이션과 같은 테이블/컬럼 이름을 쓰도록 Spring Boot의 이름 전략을 지정
+            factory.setJpaPropertyMap(Map.of(
+                    "hibernate.hbm2ddl.auto", "create",
+                    "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                    "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        MembershipService membershipService() {
+            MembershipService membershipService = Mockito.mock(MembershipService.class);
+            Mockito.when(membershipService.isActiveMember(Mockito.anyLong(), Mockito.anyLong())).thenReturn(true);
+            return membershipService;
+        }
+
+        @Bean
+        MeetingSeriesService meetingSeriesService(MeetingSeriesRepository seriesRepository,
+                                                  StudyGroupRepository groupRepository,
+                                                  UserProfileRepository userProfileRepository,
+                                                  MembershipService membershipService,
+                                                  JdbcTemplate jdbcTemplate,
+                                                  PlatformTransactionManager transactionManager,
+                                                  ApplicationEventPublisher eventPublisher) {
+            return new MeetingSeriesService(seriesRepository, groupRepository, userProfileRepository, membershipService,
+                    jdbcTemplate, transactionManager, eventPublisher, 14);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ParallelReaderTest {
+
+    private static final long QUERY_MILLIS = 300;
+
+    private ThreadPoolTaskExecutor executor;
+    private ParallelReader parallelReader;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.initialize();
+        parallelReader = new ParallelReader(executor, mock(PlatformTransactionManager.class), 2000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void independentQueriesTakeAboutTheSlowestQuery() {
+        long start = System.nanoTime();
+
+        CompletableFuture<String> user = parallelReader.submit(slowQuery("user"));
+        CompletableFuture<String> profile = parallelReader.submit(slowQuery("profile"));
+        CompletableFuture<String> interests = parallelReader.submit(slowQuery("interests"));
+        CompletableFuture<String> statistics = parallelReader.submit(slowQuery("statistics"));
+
+        String result = user.join() + profile.join() + interests.join() + statistics.join();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals("userprofileinterestsstatistics", result);
+        // 순차 실행이면 4 * 300ms, 병렬 실행이면 약 300ms
+        assertTrue(elapsedMillis < QUERY_MILLIS * 2, "elapsed " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void slowQueryTimesOutWithoutWaitingForIt() {
+        CompletableFuture<String> slow = parallelReader.submit(slowQuery("slow"), 50);
+
+        CompletionException e = assertThrows(CompletionException.class, slow::join);
+        assertInstanceOf(TimeoutException.class, e.getCause());
+    }
+
+    @Test
+    void optionalQueryFallsBackOnTimeout() {
+        CompletableFuture<String> slow = parallelReader.submitOrDefault("slow", slowQuery("slow"), "fallback", 50);
+
+        assertEquals("fallback", slow.join());
+    }
+
+    @Test
+    void queriesRunWithCallerSecurityContext() {
+        Authentication authentication = new TestingAuthenticationToken(User.builder().userId(7L).build(), null);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        try {
+            CompletableFuture<Authentication> seen =
+                    parallelReader.submit(() -> SecurityContextHolder.getContext().getAuthentication());
+
+            assertSame(authentication, seen.join());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        // 작업이 끝나면 작업 스레드의 인증 정보는 지워짐
+        assertNull(parallelReader.submit(() -> SecurityContextHolder.getContext().getAuthentication()).join());
+    }
+
+    private Supplier<String> slowQuery(String value) {
+        return () -> {
+            try {
+                Thread.sleep(QUERY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return value;
+        };
+    }
+}
@@ -0,0 +1,171 @@
+package com.mogacko.mogacko.service;
+
+import com.mogacko.mogacko.dto.BulkMemberActionResult;
+import com.mogacko.mogacko.dto.GroupMemberDto;
+import com.mogacko.mogacko.dto.GroupMemberPageDto;
+import com.mogacko.mogacko.dto.KickMemberResult;
+import com.mogacko.mogacko.dto.MemberActionResultDto;
+import com.mogacko.mogacko.entity.GroupMemberStatus;
+import com.mogacko.mogacko.entity.User;
+import com.mogacko.mogacko.repository.GroupMemberRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 멤버 목록 keyset 페이지가 가입일이 없는 멤버까지 빠짐없이, 중복 없이 이어지는지 확인합니다.
+ * 가입일이 없는 멤버가 페이지 경계에 걸리도록 페이지 크기를 작게 잡습니다.
+ * 일괄 처리는 없는 사용자, 멤버가 아닌 사용자, 멤버를 구분해 사용자별 결과를 요청 순서대로 돌려주는지 확인합니다.
+ */
+class StudyGroupServiceTest {
+
+    private static final long GROUP_ID = 1;
+    private static final long BULK_GROUP_ID = 2;
+
+    private static EmbeddedPostgres postgres;
+    private static AnnotationConfigApplicationContext context;
+    private static StudyGroupService studyGroupService;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        context = new AnnotationConfigApplicationContext(TestConfig.class);
+        studyGroupService = context.getBean(StudyGroupService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        jdbcTemplate.update("INSERT INTO interests (interest_id, interest_name) VALUES (1, '코딩')");
+        for (long userId = 1; userId <= 5; userId++) {
+            jdbcTemplate.update("INSERT INTO users (user_id, email, role) VALUES (?, ?, 'USER')", userId, userId + "@test.com");
+        }
+        jdbcTemplate.update("INSERT INTO study_groups (group_id, creator_id, title, interest_id) VALUES (?, 1, 'group', 1)", GROUP_ID);
+
+        // membershipId 2, 4는 가입일 없음
+        String[] joinDates = {"2024-01-01", null, "2024-01-02", null, "2024-01-02"};
+        for (int i = 0; i < joinDates.length; i++) {
+            jdbcTemplate.update("INSERT INTO group_members (membership_id, group_id, user_id, status_code, join_date) " +
+                            "VALUES (?, ?, ?, ?, CAST(? AS DATE))",
+                    i + 1, GROUP_ID, i + 1, GroupMemberStatus.ACTIVE.getCode(), joinDates[i]);
+        }
+
+        // 일괄 처리용 그룹: 2는 활성 멤버, 3은 가입 대기, 4는 멤버 아님
+        jdbcTemplate.update("INSERT INTO study_groups (group_id, creator_id, title, interest_id) VALUES (?, 1, 'bulk', 1)", BULK_GROUP_ID);
+        jdbcTemplate.update("INSERT INTO group_members (membership_id, group_id, user_id, status_code) VALUES (11, ?, 1, ?), (12, ?, 2, ?), (13, ?, 3, ?)",
+                BULK_GROUP_ID, GroupMemberStatus.ACTIVE.getCode(), BULK_GROUP_ID, GroupMemberStatus.ACTIVE.getCode(),
+                BULK_GROUP_ID, GroupMemberStatus.PENDING.getCode());
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Test
+    void ascendingPagesPutUndatedMembersLast() {
+        assertEquals(List.of(1L, 3L, 5L, 2L, 4L), readAllPages(false, 2));
+        assertEquals(List.of(1L, 3L, 5L, 2L, 4L), readAllPages(false, 3));
+    }
+
+    @Test
+    void descendingPagesPutUndatedMembersFirst() {
+        assertEquals(List.of(4L, 2L, 5L, 3L, 1L), readAllPages(true, 2));
+        assertEquals(List.of(4L, 2L, 5L, 3L, 1L), readAllPages(true, 1));
+    }
+
+    @Test
+    void legacyNullCursorIsAccepted() {
+        GroupMemberPageDto page = studyGroupService.getGroupMembers(GROUP_ID, GroupMemberStatus.ACTIVE, false, "null_2", 10);
+
+        assertEquals(List.of(4L), page.getMembers().stream().map(GroupMemberDto::getMembershipId).toList());
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void bulkKickReportsMissingUsersNonMembersAndOwner() {
+        BulkMemberActionResult result = studyGroupService.bulkKickMembers(
+                User.builder().userId(1L).build(), BULK_GROUP_ID, List.of(99L, 1L, 2L, 3L, 4L, 2L));
+
+        assertEquals(List.of(
+                        new MemberActionResultDto(99L, KickMemberResult.USER_NOT_FOUND.name()),
+                        new MemberActionResultDto(1L, KickMemberResult.CANNOT_KICK_OWNER.name()),
+                        new MemberActionResultDto(2L, KickMemberResult.SUCCESS.name()),
+                        new MemberActionResultDto(3L, KickMemberResult.MEMBER_NOT_FOUND.name()),
+                        new MemberActionResultDto(4L, KickMemberResult.MEMBER_NOT_FOUND.name())),
+                result.getResults());
+    }
+
+    // 모든 페이지를 이어서 읽은 membershipId 순서
+    private List<Long> readAllPages(boolean newestFirst, int size) {
+        List<Long> membershipIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            GroupMemberPageDto page = studyGroupService.getGroupMembers(GROUP_ID, GroupMemberStatus.ACTIVE, newestFirst, cursor, size);
+            page.getMembers().forEach(member -> membershipIds.add(member.getMembershipId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return membershipIds;
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaRepositories(basePackageClasses = GroupMemberRepository.class)
+    @Import(StudyGroupService.class)
+    static class TestConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return postgres.getPostgresDatabase();
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan("com.mogacko.mogacko.entity");
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of(
+                    "hibernate.hbm2ddl.auto", "create",
+                    "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                    "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        InterestCatalog interestCatalog() {
+            return Mockito.mock(InterestCatalog.class);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.mogacko.mogacko.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 틱 10ms, 휠 크기 4로 레벨 0은 40ms, 레벨 1은 160ms, 레벨 2는 640ms 구간을 다룹니다.
+ * 그보다 먼 타이머는 상위 레벨에 들어갔다가 만료가 다가오면 하위 레벨로 내려와 실행되어야 합니다.
+ */
+class TimingWheelTest {
+
+    private static final long TICK_MILLIS = 10;
+    private static final int WHEEL_SIZE = 4;
+    // 드라이버 스레드가 깨어나는 지연을 감안한 허용 오차
+    private static final long LATE_TOLERANCE_MILLIS = 200;
+
+    private TimingWheel timingWheel;
+
+    @BeforeEach
+    void setUp() {
+        // 작업을 드라이버 스레드에서 바로 실행
+        timingWheel = new TimingWheel("timing-wheel-test", TICK_MILLIS, WHEEL_SIZE, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timingWheel.close();
+    }
+
+    @Test
+    void timerInOverflowLevelCascadesDownAndFiresOnTime() throws InterruptedException {
+        long expiration = System.currentTimeMillis() + 500;
+        AtomicLong firedAt = new AtomicLong();
+        CountDownLatch fired = new CountDownLatch(1);
+
+        timingWheel.schedule(expiration, () -> {
+            firedAt.set(System.currentTimeMillis());
+            fired.countDown();
+        });
+        assertEquals(1, timingWheel.size());
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        // 버킷은 틱 시작 시각에 만료되므로 최대 한 틱 먼저 실행될 수 있음
+        assertTrue(firedAt.get() >= expiration - TICK_MILLIS, "fired " + (expiration - firedAt.get()) + "ms early");
+        assertTrue(firedAt.get() - expiration < LATE_TOLERANCE_MILLIS, "fired " + (firedAt.get() - expiration) + "ms late");
+        assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    void timersFireInExpirationOrderAcrossLevels() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        // 레벨 0, 1, 2에 걸치도록 등록 순서를 섞음
+        long[] delays = {700, 30, 250, 120, 80, 450, 20};
+        List<Long> firedDelays = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch fired = new CountDownLatch(delays.length);
+
+        for (long delay : delays) {
+            timingWheel.schedule(now + delay, () -> {
+                firedDelays.add(delay);
+                fired.countDown();
+            });
+        }
+
+        assertTrue(fired.await(3, TimeUnit.SECONDS));
+        assertEquals(List.of(20L, 30L, 80L, 120L, 250L, 450L, 700L), firedDelays);
+    }
+
+    @Test
+    void cancelledTimersNeverFire() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        AtomicBoolean cancelledFired = new AtomicBoolean();
+        CountDownLatch sentinel = new CountDownLatch(1);
+
+        TimingWheel.Timeout lowerLevel = timingWheel.schedule(now + 30, () -> cancelledFired.set(true));
+        TimingWheel.Timeout overflowLevel = timingWheel.schedule(now + 300, () -> cancelledFired.set(true));
+        timingWheel.schedule(now + 400, sentinel::countDown);
+        assertEquals(3, timingWheel.size());
+
+        lowerLevel.cancel();
+        overflowLevel.cancel();
+
+        assertTrue(lowerLevel.isCancelled());
+        assertEquals(1, timingWheel.size());
+        assertTrue(sentinel.await(2, TimeUnit.SECONDS));
+        assertFalse(cancelledFired.get());
+        assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    void alreadyExpiredTimerRunsImmediately() {
+        List<String> fired = new ArrayList<>();
+
+        TimingWheel.Timeout timeout = timingWheel.schedule(System.currentTimeMillis() - 1000, () -> fired.add("past"));
+
+        // 휠에 넣지 않고 등록하는 스레드에서 바로 실행됨
+        assertEquals(List.of("past"), fired);
+        assertEquals(0, timingWheel.size());
+        // 이미 실행된 타이머를 취소해도 아무 일도 일어나지 않음
+        timeout.cancel();
+        assertEquals(0, timingWheel.size());
+    }
+}
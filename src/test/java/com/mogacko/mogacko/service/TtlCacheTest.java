@@ -0,0 +1,72 @@
+package com.mogacko.mogacko.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 적재 도중 무효화된 키는 적재 결과(무효화 이전 데이터일 수 있음)를 캐시에 남기지 않아야 합니다.
+ * 무효화는 로더 안에서 호출해 적재와 엇갈리는 상황을 재현합니다.
+ */
+class TtlCacheTest {
+
+    private final TtlCache<Long, String> cache = new TtlCache<>(60_000);
+
+    @Test
+    void loadedValueIsCachedUntilEvicted() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.get(1L, () -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", cache.get(1L, () -> "v" + loads.incrementAndGet()));
+
+        cache.evict(1L);
+        assertEquals("v2", cache.get(1L, () -> "v" + loads.incrementAndGet()));
+    }
+
+    @Test
+    void getDoesNotStoreValueLoadedBeforeEviction() {
+        assertEquals("stale", cache.get(1L, () -> {
+            cache.evict(1L);
+            return "stale";
+        }));
+
+        assertNull(cache.getIfPresent(1L));
+        assertEquals("fresh", cache.get(1L, () -> "fresh"));
+        assertEquals("fresh", cache.getIfPresent(1L));
+    }
+
+    @Test
+    void getAllSkipsOnlyKeysEvictedDuringLoad() {
+        Map<Long, String> result = cache.getAll(List.of(1L, 2L), keys -> {
+            cache.evict(2L);
+            return Map.of(1L, "one", 2L, "stale");
+        });
+
+        assertEquals(Map.of(1L, "one", 2L, "stale"), result);
+        assertEquals("one", cache.getIfPresent(1L));
+        assertNull(cache.getIfPresent(2L));
+    }
+
+    @Test
+    void bulkEvictionDuringLoadSkipsStore() {
+        cache.get(1L, () -> {
+            cache.evictIf(key -> key == 1L);
+            return "stale";
+        });
+
+        assertNull(cache.getIfPresent(1L));
+    }
+
+    @Test
+    void evictionBeforeLoadDoesNotBlockLaterLoads() {
+        cache.evict(1L);
+        cache.evictExpired();
+
+        assertEquals("value", cache.get(1L, () -> "value"));
+        assertEquals("value", cache.getIfPresent(1L));
+    }
+}